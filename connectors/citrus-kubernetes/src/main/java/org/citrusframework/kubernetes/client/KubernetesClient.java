@@ -58,7 +58,7 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     public KubernetesClient(KubernetesEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new PollingCorrelationManager<>(this::getName, endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -154,6 +154,11 @@ public final class CitrusSettings {
     public static final String MESSAGE_TRACE_DIRECTORY_ENV = "CITRUS_MESSAGE_TRACE_DIRECTORY";
     public static final String MESSAGE_TRACE_DIRECTORY_DEFAULT = "target/citrus-logs/trace/messages";
 
+    /** Max number of characters written to the message trace per message payload, negative value disables the limit */
+    public static final String MESSAGE_TRACE_MAX_PAYLOAD_SIZE_PROPERTY = "citrus.message.trace.max.payload.size";
+    public static final String MESSAGE_TRACE_MAX_PAYLOAD_SIZE_ENV = "CITRUS_MESSAGE_TRACE_MAX_PAYLOAD_SIZE";
+    public static final String MESSAGE_TRACE_MAX_PAYLOAD_SIZE_DEFAULT = "1048576";
+
     /** Default type converter */
     public static final String TYPE_CONVERTER_PROPERTY = "citrus.type.converter";
     public static final String TYPE_CONVERTER_ENV = "CITRUS_TYPE_CONVERTER";
@@ -184,6 +189,36 @@ public final class CitrusSettings {
     public static final String FILE_PATH_CHARSET_PARAMETER_ENV = "CITRUS_FILE_PATH_CHARSET_PARAMETER";
     public static final String FILE_PATH_CHARSET_PARAMETER_DEFAULT = "; charset=";
 
+    /** Executor mode used for asynchronous test action execution, either virtual (thread per task) or pool */
+    public static final String EXECUTOR_MODE_PROPERTY = "citrus.executor.mode";
+    public static final String EXECUTOR_MODE_ENV = "CITRUS_EXECUTOR_MODE";
+    public static final String EXECUTOR_MODE_DEFAULT = "virtual";
+
+    /** Max number of worker threads when executor uses pool mode */
+    public static final String EXECUTOR_POOL_SIZE_PROPERTY = "citrus.executor.pool.size";
+    public static final String EXECUTOR_POOL_SIZE_ENV = "CITRUS_EXECUTOR_POOL_SIZE";
+    public static final String EXECUTOR_POOL_SIZE_DEFAULT = "10";
+
+    /** Max number of correlated objects kept per correlation manager, negative value for unbounded object store */
+    public static final String CORRELATION_STORE_MAX_SIZE_PROPERTY = "citrus.correlation.store.max.size";
+    public static final String CORRELATION_STORE_MAX_SIZE_ENV = "CITRUS_CORRELATION_STORE_MAX_SIZE";
+    public static final String CORRELATION_STORE_MAX_SIZE_DEFAULT = "-1";
+
+    /** Time to live in milliseconds for correlated objects in bounded object store */
+    public static final String CORRELATION_STORE_TIME_TO_LIVE_PROPERTY = "citrus.correlation.store.time.to.live";
+    public static final String CORRELATION_STORE_TIME_TO_LIVE_ENV = "CITRUS_CORRELATION_STORE_TIME_TO_LIVE";
+    public static final String CORRELATION_STORE_TIME_TO_LIVE_DEFAULT = "300000";
+
+    /** Max number of compiled templates kept in the template cache, zero or negative value disables the cache */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "citrus.template.cache.size";
+    public static final String TEMPLATE_CACHE_SIZE_ENV = "CITRUS_TEMPLATE_CACHE_SIZE";
+    public static final String TEMPLATE_CACHE_SIZE_DEFAULT = "1000";
+
+    /** Max overall number of template characters kept in the template cache */
+    public static final String TEMPLATE_CACHE_MAX_WEIGHT_PROPERTY = "citrus.template.cache.max.weight";
+    public static final String TEMPLATE_CACHE_MAX_WEIGHT_ENV = "CITRUS_TEMPLATE_CACHE_MAX_WEIGHT";
+    public static final String TEMPLATE_CACHE_MAX_WEIGHT_DEFAULT = "8388608";
+
     /**
      * Gets set of file name patterns for Groovy test files.
      * @return
@@ -225,6 +260,15 @@ public final class CitrusSettings {
                 System.getenv(MESSAGE_TRACE_DIRECTORY_ENV) : MESSAGE_TRACE_DIRECTORY_DEFAULT);
     }
 
+    /**
+     * Gets the max number of characters written to the message trace per message.
+     * @return
+     */
+    public static int getMessageTraceMaxPayloadSize() {
+        return Integer.parseInt(System.getProperty(MESSAGE_TRACE_MAX_PAYLOAD_SIZE_PROPERTY,  System.getenv(MESSAGE_TRACE_MAX_PAYLOAD_SIZE_ENV) != null ?
+                System.getenv(MESSAGE_TRACE_MAX_PAYLOAD_SIZE_ENV) : MESSAGE_TRACE_MAX_PAYLOAD_SIZE_DEFAULT));
+    }
+
     /**
      * Gets the type converter to use by default.
      * @return
@@ -261,6 +305,55 @@ public final class CitrusSettings {
                 System.getenv(LOG_MASK_VALUE_ENV) : LOG_MASK_VALUE_DEFAULT);
     }
 
+    /**
+     * Gets the executor mode used for asynchronous test action execution.
+     * @return
+     */
+    public static String getExecutorMode() {
+        return System.getProperty(EXECUTOR_MODE_PROPERTY,  System.getenv(EXECUTOR_MODE_ENV) != null ?
+                System.getenv(EXECUTOR_MODE_ENV) : EXECUTOR_MODE_DEFAULT);
+    }
+
+    /**
+     * Gets the max number of worker threads when executor uses pool mode.
+     * @return
+     */
+    public static int getExecutorPoolSize() {
+        return (int) getNumberSetting(EXECUTOR_POOL_SIZE_PROPERTY, EXECUTOR_POOL_SIZE_ENV, EXECUTOR_POOL_SIZE_DEFAULT);
+    }
+
+    /**
+     * Gets the max number of correlated objects kept per correlation manager. Negative value for unbounded object store.
+     * @return
+     */
+    public static int getCorrelationStoreMaxSize() {
+        return (int) getNumberSetting(CORRELATION_STORE_MAX_SIZE_PROPERTY, CORRELATION_STORE_MAX_SIZE_ENV, CORRELATION_STORE_MAX_SIZE_DEFAULT);
+    }
+
+    /**
+     * Gets the time to live in milliseconds for correlated objects in bounded object store.
+     * @return
+     */
+    public static long getCorrelationStoreTimeToLive() {
+        return getNumberSetting(CORRELATION_STORE_TIME_TO_LIVE_PROPERTY, CORRELATION_STORE_TIME_TO_LIVE_ENV, CORRELATION_STORE_TIME_TO_LIVE_DEFAULT);
+    }
+
+    /**
+     * Gets the max number of compiled templates kept in the template cache.
+     * @return
+     */
+    public static int getTemplateCacheSize() {
+        return (int) getNumberSetting(TEMPLATE_CACHE_SIZE_PROPERTY, TEMPLATE_CACHE_SIZE_ENV, TEMPLATE_CACHE_SIZE_DEFAULT);
+    }
+
+    /**
+     * Gets the max overall number of template characters kept in the template cache.
+     * @return
+     */
+    public static long getTemplateCacheMaxWeight() {
+        return getNumberSetting(TEMPLATE_CACHE_MAX_WEIGHT_PROPERTY, TEMPLATE_CACHE_MAX_WEIGHT_ENV, TEMPLATE_CACHE_MAX_WEIGHT_DEFAULT);
+    }
+
     /**
      * Get the file path charset parameter.
      * @return
@@ -299,4 +392,22 @@ public final class CitrusSettings {
                 return Collections.emptySet();
         }
     }
+
+    /**
+     * Reads numeric setting from system property or environment variable. Invalid values are logged and the
+     * given default value is used instead.
+     * @param property
+     * @param env
+     * @param defaultValue
+     * @return
+     */
+    private static long getNumberSetting(String property, String env, String defaultValue) {
+        String value = System.getProperty(property, System.getenv(env) != null ? System.getenv(env) : defaultValue);
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn(String.format("Invalid numeric value '%s' for setting '%s' - using default value %s", value, property, defaultValue));
+            return Long.parseLong(defaultValue);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import org.citrusframework.CitrusSettings;
@@ -58,9 +59,11 @@ import org.citrusframework.report.TestActionListeners;
 import org.citrusframework.report.TestListeners;
 import org.citrusframework.spi.ReferenceResolver;
 import org.citrusframework.spi.ReferenceResolverAware;
+import org.citrusframework.util.ManagedExecutorService;
 import org.citrusframework.util.TypeConverter;
 import org.citrusframework.validation.MessageValidatorRegistry;
 import org.citrusframework.validation.matcher.ValidationMatcherRegistry;
+import org.citrusframework.variable.CompiledTemplate;
 import org.citrusframework.variable.GlobalVariables;
 import org.citrusframework.variable.SegmentVariableExtractorRegistry;
 import org.citrusframework.variable.VariableExpressionIterator;
@@ -174,6 +177,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     private LogModifier logModifier;
 
+    /**
+     * Executor service shared by test actions running asynchronous tasks.
+     */
+    private ExecutorService executorService;
+
     /**
      * SegmentVariableExtractorRegistry
      */
@@ -399,8 +407,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = CompiledTemplate.compile(str).resolve(this, enableQuoting);
         }
 
         return result;
@@ -788,6 +795,27 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the executor service used to run asynchronous tasks of test actions.
+     * Uses the default managed executor service when no executor has been set.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        if (executorService == null) {
+            return ManagedExecutorService.getDefault();
+        }
+
+        return executorService;
+    }
+
+    /**
+     * Sets the executorService.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
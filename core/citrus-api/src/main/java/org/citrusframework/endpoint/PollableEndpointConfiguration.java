@@ -16,6 +16,9 @@
 
 package org.citrusframework.endpoint;
 
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.message.correlation.CorrelationMetrics;
+
 /**
  * Extends endpoint configuration by adding polling interval settings.
  *
@@ -35,4 +38,31 @@ public interface PollableEndpointConfiguration extends EndpointConfiguration {
      * @param pollingInterval
      */
     void setPollingInterval(long pollingInterval);
+
+    /**
+     * Gets the wait time statistics of correlated find operations on this endpoint. Correlation managers of the
+     * endpoint record their find operations to these metrics. Returns null when the configuration does not provide
+     * endpoint wide metrics.
+     * @return
+     */
+    default CorrelationMetrics getCorrelationMetrics() {
+        return null;
+    }
+
+    /**
+     * Gets the max number of correlated objects kept in the object store of correlation managers on this endpoint.
+     * Negative value uses an unbounded object store.
+     * @return
+     */
+    default int getCorrelationStoreMaxSize() {
+        return CitrusSettings.getCorrelationStoreMaxSize();
+    }
+
+    /**
+     * Gets the time to live in milliseconds for correlated objects when using a bounded object store.
+     * @return
+     */
+    default long getCorrelationStoreTimeToLive() {
+        return CitrusSettings.getCorrelationStoreTimeToLive();
+    }
 }
@@ -18,10 +18,11 @@ package org.citrusframework.functions;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.InvalidFunctionUsageException;
+import org.citrusframework.variable.CompiledTemplate;
 import org.citrusframework.variable.VariableUtils;
 
 /**
- * Utility class for functions.
+ * Utility class for functions. Function resolution in strings is based on compiled templates that are parsed once and cached.
  *
  * @author Christoph Deppisch
  */
@@ -56,65 +57,7 @@ public final class FunctionUtils {
             return stringValue;
         }
 
-        String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
-
-        boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
-
-        int startIndex = 0;
-        int curIndex;
-        int searchIndex;
-
-        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
-            startIndex = 0;
-
-            while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
-                int control = -1;
-                isVarComplete = false;
-
-                curIndex = searchIndex;
-
-                while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
-                        control++;
-                    }
-
-                    if (newString.charAt(curIndex) == ')' || curIndex == newString.length() - 1) {
-                        if (control == 0) {
-                            isVarComplete = true;
-                        } else {
-                            control--;
-                        }
-                    }
-
-                    variableNameBuf.append(newString.charAt(curIndex));
-                    curIndex++;
-                }
-
-                final String value = resolveFunction(variableNameBuf.toString(), context);
-
-                strBuffer.append(newString.substring(startIndex, searchIndex));
-
-                if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
-                } else {
-                    strBuffer.append(value);
-                }
-
-                startIndex = curIndex;
-
-                variableNameBuf = new StringBuffer();
-                isVarComplete = false;
-            }
-
-            strBuffer.append(newString.substring(startIndex));
-            newString = strBuffer.toString();
-
-            strBuffer = new StringBuffer();
-        }
-
-        return newString;
+        return CompiledTemplate.compile(stringValue).resolveFunctions(context, enableQuoting);
     }
 
     /**
@@ -136,8 +79,7 @@ public final class FunctionUtils {
 
         FunctionLibrary library = context.getFunctionRegistry().getLibraryForPrefix(functionPrefix);
 
-        parameterString = VariableUtils.replaceVariablesInString(parameterString, context, false);
-        parameterString = replaceFunctionsInString(parameterString, context);
+        parameterString = CompiledTemplate.compile(parameterString).resolve(context, false);
 
         String value = library.getFunction(function).execute(FunctionParameterHelper.getParameterList(parameterString), context);
 
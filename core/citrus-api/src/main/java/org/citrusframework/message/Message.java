@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.log.LogMessageModifier;
@@ -161,4 +162,18 @@ public interface Message extends Serializable {
      */
     Message setPayload(Object payload);
 
+    /**
+     * Gets parsed representation of the message payload such as a DOM document or a Json tree. The given parser is
+     * invoked to create the representation. Within a {@link ParsedPayloadCache} scope opened on the current thread
+     * the payload is parsed at most once per representation type as long as the payload is not changed.
+     * Callers must not modify the returned representation as it may be shared with other callers in the same scope.
+     * @param type the representation type used as cache key
+     * @param parser creates the representation from this message
+     * @param <T>
+     * @return
+     */
+    default <T> T getParsedPayload(Class<T> type, Function<Message, T> parser) {
+        return ParsedPayloadCache.getParsedPayload(this, type, parser);
+    }
+
 }
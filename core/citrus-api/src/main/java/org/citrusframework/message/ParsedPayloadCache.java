@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.message;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache for parsed message payload representations such as DOM documents or Json trees. The cache is confined to the
+ * current thread and only active within a scope that has been opened with {@link #open()}, e.g. while a receive action
+ * validates the received message. Parsed representations are never shared with other threads and are released as soon as
+ * the scope is closed, so they do not stay alive together with the message in the message store.
+ *
+ * Nested scopes on the same thread share the cache of the outermost scope.
+ *
+ * @since 4.2
+ */
+public final class ParsedPayloadCache implements AutoCloseable {
+
+    /** Cache of the scope opened on the current thread */
+    private static final ThreadLocal<ParsedPayloadCache> CURRENT = new ThreadLocal<>();
+
+    /** Parsed representations by message identity */
+    private final Map<Message, ParsedPayloads> entries = new IdentityHashMap<>(4);
+
+    /** Number of open scopes using this cache */
+    private int scopes = 0;
+
+    private ParsedPayloadCache() {
+    }
+
+    /**
+     * Opens new cache scope on the current thread. Callers must close the scope when done.
+     * @return
+     */
+    public static ParsedPayloadCache open() {
+        ParsedPayloadCache cache = CURRENT.get();
+        if (cache == null) {
+            cache = new ParsedPayloadCache();
+            CURRENT.set(cache);
+        }
+
+        cache.scopes++;
+        return cache;
+    }
+
+    /**
+     * Gets parsed representation of the message payload. Uses the cache of the current scope if any, otherwise the payload
+     * is parsed with the given parser on each call.
+     * @param message the message holding the payload.
+     * @param type the representation type used as cache key.
+     * @param parser creates the representation from the message.
+     * @param <T>
+     * @return
+     */
+    public static <T> T getParsedPayload(Message message, Class<T> type, Function<Message, T> parser) {
+        ParsedPayloadCache cache = CURRENT.get();
+        if (cache == null) {
+            return parser.apply(message);
+        }
+
+        return cache.getOrParse(message, type, parser);
+    }
+
+    private <T> T getOrParse(Message message, Class<T> type, Function<Message, T> parser) {
+        Object source = message.getPayload();
+
+        ParsedPayloads parsedPayloads = entries.get(message);
+        if (parsedPayloads == null || parsedPayloads.source != source) {
+            // payload has changed since last parsing
+            parsedPayloads = new ParsedPayloads(source);
+            entries.put(message, parsedPayloads);
+        }
+
+        Object parsed = parsedPayloads.representations.get(type);
+        if (parsed == null) {
+            parsed = parser.apply(message);
+            if (parsed != null) {
+                parsedPayloads.representations.put(type, parsed);
+            }
+        }
+
+        return type.cast(parsed);
+    }
+
+    @Override
+    public void close() {
+        if (--scopes == 0) {
+            entries.clear();
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Parsed representations of a message payload object.
+     */
+    private static final class ParsedPayloads {
+
+        /** Payload object that the representations have been parsed from */
+        private final Object source;
+
+        /** Parsed representations by type */
+        private final Map<Class<?>, Object> representations = new HashMap<>(4);
+
+        ParsedPayloads(Object source) {
+            this.source = source;
+        }
+    }
+}
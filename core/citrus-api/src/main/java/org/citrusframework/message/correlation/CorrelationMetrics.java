@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.correlation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait time statistics of correlated find operations and stored object gauge on an endpoint. Endpoint configurations hold an instance of
+ * these metrics, so all correlation managers of the endpoint (e.g. producer and consumer) record their find operations
+ * into the same metrics, which are accessible via {@code endpoint.getEndpointConfiguration().getCorrelationMetrics()}.
+ *
+ * @since 4.2
+ */
+public class CorrelationMetrics {
+
+    private final LongAdder findCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /** Object stores of the correlation managers on the endpoint */
+    private final List<ObjectStore<?>> objectStores = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers object store of a correlation manager on the endpoint.
+     * @param objectStore
+     */
+    public void registerStore(ObjectStore<?> objectStore) {
+        objectStores.add(objectStore);
+    }
+
+    /**
+     * Removes object store of a correlation manager on the endpoint.
+     * @param objectStore
+     */
+    public void unregisterStore(ObjectStore<?> objectStore) {
+        objectStores.remove(objectStore);
+    }
+
+    /**
+     * Gets the number of correlated objects currently stored on the endpoint. Stores that do not support counting
+     * their objects are ignored.
+     * @return
+     */
+    public long getStoredObjectCount() {
+        return objectStores.stream()
+                .mapToInt(ObjectStore::size)
+                .filter(size -> size > 0)
+                .sum();
+    }
+
+    /**
+     * Records a find operation with the time spent waiting for the correlated object.
+     * @param waitTime
+     * @param timedOut
+     */
+    public void recordFind(long waitTime, boolean timedOut) {
+        findCount.increment();
+        totalWaitTime.add(waitTime);
+        maxWaitTime.accumulateAndGet(waitTime, Math::max);
+
+        if (timedOut) {
+            timeoutCount.increment();
+        }
+    }
+
+    /**
+     * Gets the number of find operations.
+     * @return
+     */
+    public long getFindCount() {
+        return findCount.sum();
+    }
+
+    /**
+     * Gets the number of find operations that did not find the correlated object in time.
+     * @return
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Gets the overall time in milliseconds that find operations spent waiting for correlated objects.
+     * @return
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.sum();
+    }
+
+    /**
+     * Gets the average time in milliseconds that find operations spent waiting for correlated objects.
+     * @return
+     */
+    public long getAverageWaitTime() {
+        long count = findCount.sum();
+        return count > 0 ? totalWaitTime.sum() / count : 0L;
+    }
+
+    /**
+     * Gets the max time in milliseconds that a find operation spent waiting for correlated objects.
+     * @return
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("finds=%s, timeouts=%s, avgWaitTime=%sms, maxWaitTime=%sms, storedObjects=%s",
+                getFindCount(), getTimeoutCount(), getAverageWaitTime(), getMaxWaitTime(), getStoredObjectCount());
+    }
+}
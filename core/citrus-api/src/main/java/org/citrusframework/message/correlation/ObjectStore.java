@@ -37,4 +37,12 @@ public interface ObjectStore<T> {
      * @return
      */
     T remove(String correlationKey);
+
+    /**
+     * Gets the number of stored objects. Returns -1 when the store does not support counting its objects.
+     * @return
+     */
+    default int size() {
+        return -1;
+    }
 }
@@ -20,15 +20,22 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.citrusframework.TestResult;
 
 /**
  * Multiple {@link org.citrusframework.TestResult} instances combined to a {@link TestResults}.
  *
+ * Results are recorded in a concurrent append only log, so recording never blocks on a shared lock and results are kept in
+ * insertion order without sorting. Success, failure and skip counters are maintained incrementally when a result is added,
+ * so summary queries do not iterate the results.
+ *
  * @author Christoph Deppisch
  */
 public class TestResults {
@@ -39,17 +46,23 @@ public class TestResults {
     private static final DecimalFormat decFormat = new DecimalFormat("0.0");
     private static final String ZERO_PERCENTAGE = "0.0";
 
-    /** Collected test results */
-    private final Set<TestResult> results = Collections.synchronizedSet(new LinkedHashSet<>());
+    /** Collected test results in insertion order */
+    private final Queue<TestResult> results = new ConcurrentLinkedQueue<>();
+
+    /** Identity of collected results, prevents adding the same result twice */
+    private final Set<TestResult> recorded = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /** Result counters, total amount is the sum of all counters */
+    private final LongAdder success = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
 
     /**
-     * Provides access to results as list generated from synchronized result list.
+     * Provides access to results as list in insertion order.
      * @return
      */
     public List<TestResult> asList() {
-        List<TestResult> results = new ArrayList<>();
-        doWithResults(results::add);
-        return results;
+        return new ArrayList<>(results);
     }
 
     static {
@@ -64,37 +77,55 @@ public class TestResults {
      * @return
      */
     public boolean addResult(TestResult result) {
-        return results.add(result);
+        if (!recorded.add(result)) {
+            return false;
+        }
+
+        results.add(result);
+
+        if (result.isSuccess()) {
+            success.increment();
+        } else if (result.isFailed()) {
+            failed.increment();
+        } else if (result.isSkipped()) {
+            skipped.increment();
+        }
+
+        return true;
     }
 
     /**
-     * Provides synchronized access to all test results in iteration.
+     * Provides access to all test results in insertion order. Iteration works on the append only result log and does not
+     * block concurrent result recording. Results added during iteration may or may not be visible to the callback.
      * @param callback
      */
     public void doWithResults(ResultCallback callback) {
-        synchronized (results) {
-            for (TestResult result : results) {
-                callback.doWithResult(result);
-            }
+        for (TestResult result : results) {
+            callback.doWithResult(result);
         }
     }
 
+    /**
+     * Creates a snapshot of the current result counters. Reporters should use the snapshot in order to get
+     * consistent numbers and percentages for a summary. The total amount is derived from the category counters, so
+     * totals and percentages always match. The snapshot is approximate while tests are still completing, because
+     * results added concurrently may not be included yet.
+     * @return
+     */
+    public Snapshot snapshot() {
+        int successCount = success.intValue();
+        int failedCount = failed.intValue();
+        int skippedCount = skipped.intValue();
+
+        return new Snapshot(successCount + failedCount + skippedCount, successCount, failedCount, skippedCount);
+    }
+
     /**
      * Get number of tests in success.
      * @return
      */
     public int getSuccess() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSuccess()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return success.intValue();
     }
 
     /**
@@ -102,7 +133,7 @@ public class TestResults {
      * @return
      */
     public String getSuccessPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return snapshot().getSuccessPercentage();
     }
 
     /**
@@ -110,17 +141,7 @@ public class TestResults {
      * @return
      */
     public int getFailed() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isFailed()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return failed.intValue();
     }
 
     /**
@@ -128,7 +149,7 @@ public class TestResults {
      * @return
      */
     public String getFailedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return snapshot().getFailedPercentage();
     }
 
     /**
@@ -136,17 +157,7 @@ public class TestResults {
      * @return
      */
     public int getSkipped() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSkipped()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return skipped.intValue();
     }
 
     /**
@@ -154,7 +165,7 @@ public class TestResults {
      * @return
      */
     public String getSkippedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSkipped() / (results.size())*100) : ZERO_PERCENTAGE;
+        return snapshot().getSkippedPercentage();
     }
 
     /**
@@ -173,6 +184,85 @@ public class TestResults {
      * @return
      */
     public int getSize() {
-        return results.size();
+        return snapshot().getSize();
+    }
+
+    private static String formatPercentage(double value) {
+        synchronized (decFormat) {
+            return decFormat.format(value);
+        }
+    }
+
+    /**
+     * Immutable snapshot of test result counters.
+     */
+    public static final class Snapshot {
+        private final int size;
+        private final int success;
+        private final int failed;
+        private final int skipped;
+
+        private Snapshot(int size, int success, int failed, int skipped) {
+            this.size = size;
+            this.success = success;
+            this.failed = failed;
+            this.skipped = skipped;
+        }
+
+        /**
+         * Gets the total amount of test results.
+         * @return
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Get number of tests in success.
+         * @return
+         */
+        public int getSuccess() {
+            return success;
+        }
+
+        /**
+         * Get number of tests failed.
+         * @return
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Get number of skipped tests.
+         * @return
+         */
+        public int getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * Calculates percentage of success tests.
+         * @return
+         */
+        public String getSuccessPercentage() {
+            return size > 0 ? formatPercentage((double) success / (failed + success) * 100) : ZERO_PERCENTAGE;
+        }
+
+        /**
+         * Calculates percentage of failed tests.
+         * @return
+         */
+        public String getFailedPercentage() {
+            return size > 0 ? formatPercentage((double) failed / (failed + success) * 100) : ZERO_PERCENTAGE;
+        }
+
+        /**
+         * Calculates percentage of skipped tests.
+         * @return
+         */
+        public String getSkippedPercentage() {
+            return size > 0 ? formatPercentage((double) skipped / size * 100) : ZERO_PERCENTAGE;
+        }
     }
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.spi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregated index of type resolver resources. The index is generated at build time and lists all resource files
+ * below the included resource paths (e.g. META-INF/citrus) together with their properties. Each classpath root
+ * (directory or archive) provides its own index file at {@link #INDEX_RESOURCE_PATH}.
+ * <p>
+ * The {@link ResourcePathTypeResolver} uses the index in order to avoid classpath scans. A lookup is served from the index
+ * only when every classpath root that contains the requested resource path provides an index. Otherwise, the resolver
+ * falls back to scanning the classpath.
+ * <p>
+ * Index file content uses the resource path and property name as key:
+ * <pre>
+ * META-INF/citrus/function/std#type=org.citrusframework.functions.DefaultFunctionLibrary
+ * </pre>
+ * <p>
+ * Archives bundling several modules (e.g. shaded jars) keep only one of the module index files. Such archives need a
+ * merged index that is generated for the final archive with {@link #generateArchive(Path, String...)}. The merged
+ * index is marked with {@link #MERGED_INDEX_PROPERTY}, so the resolver is able to ignore module index files that have
+ * been copied into a shaded archive.
+ *
+ * @since 4.2
+ */
+public final class ResourcePathTypeIndex {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ResourcePathTypeIndex.class);
+
+    /** Location of the index file in each classpath root */
+    public static final String INDEX_RESOURCE_PATH = "META-INF/citrus-types.index";
+
+    /** Resource path included in the index by default */
+    public static final String DEFAULT_INCLUDE_PATH = "META-INF/citrus";
+
+    /** Index property marking an index that has been generated for the whole content of an archive */
+    public static final String MERGED_INDEX_PROPERTY = "citrus.types.index.merged";
+
+    /** Separates resource path and property name in index keys */
+    private static final char PROPERTY_SEPARATOR = '#';
+
+    /** Indexed resources and their properties per classpath root */
+    private final Map<String, Map<String, Properties>> resourcesByRoot;
+
+    /** Classpath roots providing a merged index */
+    private final Set<String> mergedRoots;
+
+    private ResourcePathTypeIndex(Map<String, Map<String, Properties>> resourcesByRoot, Set<String> mergedRoots) {
+        this.resourcesByRoot = resourcesByRoot;
+        this.mergedRoots = mergedRoots;
+    }
+
+    /**
+     * Loads all index files visible to the given class loaders.
+     * @param classLoaders
+     * @return
+     */
+    public static ResourcePathTypeIndex load(Collection<ClassLoader> classLoaders) {
+        Map<String, Map<String, Properties>> resourcesByRoot = new LinkedHashMap<>();
+        Set<String> mergedRoots = new LinkedHashSet<>();
+
+        for (URL url : getResources(INDEX_RESOURCE_PATH, classLoaders)) {
+            String root = toRoot(url, INDEX_RESOURCE_PATH);
+            if (resourcesByRoot.containsKey(root)) {
+                continue;
+            }
+
+            Properties index = new Properties();
+            try (InputStream in = url.openStream()) {
+                index.load(in);
+            } catch (IOException e) {
+                logger.warn(String.format("Failed to read type resolver index '%s'", url), e);
+                continue;
+            }
+
+            if (Boolean.parseBoolean(index.getProperty(MERGED_INDEX_PROPERTY))) {
+                mergedRoots.add(root);
+            }
+
+            Map<String, Properties> resources = new LinkedHashMap<>();
+            for (String key : index.stringPropertyNames()) {
+                if (key.equals(MERGED_INDEX_PROPERTY)) {
+                    continue;
+                }
+
+                int separator = key.lastIndexOf(PROPERTY_SEPARATOR);
+                if (separator <= 0) {
+                    logger.warn(String.format("Skip invalid type resolver index entry '%s' in '%s'", key, url));
+                    continue;
+                }
+
+                resources.computeIfAbsent(key.substring(0, separator), k -> new Properties())
+                        .setProperty(key.substring(separator + 1), index.getProperty(key));
+            }
+
+            logger.debug("Loaded type resolver index with {} resources from: {}", resources.size(), url);
+            resourcesByRoot.put(root, resources);
+        }
+
+        return new ResourcePathTypeIndex(resourcesByRoot, mergedRoots);
+    }
+
+    /**
+     * Looks up all indexed resources below the given resource path. Returns empty optional in case the lookup can not be
+     * served from the index, because one of the classpath roots providing the resource path has no index or no indexed
+     * entries for this resource path.
+     * @param path
+     * @param classLoaders
+     * @return indexed resource paths and their properties
+     */
+    public Optional<Map<String, Properties>> lookup(String path, Collection<ClassLoader> classLoaders) {
+        return lookup(path, classLoaders, false);
+    }
+
+    /**
+     * Looks up all indexed resources below the given resource path. When merged index is required the lookup is served
+     * only from classpath roots providing an index generated for the whole archive content.
+     * @param path
+     * @param classLoaders
+     * @param mergedOnly
+     * @return indexed resource paths and their properties
+     */
+    public Optional<Map<String, Properties>> lookup(String path, Collection<ClassLoader> classLoaders, boolean mergedOnly) {
+        if (resourcesByRoot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String directory = path.endsWith("/") ? path : path + "/";
+        Set<String> roots = getResources(directory, classLoaders).stream()
+                .map(url -> toRoot(url, directory))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (roots.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Properties> resources = new LinkedHashMap<>();
+        for (String root : roots) {
+            Map<String, Properties> indexed = resourcesByRoot.get(root);
+            if (indexed == null) {
+                logger.debug("Missing type resolver index for resource path '{}' in: {}", path, root);
+                return Optional.empty();
+            }
+
+            if (mergedOnly && !mergedRoots.contains(root)) {
+                logger.debug("Missing merged type resolver index for resource path '{}' in: {}", path, root);
+                return Optional.empty();
+            }
+
+            List<Map.Entry<String, Properties>> matching = indexed.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(directory))
+                    .toList();
+
+            if (matching.isEmpty()) {
+                logger.debug("Outdated type resolver index for resource path '{}' in: {}", path, root);
+                return Optional.empty();
+            }
+
+            matching.forEach(entry -> resources.putIfAbsent(entry.getKey(), entry.getValue()));
+        }
+
+        return Optional.of(resources);
+    }
+
+    /**
+     * Checks if any index has been loaded.
+     * @return
+     */
+    public boolean isEmpty() {
+        return resourcesByRoot.isEmpty();
+    }
+
+    /**
+     * Generates the index file for the given output directory (e.g. target/classes). The index includes all resource files
+     * below the default include path.
+     * @param outputDirectory
+     * @return the generated index file
+     * @throws IOException
+     */
+    public static Path generate(Path outputDirectory) throws IOException {
+        return generate(outputDirectory, DEFAULT_INCLUDE_PATH);
+    }
+
+    /**
+     * Generates the index file for the given output directory (e.g. target/classes). The index includes all resource files
+     * below the given include paths.
+     * @param outputDirectory
+     * @param includePaths
+     * @return the generated index file
+     * @throws IOException
+     */
+    public static Path generate(Path outputDirectory, String... includePaths) throws IOException {
+        return write(outputDirectory, false, includePaths);
+    }
+
+    /**
+     * Generates the merged index for the given archive (e.g. a shaded jar bundling several modules). The index includes
+     * all resource files in the archive below the given include paths and replaces any module index file that has been
+     * copied into the archive.
+     * @param archive
+     * @param includePaths
+     * @return the archive holding the generated index
+     * @throws IOException
+     */
+    public static Path generateArchive(Path archive, String... includePaths) throws IOException {
+        try (FileSystem fileSystem = FileSystems.newFileSystem(archive)) {
+            write(fileSystem.getPath("/"), true, includePaths);
+        }
+
+        return archive;
+    }
+
+    /**
+     * Generates the index for the given directory or archive file. Used by the build in order to generate the index
+     * for a module's output directory.
+     * @param args output directory or archive file followed by optional include paths
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Missing output directory or archive to generate the type index for");
+        }
+
+        Path target = Path.of(args[0]);
+        String[] includePaths = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : new String[] { DEFAULT_INCLUDE_PATH };
+
+        if (Files.isRegularFile(target)) {
+            generateArchive(target, includePaths);
+        } else if (Files.isDirectory(target)) {
+            generate(target, includePaths);
+        } else {
+            logger.info("Skip type index generation - missing output directory: {}", target);
+        }
+    }
+
+    /**
+     * Writes the index file to the given root.
+     */
+    private static Path write(Path outputDirectory, boolean merged, String... includePaths) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+
+        for (String includePath : includePaths) {
+            Path directory = outputDirectory.resolve(includePath);
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(directory)) {
+                files = walk.filter(Files::isRegularFile).toList();
+            }
+
+            for (Path file : files) {
+                String resourcePath = outputDirectory.relativize(file).toString().replace('\\', '/');
+                if (resourcePath.equals(INDEX_RESOURCE_PATH)) {
+                    continue;
+                }
+
+                Properties properties = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    properties.load(in);
+                }
+
+                for (String property : properties.stringPropertyNames()) {
+                    entries.put(resourcePath + PROPERTY_SEPARATOR + property, properties.getProperty(property));
+                }
+            }
+        }
+
+        Path indexFile = outputDirectory.resolve(INDEX_RESOURCE_PATH);
+        Files.createDirectories(indexFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.ISO_8859_1)) {
+            writer.write("# Citrus type resolver index - generated at build time");
+            writer.newLine();
+
+            if (merged) {
+                writer.write(toPropertyLine(MERGED_INDEX_PROPERTY, Boolean.TRUE.toString()));
+                writer.newLine();
+            }
+
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writer.write(toPropertyLine(entry.getKey(), entry.getValue()));
+                writer.newLine();
+            }
+        }
+
+        return indexFile;
+    }
+
+    /**
+     * Converts key and value to a properly escaped property file line. Sorted entries written line by line keep the index
+     * content stable across builds.
+     */
+    private static String toPropertyLine(String key, String value) throws IOException {
+        Properties single = new Properties();
+        single.setProperty(key, value);
+
+        StringWriter line = new StringWriter();
+        single.store(line, null);
+
+        return line.toString().lines()
+                .filter(l -> !l.startsWith("#"))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Gets the classpath root of given resource url by removing the resource path.
+     */
+    private static String toRoot(URL url, String resourcePath) {
+        String location = url.toString();
+        if (location.endsWith(resourcePath)) {
+            return location.substring(0, location.length() - resourcePath.length());
+        }
+
+        return location;
+    }
+
+    private static Set<URL> getResources(String path, Collection<ClassLoader> classLoaders) {
+        Set<URL> resources = new LinkedHashSet<>();
+        for (ClassLoader classLoader : classLoaders) {
+            try {
+                Enumeration<URL> urls = classLoader.getResources(path);
+                resources.addAll(Collections.list(urls));
+            } catch (IOException e) {
+                logger.debug("Failed to get resources '{}'", path, e);
+            }
+        }
+        return resources;
+    }
+}
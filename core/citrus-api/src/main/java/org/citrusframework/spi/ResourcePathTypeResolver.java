@@ -12,11 +12,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
@@ -45,6 +48,9 @@ import static org.citrusframework.spi.PropertiesLoader.loadProperties;
  * {@link TypeResolver#DEFAULT_TYPE_PROPERTY}.
  * <p>
  * Users can define custom property names to read instead of the default {@link TypeResolver#DEFAULT_TYPE_PROPERTY}.
+ * <p>
+ * When the classpath provides a build time generated {@link ResourcePathTypeIndex} the resolver serves lookups from the
+ * index and only falls back to classpath scans when the index is missing or incomplete for the requested resource path.
  *
  * @author Christoph Deppisch
  */
@@ -60,6 +66,11 @@ public class ResourcePathTypeResolver implements TypeResolver {
      */
     private static final String INSTANCE = "INSTANCE";
 
+    /**
+     * Build time generated type indexes shared by all resolvers, lazily loaded from classpath per context class loader.
+     */
+    private static final Map<ClassLoader, ResourcePathTypeIndex> TYPE_INDEXES = new WeakHashMap<>();
+
     /**
      * Base path for resources
      */
@@ -136,12 +147,20 @@ public class ResourcePathTypeResolver implements TypeResolver {
     }
 
     /**
-     * Determine the type lookup by performing relevant classpath scans.
+     * Determine the type lookup by reading the type index or by performing relevant classpath scans.
      */
     private Map<String, String> determineTypeLookup(String path, String property, String keyProperty) {
         String fullPath = getFullResourcePath(path);
         Map<String, String> typeLookup = new HashMap<>();
 
+        Optional<Map<String, Properties>> indexed = getTypeIndex().lookup(fullPath, getClassLoaders(), isShadedArchive());
+        if (indexed.isPresent()) {
+            logger.debug("Resolved resources in '{}' from type index", fullPath);
+            indexed.get().forEach((resourcePath, properties) ->
+                    addTypeLookup(typeLookup, Paths.get(resourcePath).getFileName(), properties, property, keyProperty));
+            return typeLookup;
+        }
+
         try {
             Stream.concat(
                             classpathResourceResolver.getResources(fullPath).stream().filter(Objects::nonNull),
@@ -154,22 +173,11 @@ public class ResourcePathTypeResolver implements TypeResolver {
                             return;
                         }
 
-                        if (property.equals(TYPE_PROPERTY_WILDCARD)) {
-                            Properties properties = readAsProperties(fullPath + "/" + fileName);
-                            for (Map.Entry<Object, Object> prop : properties.entrySet()) {
-                                String type = resolveProperty(fullPath + "/" + fileName, prop.getKey().toString());
-                                typeLookup.put(fileName + "." + prop.getKey().toString(), type);
-                            }
-                        } else {
-                            String type = resolveProperty(fullPath + "/" + fileName, property);
-                            if (keyProperty != null) {
-                                typeLookup.put(
-                                        resolveProperty(fullPath + "/" + fileName, keyProperty),
-                                        type);
-                            } else {
-                                typeLookup.put(fileName.toString(), type);
-                            }
+                        if (resourcePath.toString().replace("\\", "/").equals(ResourcePathTypeIndex.INDEX_RESOURCE_PATH)) {
+                            return;
                         }
+
+                        addTypeLookup(typeLookup, fileName, readAsProperties(fullPath + "/" + fileName), property, keyProperty);
                     });
         } catch (IOException e) {
             logger.warn(String.format("Failed to resolve resources in '%s'", fullPath), e);
@@ -178,6 +186,50 @@ public class ResourcePathTypeResolver implements TypeResolver {
         return typeLookup;
     }
 
+    /**
+     * Adds type information from given resource properties to the type lookup.
+     */
+    private void addTypeLookup(Map<String, String> typeLookup, Path fileName, Properties properties,
+                               String property, String keyProperty) {
+        if (property.equals(TYPE_PROPERTY_WILDCARD)) {
+            for (Map.Entry<Object, Object> prop : properties.entrySet()) {
+                typeLookup.put(fileName + "." + prop.getKey().toString(), prop.getValue().toString());
+            }
+        } else {
+            String type = properties.getProperty(property);
+            if (keyProperty != null) {
+                typeLookup.put(properties.getProperty(keyProperty), type);
+            } else {
+                typeLookup.put(fileName.toString(), type);
+            }
+        }
+    }
+
+    /**
+     * Gets the type index for the current context class loader and loads it from classpath on first access.
+     * The index is shared with all other resolvers using the same context class loader.
+     */
+    private ResourcePathTypeIndex getTypeIndex() {
+        Set<ClassLoader> classLoaders = getClassLoaders();
+        synchronized (TYPE_INDEXES) {
+            return TYPE_INDEXES.computeIfAbsent(classLoaders.iterator().next(), classLoader -> ResourcePathTypeIndex.load(classLoaders));
+        }
+    }
+
+    /**
+     * Class loaders used to resolve resources - same as the ones used for classpath scans.
+     */
+    private Set<ClassLoader> getClassLoaders() {
+        Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            classLoaders.add(contextClassLoader);
+        }
+
+        classLoaders.add(ResourcePathTypeResolver.class.getClassLoader());
+        return classLoaders;
+    }
+
     private String toCacheKey(String path, String property, String keyProperty) {
         return new StringBuilder()
                 .append(path)
@@ -188,13 +240,21 @@ public class ResourcePathTypeResolver implements TypeResolver {
                 .toString();
     }
 
-    private Stream<Path> resolveAllFromJar(String path) {
+    /**
+     * Checks if this resolver has been loaded from a shaded archive (e.g. a fat jar) that bundles the citrus-api classes.
+     * Index files of the bundled modules may overwrite each other in such an archive, so only a merged index generated for
+     * the whole archive is used.
+     */
+    private boolean isShadedArchive() {
         String rootAsString = ResourcePathTypeResolver.class.getProtectionDomain().getCodeSource().getLocation().toString();
+        return rootAsString.matches(".*jar(!/)?") &&
+                !rootAsString.replace("\\", "/")
+                        .matches(".*/citrus-api-\\d+\\.\\d+\\.\\d+(-.*)?\\.jar");
+    }
 
+    private Stream<Path> resolveAllFromJar(String path) {
         ClassLoader classLoader = ObjectHelper.assertNotNull(ResourcePathTypeResolver.class.getClassLoader());
-        if (rootAsString.matches(".*jar(!/)?") &&
-            !rootAsString.replace("\\", "/")
-                .matches(".*/citrus-api-\\d+\\.\\d+\\.\\d+(-.*)?\\.jar")) {
+        if (isShadedArchive()) {
             return getZipEntries().stream()
                     .filter(entry -> entry.startsWith(path))
                     .map(classLoader::getResource)
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helper creates executor services for asynchronous test action execution. Uses virtual threads when the Java runtime
+ * supports them (Java 21+) and falls back to platform threads otherwise.
+ *
+ * @since 4.2
+ */
+public class ExecutorHelper {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorHelper.class);
+
+    /** Virtual thread per task executor factory method, null when not supported by the Java runtime */
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = lookupVirtualThreadExecutorFactory();
+
+    private ExecutorHelper() {
+        //prevent instantiation of utility class
+    }
+
+    /**
+     * Checks if the Java runtime supports virtual threads.
+     * @return
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates new executor that starts a new virtual thread for each task. Empty when virtual threads are not supported.
+     * @return
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of((ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Failed to create virtual thread executor - using platform threads instead", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates new executor that runs tasks on virtual threads if supported. Otherwise, uses a cached pool of platform
+     * daemon threads with given thread name prefix.
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        return newVirtualThreadPerTaskExecutor()
+                .orElseGet(() -> Executors.newCachedThreadPool(newThreadFactory(threadNamePrefix)));
+    }
+
+    /**
+     * Creates thread factory for platform daemon threads with given thread name prefix.
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method lookupVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.citrusframework.CitrusSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor service shared by all test actions that run asynchronous tasks (e.g. forked send actions, async containers,
+ * timers and wait conditions). Instead of creating a new thread pool per action execution the tasks run on a managed
+ * set of worker threads.
+ *
+ * In virtual mode each task runs on a new virtual thread when supported by the Java runtime, otherwise worker threads
+ * are taken from a cached thread pool. In pool mode the number of worker threads is bounded and additional tasks are queued.
+ * Tasks submitted from a worker thread of the pool (e.g. a wait condition check inside an async container) run on a separate
+ * unbounded set of worker threads, so tasks blocking on nested tasks do not starve or deadlock the bounded pool.
+ *
+ * The executor keeps track of queued, active and completed tasks.
+ *
+ * @since 4.2
+ */
+public class ManagedExecutorService extends AbstractExecutorService {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ManagedExecutorService.class);
+
+    /** Executor running the task on the current worker thread */
+    private static final ThreadLocal<ManagedExecutorService> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    /** Default executor used by test contexts that have no executor set */
+    private static final ManagedExecutorService DEFAULT = new ManagedExecutorService();
+
+    /** Executor mode */
+    private final Mode mode;
+
+    /** Max number of worker threads in pool mode */
+    private final int poolSize;
+
+    /** Current delegate executor, created on demand */
+    private ExecutorService delegate;
+
+    /** Current delegate executor for tasks submitted from worker threads in pool mode, created on demand */
+    private ExecutorService nestedDelegate;
+
+    /** Delegates released or shut down that may still run tasks */
+    private final List<ExecutorService> released = new ArrayList<>();
+
+    private boolean shutdown = false;
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder active = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public enum Mode {
+        VIRTUAL,
+        POOL
+    }
+
+    /**
+     * Default constructor using mode and pool size from Citrus settings.
+     */
+    public ManagedExecutorService() {
+        this(parseMode(CitrusSettings.getExecutorMode()), CitrusSettings.getExecutorPoolSize());
+    }
+
+    /**
+     * Constructor using executor mode and max pool size.
+     * @param mode
+     * @param poolSize
+     */
+    public ManagedExecutorService(Mode mode, int poolSize) {
+        this.mode = mode;
+
+        if (poolSize < 1) {
+            logger.warn(String.format("Invalid executor pool size %s - using default pool size %s", poolSize, CitrusSettings.EXECUTOR_POOL_SIZE_DEFAULT));
+            this.poolSize = Integer.parseInt(CitrusSettings.EXECUTOR_POOL_SIZE_DEFAULT);
+        } else {
+            this.poolSize = poolSize;
+        }
+    }
+
+    /**
+     * Parses executor mode ignoring case. Unknown modes are logged and virtual mode is used instead.
+     * @param value
+     * @return
+     */
+    public static Mode parseMode(String value) {
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.US));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            logger.warn(String.format("Invalid executor mode '%s' - using default mode %s", value, Mode.VIRTUAL));
+            return Mode.VIRTUAL;
+        }
+    }
+
+    /**
+     * Gets the default executor instance.
+     * @return
+     */
+    public static ManagedExecutorService getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ExecutorService executor = getOrCreateDelegate(mode == Mode.POOL && CURRENT_EXECUTOR.get() == this);
+
+        queued.increment();
+        try {
+            executor.execute(() -> {
+                queued.decrement();
+                active.increment();
+
+                ManagedExecutorService previous = CURRENT_EXECUTOR.get();
+                CURRENT_EXECUTOR.set(this);
+                try {
+                    command.run();
+                } finally {
+                    if (previous == null) {
+                        CURRENT_EXECUTOR.remove();
+                    } else {
+                        CURRENT_EXECUTOR.set(previous);
+                    }
+
+                    active.decrement();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrement();
+            throw e;
+        }
+    }
+
+    private synchronized ExecutorService getOrCreateDelegate(boolean nested) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        if (nested) {
+            if (nestedDelegate == null) {
+                nestedDelegate = ExecutorHelper.newThreadPerTaskExecutor("citrus-executor-nested");
+            }
+
+            return nestedDelegate;
+        }
+
+        if (delegate == null) {
+            if (mode == Mode.POOL) {
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), ExecutorHelper.newThreadFactory("citrus-executor"));
+                pool.allowCoreThreadTimeOut(true);
+                delegate = pool;
+            } else {
+                delegate = ExecutorHelper.newThreadPerTaskExecutor("citrus-executor");
+            }
+        }
+
+        return delegate;
+    }
+
+    /**
+     * Releases the current worker threads once all running tasks have finished. Unlike shutdown the executor
+     * remains usable and creates new worker threads on demand. Usually called at the end of a test suite.
+     */
+    public synchronized void release() {
+        released.removeIf(ExecutorService::isTerminated);
+
+        if (delegate != null) {
+            delegate.shutdown();
+            released.add(delegate);
+            delegate = null;
+        }
+
+        if (nestedDelegate != null) {
+            nestedDelegate.shutdown();
+            released.add(nestedDelegate);
+            nestedDelegate = null;
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        release();
+        released.forEach(ExecutorService::shutdown);
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        release();
+
+        List<Runnable> pending = new ArrayList<>();
+        released.forEach(executor -> pending.addAll(executor.shutdownNow()));
+        queued.add(-pending.size());
+        return pending;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && released.stream().allMatch(ExecutorService::isTerminated);
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        List<ExecutorService> executors;
+        synchronized (this) {
+            executors = new ArrayList<>(released);
+        }
+
+        for (ExecutorService executor : executors) {
+            if (!executor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+
+        return isTerminated();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a worker thread.
+     * @return
+     */
+    public long getQueuedTaskCount() {
+        return queued.sum();
+    }
+
+    /**
+     * Gets the number of currently running tasks.
+     * @return
+     */
+    public long getActiveTaskCount() {
+        return active.sum();
+    }
+
+    /**
+     * Gets the number of completed tasks.
+     * @return
+     */
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Gets the mode.
+     * @return
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the poolSize.
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
@@ -23,7 +23,7 @@ import java.util.stream.Collectors;
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
-import org.citrusframework.functions.FunctionUtils;
+import org.citrusframework.variable.CompiledTemplate;
 import org.citrusframework.variable.VariableUtils;
 
 /**
@@ -78,9 +78,7 @@ public final class ValidationMatcherUtils {
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
         List<String> replacedParams = new ArrayList<>(params.size());
         for (String param : params) {
-            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
-            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
-            replacedParams.add(parsedFunctionsParam);
+            replacedParams.add(CompiledTemplate.compile(param).resolve(context, false));
         }
         return replacedParams;
     }
@@ -0,0 +1,809 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.variable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.InvalidFunctionUsageException;
+import org.citrusframework.exceptions.NoSuchVariableException;
+import org.citrusframework.functions.FunctionLibrary;
+import org.citrusframework.functions.FunctionParameterHelper;
+import org.citrusframework.functions.FunctionUtils;
+
+/**
+ * Template string with dynamic content such as variables and functions. A single lexer parses the template once into a
+ * tree of expression nodes: literal text, variable references, escaped variables (e.g. <code>${//name//}</code>) and
+ * function calls. Function call parameters are expressions themselves, so nested expressions such as
+ * <code>citrus:concat(citrus:upperCase(${a}), 'b')</code> form a tree that is resolved in one pass without scanning the
+ * content again. Compiled templates holding variables or function calls are cached by template string so that subsequent
+ * resolutions of the same template do not need to parse the template again. The cache is bounded by the number of templates
+ * and by the overall length of all cached templates and evicts least recently used templates, so large message payload
+ * templates are cached, too.
+ *
+ * Compiled templates back {@link TestContext#replaceDynamicContentInString(String, boolean)},
+ * {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)} and
+ * {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}. Resolving a template is identical to
+ * resolving variables first and functions on the result afterwards: Variable values and function results that hold
+ * function calls, or variable values that form a function call together with the surrounding template content, are
+ * compiled and resolved through the same expression tree. Escaped variables are never resolved as variable expressions.
+ * Function calls are detected by the prefixes of the registered function libraries, the longest matching prefix wins.
+ *
+ * @since 4.2
+ */
+public final class CompiledTemplate {
+
+    /** Max number of cached templates, least recently used templates are evicted when limit is reached */
+    private static final int MAX_CACHE_SIZE = CitrusSettings.getTemplateCacheSize();
+
+    /** Max overall length of cached templates, least recently used templates are evicted when limit is reached */
+    private static final long MAX_CACHE_WEIGHT = CitrusSettings.getTemplateCacheMaxWeight();
+
+    /** Compiled templates cached by template string in least recently used order, guarded by the cache itself */
+    private static final Map<String, CompiledTemplate> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Overall length of cached templates */
+    private static long cacheWeight;
+
+    /** The raw template string */
+    private final String template;
+
+    /** Template expression without function calls, used to resolve variables only */
+    private final Expression variables;
+
+    /** Template contains characters of a function call in the form of 'prefix:methodName(arguments)' */
+    private final boolean hasFunctionCandidates;
+
+    /** Template expression with function calls for the last used set of function libraries */
+    private volatile FunctionExpression functions;
+
+    private CompiledTemplate(String template) {
+        this.template = template;
+        this.variables = lex(template, 0, template.length(), null);
+        this.hasFunctionCandidates = template.indexOf(':') >= 0 && template.indexOf('(') >= 0 && template.indexOf(')') >= 0;
+    }
+
+    /**
+     * Gets compiled template for given template string. Uses cached template if available. Only templates holding variables or
+     * function calls are cached. Templates exceeding the max cache weight on their own are compiled on demand.
+     * @param template
+     * @return
+     */
+    public static CompiledTemplate compile(String template) {
+        if (MAX_CACHE_SIZE <= 0 || template.length() > MAX_CACHE_WEIGHT) {
+            return new CompiledTemplate(template);
+        }
+
+        CompiledTemplate compiled;
+        synchronized (CACHE) {
+            compiled = CACHE.get(template);
+        }
+
+        if (compiled == null) {
+            compiled = new CompiledTemplate(template);
+
+            if (!compiled.isStatic()) {
+                cache(compiled);
+            }
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Adds compiled template to the cache and evicts least recently used templates until the cache fits its max size
+     * and max weight again.
+     * @param compiled
+     */
+    private static void cache(CompiledTemplate compiled) {
+        synchronized (CACHE) {
+            if (CACHE.put(compiled.template, compiled) == null) {
+                cacheWeight += compiled.template.length();
+            }
+
+            Iterator<CompiledTemplate> eldest = CACHE.values().iterator();
+            while ((CACHE.size() > MAX_CACHE_SIZE || cacheWeight > MAX_CACHE_WEIGHT) && eldest.hasNext()) {
+                cacheWeight -= eldest.next().template.length();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all templates from the cache.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            cacheWeight = 0L;
+        }
+    }
+
+    /**
+     * Resolves variables and functions in this template with given test context.
+     * @param context the test context providing variable values and function libraries.
+     * @param enableQuoting enables quoting of variable values and function results.
+     * @return resolved template content.
+     */
+    public String resolve(TestContext context, boolean enableQuoting) {
+        if (isStatic()) {
+            return template;
+        }
+
+        return getFunctions(context).expression.resolve(context, enableQuoting, enableQuoting, true, false);
+    }
+
+    /**
+     * Resolves variables in this template with given test context. Functions are left untouched.
+     * @param context the test context providing variable values.
+     * @param enableQuoting enables quoting of variable values.
+     * @return template content with resolved variables.
+     */
+    public String resolveVariables(TestContext context, boolean enableQuoting) {
+        if (!variables.hasVariables) {
+            return template;
+        }
+
+        StringBuilder builder = new StringBuilder(template.length() + 16 * variables.nodes.length);
+        variables.appendVariables(builder, context, enableQuoting);
+        return builder.toString();
+    }
+
+    /**
+     * Resolves functions in this template with given test context. Variables outside of functions are left untouched,
+     * variables used as function parameters are resolved when the function is called.
+     * @param context the test context providing function libraries.
+     * @param enableQuoting enables quoting of function results.
+     * @return template content with resolved functions.
+     */
+    public String resolveFunctions(TestContext context, boolean enableQuoting) {
+        if (!hasFunctionCandidates) {
+            return template;
+        }
+
+        return getFunctions(context).expression.resolveFunctions(context, enableQuoting, true);
+    }
+
+    /**
+     * Gets template expression with function calls for the function libraries of given context. Reuses the expression
+     * parsed for the last used set of function libraries.
+     * @param context
+     * @return
+     */
+    private FunctionExpression getFunctions(TestContext context) {
+        List<FunctionLibrary> libraries = context.getFunctionRegistry().getFunctionLibraries();
+
+        FunctionExpression expression = functions;
+        if (expression == null || !expression.isFor(libraries)) {
+            String[] prefixes = libraries.stream()
+                    .map(FunctionLibrary::getPrefix)
+                    .toArray(String[]::new);
+            expression = new FunctionExpression(prefixes, lex(template, 0, template.length(), prefixes));
+            functions = expression;
+        }
+
+        return expression;
+    }
+
+    /**
+     * Checks whether this template has any dynamic content at all, that is variables or function calls
+     * in the form of 'prefix:methodName(arguments)'.
+     * @return
+     */
+    private boolean isStatic() {
+        return !variables.hasVariables && !hasFunctionCandidates;
+    }
+
+    /**
+     * Gets the raw template string.
+     * @return
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Parses given region of the template into an expression. Function calls are only detected when function library
+     * prefixes are given.
+     * @param template
+     * @param from
+     * @param to
+     * @param prefixes
+     * @return
+     */
+    private static Expression lex(String template, int from, int to, String[] prefixes) {
+        List<Node> nodes = new ArrayList<>();
+
+        // function calls are defined as 'prefix:methodName(arguments)'
+        String region = template.substring(from, to);
+        boolean functions = prefixes != null && region.indexOf(':') >= 0 && region.indexOf('(') >= 0 && region.indexOf(')') >= 0;
+
+        int textStart = from;
+        int index = from;
+        while (index < to) {
+            if (isVariableStart(template, index, to)) {
+                addText(nodes, template, textStart, index);
+
+                StringBuilder name = new StringBuilder();
+                int end = findVariableEnd(template, index, to, name);
+                nodes.add(VariableNode.of(name.toString(), template.substring(index, end)));
+
+                index = end;
+                textStart = end;
+                continue;
+            }
+
+            String prefix = functions ? findPrefix(template, index, to, prefixes) : null;
+            if (prefix != null) {
+                addText(nodes, template, textStart, index);
+
+                int end = findFunctionCallEnd(template, index, to);
+                nodes.add(FunctionNode.of(template, index, end, prefix, prefixes));
+
+                index = end;
+                textStart = end;
+                continue;
+            }
+
+            index++;
+        }
+        addText(nodes, template, textStart, to);
+
+        return new Expression(region, prefixes, nodes.toArray(new Node[0]));
+    }
+
+    private static void addText(List<Node> nodes, String template, int from, int to) {
+        if (to > from) {
+            nodes.add(new TextNode(template.substring(from, to)));
+        }
+    }
+
+    private static boolean isVariableStart(String template, int index, int to) {
+        return index + CitrusSettings.VARIABLE_PREFIX.length() <= to && template.startsWith(CitrusSettings.VARIABLE_PREFIX, index);
+    }
+
+    /**
+     * Finds the end of the variable expression starting at given position. Nested variable expressions are part of the
+     * variable name, the variable ends at the matching variable suffix or at the end of the template.
+     * @param template
+     * @param start
+     * @param to
+     * @param name collects the variable name.
+     * @return
+     */
+    private static int findVariableEnd(String template, int start, int to, StringBuilder name) {
+        int control = 0;
+        boolean isComplete = false;
+
+        int curIndex = start + CitrusSettings.VARIABLE_PREFIX.length();
+        while (curIndex < to && !isComplete) {
+            if (isVariableStart(template, curIndex, to)) {
+                control++;
+            }
+
+            if (template.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0) || curIndex + 1 == to) {
+                if (control == 0) {
+                    isComplete = true;
+                } else {
+                    control--;
+                }
+            }
+
+            if (!isComplete) {
+                name.append(template.charAt(curIndex));
+            }
+            curIndex++;
+        }
+
+        return curIndex;
+    }
+
+    /**
+     * Finds the longest function library prefix starting at given position.
+     * @param template
+     * @param index
+     * @param to
+     * @param prefixes
+     * @return the prefix or null when no prefix matches.
+     */
+    private static String findPrefix(String template, int index, int to, String[] prefixes) {
+        String found = null;
+        for (String prefix : prefixes) {
+            if (!prefix.isEmpty() && index + prefix.length() <= to && template.startsWith(prefix, index)
+                    && (found == null || prefix.length() > found.length())) {
+                found = prefix;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Finds the end of the function call starting at given position. The function call ends with the closing parenthesis
+     * matching the first opening parenthesis or at the end of the template. Variable expressions are skipped, so parentheses
+     * in variable values never change the function call boundaries.
+     * @param template
+     * @param start
+     * @param to
+     * @return
+     */
+    private static int findFunctionCallEnd(String template, int start, int to) {
+        int control = -1;
+        boolean isComplete = false;
+
+        int curIndex = start;
+        while (curIndex < to && !isComplete) {
+            if (isVariableStart(template, curIndex, to)) {
+                curIndex = findVariableEnd(template, curIndex, to, new StringBuilder());
+                continue;
+            }
+
+            char current = template.charAt(curIndex);
+            if (current == '(') {
+                control++;
+            }
+
+            if (current == ')' || curIndex == to - 1) {
+                if (control == 0) {
+                    isComplete = true;
+                } else {
+                    control--;
+                }
+            }
+
+            curIndex++;
+        }
+
+        return curIndex;
+    }
+
+    /**
+     * Checks if prefix occurs in content overlapping the given region.
+     * @param content
+     * @param start
+     * @param end
+     * @param prefix
+     * @return
+     */
+    private static boolean containsPrefix(CharSequence content, int start, int end, String prefix) {
+        if (prefix.isEmpty()) {
+            return false;
+        }
+
+        int from = Math.max(0, start - prefix.length() + 1);
+        int to = Math.min(content.length(), end + prefix.length() - 1);
+
+        for (int index = from; index + prefix.length() <= to; index++) {
+            if (content.subSequence(index, index + prefix.length()).toString().equals(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String quote(String value, boolean enableQuoting) {
+        return enableQuoting ? "'" + value + "'" : value;
+    }
+
+    /**
+     * Template expression with function calls parsed for a set of function library prefixes.
+     */
+    private static final class FunctionExpression {
+        private final String[] prefixes;
+        private final Expression expression;
+
+        FunctionExpression(String[] prefixes, Expression expression) {
+            this.prefixes = prefixes;
+            this.expression = expression;
+        }
+
+        boolean isFor(List<FunctionLibrary> libraries) {
+            if (libraries.size() != prefixes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < prefixes.length; i++) {
+                if (!prefixes[i].equals(libraries.get(i).getPrefix())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Sequence of expression nodes, either the whole template or the parameters of a function call.
+     */
+    private static final class Expression {
+
+        /** Expression source */
+        private final String source;
+
+        /** Function library prefixes used to detect function calls or null when function calls are not detected */
+        private final String[] prefixes;
+
+        private final Node[] nodes;
+
+        /** Expression holds variables on its own level or nested in function calls */
+        private final boolean hasVariables;
+
+        Expression(String source, String[] prefixes, Node[] nodes) {
+            this.source = source;
+            this.prefixes = prefixes;
+            this.nodes = nodes;
+
+            boolean variables = false;
+            for (Node node : nodes) {
+                if (!(node instanceof TextNode)) {
+                    variables |= !(node instanceof FunctionNode) || ((FunctionNode) node).hasVariables();
+                }
+            }
+            this.hasVariables = variables;
+        }
+
+        /**
+         * Resolves variables and functions in this expression.
+         * @param context
+         * @param quoteVariables enables quoting of variable values.
+         * @param quoteFunctions enables quoting of function results.
+         * @param expand enables resolving dynamic content that variable values introduce to the expression.
+         * @param parameters marks function call parameters, variable values holding variable expressions are resolved
+         *                   in function call parameters, too.
+         * @return
+         */
+        String resolve(TestContext context, boolean quoteVariables, boolean quoteFunctions, boolean expand, boolean parameters) {
+            String[] values = resolveValues(context);
+
+            if (expand && introducesDynamicContent(values, quoteVariables, parameters)) {
+                // variable values change the structure of the expression, so compile the variable resolved content
+                StringBuilder content = new StringBuilder(source.length() + 16 * nodes.length);
+                lex(source, 0, source.length(), null).appendVariables(content, context, quoteVariables);
+
+                Expression resolved = lex(content.toString(), 0, content.length(), prefixes);
+                if (parameters) {
+                    return resolved.resolve(context, false, false, false, true);
+                }
+
+                return resolved.resolveFunctions(context, quoteFunctions, false);
+            }
+
+            StringBuilder builder = new StringBuilder(source.length() + 16 * nodes.length);
+            for (int i = 0; i < nodes.length; i++) {
+                if (values[i] != null) {
+                    builder.append(quote(values[i], quoteVariables));
+                } else {
+                    nodes[i].appendResolved(builder, context, quoteVariables, quoteFunctions, expand);
+                }
+            }
+
+            return builder.toString();
+        }
+
+        /**
+         * Resolves functions in this expression and leaves variables outside of function calls untouched.
+         * @param context
+         * @param quoteFunctions
+         * @param expand
+         * @return
+         */
+        String resolveFunctions(TestContext context, boolean quoteFunctions, boolean expand) {
+            StringBuilder builder = new StringBuilder(source.length() + 16 * nodes.length);
+            for (Node node : nodes) {
+                if (node instanceof FunctionNode) {
+                    node.appendResolved(builder, context, false, quoteFunctions, expand);
+                } else {
+                    builder.append(node.getSource());
+                }
+            }
+
+            return builder.toString();
+        }
+
+        /**
+         * Appends this expression with resolved variables. Function calls are kept.
+         * @param builder
+         * @param context
+         * @param quoteVariables
+         */
+        void appendVariables(StringBuilder builder, TestContext context, boolean quoteVariables) {
+            for (Node node : nodes) {
+                node.appendVariables(builder, context, quoteVariables);
+            }
+        }
+
+        /**
+         * Resolves values of variables on this expression level.
+         * @param context
+         * @return values per node, null for nodes that are not variables.
+         */
+        private String[] resolveValues(TestContext context) {
+            String[] values = new String[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                if (nodes[i] instanceof VariableNode) {
+                    values[i] = ((VariableNode) nodes[i]).getValue(context);
+                }
+            }
+
+            return values;
+        }
+
+        /**
+         * Checks if variable values on this expression level introduce function calls, for instance when a variable value
+         * holds a function call or a function library prefix. In function call parameters variable values holding
+         * variable expressions introduce dynamic content, too, so escaped variables are unescaped once more in function
+         * call parameters.
+         * @param values
+         * @param quoteVariables
+         * @param parameters
+         * @return
+         */
+        private boolean introducesDynamicContent(String[] values, boolean quoteVariables, boolean parameters) {
+            if (prefixes == null) {
+                return false;
+            }
+
+            int[] starts = new int[nodes.length];
+            int[] ends = new int[nodes.length];
+            boolean candidates = false;
+
+            for (int i = 0; i < nodes.length; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+
+                if (parameters && values[i].contains(CitrusSettings.VARIABLE_PREFIX)) {
+                    return true;
+                }
+
+                candidates |= !values[i].isEmpty() && !((VariableNode) nodes[i]).escaped;
+            }
+
+            if (!candidates) {
+                return false;
+            }
+
+            StringBuilder content = new StringBuilder(source.length() + 16 * nodes.length);
+            for (int i = 0; i < nodes.length; i++) {
+                starts[i] = content.length();
+                content.append(values[i] != null ? quote(values[i], quoteVariables) : nodes[i].getSource());
+                ends[i] = content.length();
+            }
+
+            for (int i = 0; i < nodes.length; i++) {
+                if (values[i] == null || ((VariableNode) nodes[i]).escaped) {
+                    continue;
+                }
+
+                for (String prefix : prefixes) {
+                    if (containsPrefix(content, starts[i], ends[i], prefix)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Node in a template expression.
+     */
+    private abstract static class Node {
+
+        /** Node source as written in the template */
+        private final String source;
+
+        Node(String source) {
+            this.source = source;
+        }
+
+        String getSource() {
+            return source;
+        }
+
+        /**
+         * Appends the node content with resolved variables and functions.
+         */
+        abstract void appendResolved(StringBuilder builder, TestContext context, boolean quoteVariables, boolean quoteFunctions, boolean expand);
+
+        /**
+         * Appends the node content with resolved variables only.
+         */
+        abstract void appendVariables(StringBuilder builder, TestContext context, boolean quoteVariables);
+    }
+
+    /**
+     * Literal text.
+     */
+    private static final class TextNode extends Node {
+
+        TextNode(String text) {
+            super(text);
+        }
+
+        @Override
+        void appendResolved(StringBuilder builder, TestContext context, boolean quoteVariables, boolean quoteFunctions, boolean expand) {
+            builder.append(getSource());
+        }
+
+        @Override
+        void appendVariables(StringBuilder builder, TestContext context, boolean quoteVariables) {
+            builder.append(getSource());
+        }
+    }
+
+    /**
+     * Variable reference. Escaped variables resolve to the variable expression without escaping.
+     */
+    private static final class VariableNode extends Node {
+
+        private final String name;
+        private final boolean escaped;
+
+        private VariableNode(String name, String expression, boolean escaped) {
+            super(expression);
+            this.name = name;
+            this.escaped = escaped;
+        }
+
+        static VariableNode of(String name, String expression) {
+            if (name.startsWith(CitrusSettings.VARIABLE_ESCAPE) && name.endsWith(CitrusSettings.VARIABLE_ESCAPE)) {
+                return new VariableNode(VariableUtils.cutOffVariablesEscaping(name), expression, true);
+            }
+
+            return new VariableNode(name, expression, false);
+        }
+
+        String getValue(TestContext context) {
+            if (escaped) {
+                return CitrusSettings.VARIABLE_PREFIX + name + CitrusSettings.VARIABLE_SUFFIX;
+            }
+
+            String value = context.getVariable(name);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + name + " could not be found");
+            }
+
+            return value;
+        }
+
+        @Override
+        void appendResolved(StringBuilder builder, TestContext context, boolean quoteVariables, boolean quoteFunctions, boolean expand) {
+            builder.append(quote(getValue(context), quoteVariables));
+        }
+
+        @Override
+        void appendVariables(StringBuilder builder, TestContext context, boolean quoteVariables) {
+            builder.append(quote(getValue(context), quoteVariables));
+        }
+    }
+
+    /**
+     * Function call in the form of 'prefix:methodName(arguments)'. Function name and parameters are parsed with the same
+     * rules as in {@link FunctionUtils#resolveFunction(String, TestContext)}. Parameters are an expression that may hold
+     * variables and nested function calls.
+     */
+    private static final class FunctionNode extends Node {
+
+        private final String prefix;
+
+        /** Function library prefixes used to detect nested function calls */
+        private final String[] prefixes;
+
+        /** Function name or null in case the function call can not be resolved */
+        private final String name;
+
+        /** Function parameters or null in case the function name holds variables */
+        private final Expression parameters;
+
+        /** Function call holds variables */
+        private final boolean hasVariables;
+
+        private FunctionNode(String expression, String prefix, String[] prefixes, String name, Expression parameters) {
+            super(expression);
+            this.prefix = prefix;
+            this.prefixes = prefixes;
+            this.name = name;
+            this.parameters = parameters;
+            this.hasVariables = expression.contains(CitrusSettings.VARIABLE_PREFIX);
+        }
+
+        static FunctionNode of(String template, int start, int end, String prefix, String[] prefixes) {
+            String expression = template.substring(start, end);
+
+            int parameterStart = -1;
+            int index = start + prefix.length();
+            while (index < end) {
+                if (isVariableStart(template, index, end)) {
+                    // function name holds variables, so function call is parsed after variables have been resolved
+                    return new FunctionNode(expression, prefix, prefixes, null, null);
+                }
+
+                if (template.charAt(index) == '(') {
+                    parameterStart = index;
+                    break;
+                }
+
+                index++;
+            }
+
+            if (parameterStart < 0 || template.charAt(end - 1) != ')' || end - 1 <= parameterStart) {
+                return new FunctionNode(expression, prefix, prefixes, null, null);
+            }
+
+            return new FunctionNode(expression, prefix, prefixes, template.substring(start + prefix.length(), parameterStart),
+                    lex(template, parameterStart + 1, end - 1, prefixes));
+        }
+
+        boolean hasVariables() {
+            return hasVariables;
+        }
+
+        @Override
+        void appendResolved(StringBuilder builder, TestContext context, boolean quoteVariables, boolean quoteFunctions, boolean expand) {
+            builder.append(quote(execute(context, quoteVariables, expand), quoteFunctions));
+        }
+
+        @Override
+        void appendVariables(StringBuilder builder, TestContext context, boolean quoteVariables) {
+            builder.append(getSource());
+        }
+
+        /**
+         * Resolves the parameters and executes the function. Function results holding function calls are resolved, too.
+         * @param context
+         * @param quoteVariables enables quoting of variable values in function parameters.
+         * @param expand enables resolving function calls with variables in the function name.
+         * @return
+         */
+        private String execute(TestContext context, boolean quoteVariables, boolean expand) {
+            if (name == null) {
+                StringBuilder expression = new StringBuilder();
+                lex(getSource(), 0, getSource().length(), null).appendVariables(expression, context, quoteVariables);
+
+                if (expand && hasVariables) {
+                    // function name holds variables, so resolve the function call with variable resolved function name
+                    return lex(expression.toString(), 0, expression.length(), prefixes).resolveFunctions(context, false, false);
+                }
+
+                throw new InvalidFunctionUsageException("Unable to resolve function: " + expression);
+            }
+
+            FunctionLibrary library = context.getFunctionRegistry().getLibraryForPrefix(prefix);
+            String parameterString = parameters.resolve(context, quoteVariables, false, true, true);
+            String value = library.getFunction(name).execute(FunctionParameterHelper.getParameterList(parameterString), context);
+
+            if (value == null) {
+                return "";
+            }
+
+            if (value.indexOf(':') >= 0 && value.indexOf('(') >= 0 && value.indexOf(')') >= 0) {
+                // function result may introduce function calls
+                return lex(value, 0, value.length(), prefixes).resolveFunctions(context, false, false);
+            }
+
+            return value;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 
 package org.citrusframework.xml.namespace;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -40,6 +41,14 @@ public class DefaultNamespaceContext implements NamespaceContext {
         this.namespaces.put(prefix, namespaceUri);
     }
 
+    /**
+     * Gets unmodifiable view of all namespace mappings in this context.
+     * @return
+     */
+    public Map<String, String> getNamespaces() {
+        return Collections.unmodifiableMap(namespaces);
+    }
+
     @Override
     public String getNamespaceURI(String prefix) {
         return this.namespaces.get(prefix);
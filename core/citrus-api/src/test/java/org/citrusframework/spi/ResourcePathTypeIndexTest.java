@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.spi;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ResourcePathTypeIndexTest {
+
+    @Test
+    public void testGenerate() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        Files.createDirectories(root.resolve("META-INF/citrus/function"));
+        Files.writeString(root.resolve("META-INF/citrus/function/std"), "type=org.citrusframework.functions.DefaultFunctionLibrary");
+        Files.createDirectories(root.resolve("META-INF/citrus/message/validator"));
+        Files.writeString(root.resolve("META-INF/citrus/message/validator/xml"), "name=xml\ntype=org.foo.Xml Validator");
+
+        Path indexFile = ResourcePathTypeIndex.generate(root);
+        Assert.assertEquals(indexFile, root.resolve(ResourcePathTypeIndex.INDEX_RESOURCE_PATH));
+
+        List<String> lines = Files.readAllLines(indexFile);
+        Assert.assertEquals(lines.size(), 4L);
+        Assert.assertTrue(lines.get(0).startsWith("#"));
+        Assert.assertEquals(lines.get(1), "META-INF/citrus/function/std\\#type=org.citrusframework.functions.DefaultFunctionLibrary");
+        Assert.assertEquals(lines.get(2), "META-INF/citrus/message/validator/xml\\#name=xml");
+        Assert.assertEquals(lines.get(3), "META-INF/citrus/message/validator/xml\\#type=org.foo.Xml Validator");
+
+        // generating again must not pick up the index file itself and must produce identical content
+        ResourcePathTypeIndex.generate(root);
+        Assert.assertEquals(Files.readAllLines(indexFile), lines);
+    }
+
+    @Test
+    public void testLookup() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        Files.createDirectories(root.resolve("META-INF/citrus/function"));
+        Files.writeString(root.resolve("META-INF/citrus/function/std"), "type=org.citrusframework.functions.DefaultFunctionLibrary");
+        Files.createDirectories(root.resolve("META-INF/citrus/engine"));
+        ResourcePathTypeIndex.generate(root);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            ResourcePathTypeIndex index = ResourcePathTypeIndex.load(List.of(classLoader));
+            Assert.assertFalse(index.isEmpty());
+
+            Optional<Map<String, Properties>> resources = index.lookup("META-INF/citrus/function", List.of(classLoader));
+            Assert.assertTrue(resources.isPresent());
+            Assert.assertEquals(resources.get().size(), 1L);
+            Assert.assertEquals(resources.get().get("META-INF/citrus/function/std").getProperty("type"),
+                    "org.citrusframework.functions.DefaultFunctionLibrary");
+
+            // no indexed entries for existing resource path
+            Assert.assertFalse(index.lookup("META-INF/citrus/engine", List.of(classLoader)).isPresent());
+
+            // unknown resource path
+            Assert.assertFalse(index.lookup("META-INF/citrus/unknown", List.of(classLoader)).isPresent());
+
+            // module index is not a merged index
+            Assert.assertFalse(index.lookup("META-INF/citrus/function", List.of(classLoader), true).isPresent());
+        }
+    }
+
+    @Test
+    public void testGenerateArchive() throws IOException {
+        Path archive = Files.createTempFile("citrus-type-index", ".jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(archive))) {
+            jar.putNextEntry(new JarEntry("META-INF/"));
+            jar.putNextEntry(new JarEntry("META-INF/citrus/"));
+            jar.putNextEntry(new JarEntry("META-INF/citrus/function/"));
+            jar.putNextEntry(new JarEntry("META-INF/citrus/function/std"));
+            jar.write("type=org.citrusframework.functions.DefaultFunctionLibrary".getBytes(StandardCharsets.UTF_8));
+            jar.putNextEntry(new JarEntry("META-INF/citrus/function/custom"));
+            jar.write("type=org.foo.CustomFunctionLibrary".getBytes(StandardCharsets.UTF_8));
+            // module index that has been copied into the archive
+            jar.putNextEntry(new JarEntry(ResourcePathTypeIndex.INDEX_RESOURCE_PATH));
+            jar.write("META-INF/citrus/function/custom\\#type=org.foo.CustomFunctionLibrary".getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+
+        ResourcePathTypeIndex.generateArchive(archive, ResourcePathTypeIndex.DEFAULT_INCLUDE_PATH);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { archive.toUri().toURL() }, null)) {
+            ResourcePathTypeIndex index = ResourcePathTypeIndex.load(List.of(classLoader));
+
+            Optional<Map<String, Properties>> resources = index.lookup("META-INF/citrus/function", List.of(classLoader), true);
+            Assert.assertTrue(resources.isPresent());
+            Assert.assertEquals(resources.get().size(), 2L);
+            Assert.assertEquals(resources.get().get("META-INF/citrus/function/std").getProperty("type"),
+                    "org.citrusframework.functions.DefaultFunctionLibrary");
+            Assert.assertEquals(resources.get().get("META-INF/citrus/function/custom").getProperty("type"),
+                    "org.foo.CustomFunctionLibrary");
+        }
+    }
+
+    @Test
+    public void testEmptyIndex() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            ResourcePathTypeIndex index = ResourcePathTypeIndex.load(List.of(classLoader));
+            Assert.assertTrue(index.isEmpty());
+            Assert.assertFalse(index.lookup("META-INF/citrus/function", List.of(classLoader)).isPresent());
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package org.citrusframework.spi;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.citrusframework.spi.mocks.Bar;
 import org.citrusframework.spi.mocks.Foo;
@@ -72,4 +78,82 @@ public class ResourcePathTypeResolverTest {
         Assert.assertNotNull(resolved.get("mocks.singletonFoo"));
         Assert.assertEquals(resolved.get("mocks.singletonFoo").getClass(), SingletonFoo.class);
     }
+
+    @Test
+    public void testResolveAllFromTypeIndex() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        writeResource(root, "META-INF/indexed/foo", "name=fooMock\ntype=" + Foo.class.getName());
+        writeResource(root, "META-INF/indexed/bar", "name=barMock\ntype=" + Bar.class.getName());
+        ResourcePathTypeIndex.generate(root, "META-INF/indexed");
+
+        // resource removed after index generation is still resolved from the index
+        Files.delete(root.resolve("META-INF/indexed/bar"));
+
+        Map<String, Object> resolved = withContextClassLoader(root,
+                () -> new ResourcePathTypeResolver().resolveAll("indexed"));
+        Assert.assertEquals(resolved.size(), 2L);
+        Assert.assertEquals(resolved.get("foo").getClass(), Foo.class);
+        Assert.assertEquals(resolved.get("bar").getClass(), Bar.class);
+
+        resolved = withContextClassLoader(root,
+                () -> new ResourcePathTypeResolver().resolveAll("indexed", TypeResolver.DEFAULT_TYPE_PROPERTY, "name"));
+        Assert.assertEquals(resolved.size(), 2L);
+        Assert.assertEquals(resolved.get("fooMock").getClass(), Foo.class);
+        Assert.assertEquals(resolved.get("barMock").getClass(), Bar.class);
+    }
+
+    @Test
+    public void testShareTypeIndex() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        writeResource(root, "META-INF/shared/foo", "name=fooMock\ntype=" + Foo.class.getName());
+        writeResource(root, "META-INF/shared/bar", "name=barMock\ntype=" + Bar.class.getName());
+        ResourcePathTypeIndex.generate(root, "META-INF/shared");
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("shared").size(), 2L);
+
+            // index already loaded for the class loader is used by other resolvers
+            Files.delete(root.resolve(ResourcePathTypeIndex.INDEX_RESOURCE_PATH));
+            Files.delete(root.resolve("META-INF/shared/bar"));
+
+            Map<String, Object> resolved = new ResourcePathTypeResolver().resolveAll("shared");
+            Assert.assertEquals(resolved.size(), 2L);
+            Assert.assertEquals(resolved.get("bar").getClass(), Bar.class);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    public void testResolveAllWithIncompleteTypeIndex() throws IOException {
+        Path root = Files.createTempDirectory("citrus-type-index");
+        writeResource(root, "META-INF/mocks/foo", "name=fooMock\ntype=" + Foo.class.getName());
+        ResourcePathTypeIndex.generate(root, "META-INF/mocks");
+
+        // test classes provide the same resource path without index - must fall back to classpath scan
+        Map<String, Object> resolved = withContextClassLoader(root,
+                () -> new ResourcePathTypeResolver().resolveAll("mocks"));
+        Assert.assertEquals(resolved.size(), 3L);
+        Assert.assertEquals(resolved.get("foo").getClass(), Foo.class);
+        Assert.assertEquals(resolved.get("bar").getClass(), Bar.class);
+        Assert.assertEquals(resolved.get("singletonFoo").getClass(), SingletonFoo.class);
+    }
+
+    private static void writeResource(Path root, String resourcePath, String content) throws IOException {
+        Path file = root.resolve(resourcePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private static <T> T withContextClassLoader(Path root, Supplier<T> action) throws IOException {
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            return action.get();
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
 }
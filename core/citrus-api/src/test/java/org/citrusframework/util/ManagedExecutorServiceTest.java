@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ManagedExecutorServiceTest {
+
+    @Test
+    public void shouldBoundWorkersInPoolMode() throws Exception {
+        ManagedExecutorService executor = new ManagedExecutorService(ManagedExecutorService.Mode.POOL, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            Future<?> first = executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+            Future<?> second = executor.submit(() -> "done");
+
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(executor.getActiveTaskCount(), 1L);
+            Assert.assertEquals(executor.getQueuedTaskCount(), 1L);
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(second.get(5, TimeUnit.SECONDS), "done");
+
+            // task counters are updated after the task result has been set on the future
+            awaitCompletedTasks(executor, 2L);
+            Assert.assertEquals(executor.getQueuedTaskCount(), 0L);
+            Assert.assertEquals(executor.getActiveTaskCount(), 0L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCreateNewWorkersAfterRelease() throws Exception {
+        ManagedExecutorService executor = new ManagedExecutorService(ManagedExecutorService.Mode.VIRTUAL, 1);
+
+        try {
+            Assert.assertEquals(executor.submit(() -> "foo").get(5, TimeUnit.SECONDS), "foo");
+
+            executor.release();
+            Assert.assertFalse(executor.isShutdown());
+
+            Assert.assertEquals(executor.submit(() -> "bar").get(5, TimeUnit.SECONDS), "bar");
+            awaitCompletedTasks(executor, 2L);
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.isTerminated());
+    }
+
+    @Test
+    public void shouldRunNestedTasksInPoolMode() throws Exception {
+        ManagedExecutorService executor = new ManagedExecutorService(ManagedExecutorService.Mode.POOL, 1);
+
+        try {
+            // outer task occupies the only pool worker and blocks on the nested task
+            Future<String> outer = executor.submit(() -> executor.submit(() -> "nested").get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(outer.get(10, TimeUnit.SECONDS), "nested");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldParseModeLeniently() {
+        Assert.assertEquals(ManagedExecutorService.parseMode("pool"), ManagedExecutorService.Mode.POOL);
+        Assert.assertEquals(ManagedExecutorService.parseMode(" Virtual "), ManagedExecutorService.Mode.VIRTUAL);
+        Assert.assertEquals(ManagedExecutorService.parseMode("unknown"), ManagedExecutorService.Mode.VIRTUAL);
+        Assert.assertEquals(ManagedExecutorService.parseMode(null), ManagedExecutorService.Mode.VIRTUAL);
+
+        Assert.assertEquals(new ManagedExecutorService(ManagedExecutorService.Mode.POOL, 0).getPoolSize(), 10);
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void shouldRejectTasksAfterShutdown() {
+        ManagedExecutorService executor = new ManagedExecutorService(ManagedExecutorService.Mode.VIRTUAL, 1);
+        executor.shutdown();
+
+        executor.execute(() -> {});
+    }
+
+    private static void awaitCompletedTasks(ManagedExecutorService executor, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (executor.getCompletedTaskCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        Assert.assertEquals(executor.getCompletedTaskCount(), expected);
+    }
+}
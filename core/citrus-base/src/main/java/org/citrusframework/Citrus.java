@@ -104,10 +104,12 @@ public final class Citrus implements TestListenerAware, TestSuiteListenerAware,
                 }
             } catch (Exception e) {
                 citrusContext.getTestSuiteListeners().onFinishFailure(e);
+                citrusContext.getExecutorService().release();
                 throw new AssertionError("After suite failed with errors", e);
             }
         }
 
+        citrusContext.getExecutorService().release();
         citrusContext.getTestSuiteListeners().onFinishSuccess();
     }
 
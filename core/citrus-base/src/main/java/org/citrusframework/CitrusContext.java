@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.citrusframework.annotations.CitrusAnnotations;
@@ -28,6 +29,7 @@ import org.citrusframework.report.*;
 import org.citrusframework.spi.ReferenceRegistry;
 import org.citrusframework.spi.ReferenceResolver;
 import org.citrusframework.spi.SimpleReferenceResolver;
+import org.citrusframework.util.ManagedExecutorService;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.util.TypeConverter;
 import org.citrusframework.validation.DefaultMessageValidatorRegistry;
@@ -69,6 +71,10 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
     private final LogModifier logModifier;
+    private final ManagedExecutorService executorService;
+
+    /** True when executor service has been created by this context and is shut down on close */
+    private final boolean shutdownExecutorService;
 
     private final Set<Class<?>> configurationClasses = new HashSet<>();
 
@@ -96,9 +102,15 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.namespaceContextBuilder = builder.namespaceContextBuilder;
         this.typeConverter = builder.typeConverter;
         this.logModifier = builder.logModifier;
+        this.executorService = Optional.ofNullable(builder.executorService).orElseGet(ManagedExecutorService::new);
+        this.shutdownExecutorService = builder.executorService == null;
 
         this.testContextFactory = builder.testContextFactory;
 
+        if (testContextFactory.getExecutorService() == null) {
+            testContextFactory.setExecutorService(executorService);
+        }
+
         builder.configurationClasses.forEach(this::parseConfiguration);
     }
 
@@ -183,9 +195,15 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     }
 
     /**
-     * Closes the context and all its components.
+     * Closes the context and all its components. Executor services provided by the user (e.g. as Spring bean) are
+     * not shut down as their lifecycle is managed elsewhere, the context only releases their worker threads.
      */
     public void close() {
+        if (shutdownExecutorService) {
+            executorService.shutdown();
+        } else {
+            executorService.release();
+        }
     }
 
     /**
@@ -317,6 +335,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return logModifier;
     }
 
+    /**
+     * Gets the executor service shared by test actions running asynchronous tasks.
+     * @return
+     */
+    public ManagedExecutorService getExecutorService() {
+        return executorService;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -436,6 +462,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = TypeConverter.lookupDefault();
         private LogModifier logModifier = new DefaultLogModifier();
+        private ManagedExecutorService executorService;
 
         private final Set<Class<?>> configurationClasses = new LinkedHashSet<>();
 
@@ -600,6 +627,11 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder executorService(ManagedExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         public Builder loadConfiguration(Class<?> configClass) {
             this.configurationClasses.add(configClass);
             return this;
@@ -18,8 +18,6 @@ package org.citrusframework.actions;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import org.citrusframework.Completable;
@@ -57,8 +55,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
             }
         });
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        finished = executor.submit(() -> {
+        finished = context.getExecutorService().submit(() -> {
             try {
                 doExecuteAsync(context);
             } catch (Exception | Error e) {
@@ -36,6 +36,7 @@ import org.citrusframework.message.MessagePayloadBuilder;
 import org.citrusframework.message.MessagePayloadUtils;
 import org.citrusframework.message.MessageProcessor;
 import org.citrusframework.message.MessageSelectorBuilder;
+import org.citrusframework.message.ParsedPayloadCache;
 import org.citrusframework.message.WithPayloadBuilder;
 import org.citrusframework.message.builder.DefaultPayloadBuilder;
 import org.citrusframework.message.builder.MessageBuilderSupport;
@@ -163,8 +164,10 @@ public class ReceiveMessageAction extends AbstractTestAction {
             throw new CitrusRuntimeException("Failed to receive message - message is not available");
         }
 
-        //validate the message
-        validateMessage(receivedMessage, context);
+        //validate the message, parsed payload representations are shared by all validators and extractors of this action
+        try (ParsedPayloadCache ignored = ParsedPayloadCache.open()) {
+            validateMessage(receivedMessage, context);
+        }
     }
 
     /**
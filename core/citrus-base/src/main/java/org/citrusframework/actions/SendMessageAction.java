@@ -19,8 +19,6 @@ package org.citrusframework.actions;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.Completable;
@@ -154,8 +152,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         if (forkMode) {
             logger.debug("Forking message sending action ...");
 
-            ExecutorService taskExecutor = Executors.newSingleThreadExecutor();
-            taskExecutor.execute(() -> {
+            context.getExecutorService().execute(() -> {
                 try {
                     validateMessage(message, context);
                     messageEndpoint.createProducer().send(message, context);
@@ -17,8 +17,20 @@
 package org.citrusframework.container;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
 
 import org.citrusframework.AbstractTestContainerBuilder;
@@ -27,6 +39,7 @@ import org.citrusframework.TestActionBuilder;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ParallelContainerException;
+import org.citrusframework.util.ExecutorHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,15 +47,25 @@ import org.slf4j.LoggerFactory;
  * Test action will execute nested actions in parallel. Each action is executed in a
  * separate thread. Container joins all threads and waiting for them to end successfully.
  *
+ * By default, actions run on virtual threads when supported by the Java runtime (Java 21+). Otherwise, each action
+ * gets a new platform thread. Users may provide a custom executor service, limit the number of concurrently running
+ * actions and enable fail fast mode that cancels all remaining actions on the first error.
+ *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private final Stack<Thread> threads = new Stack<>();
+    /** Optional executor service running the nested actions, default executor is created per execution */
+    private final ExecutorService executorService;
+
+    /** Max number of concurrently running actions, zero or negative value for no limit */
+    private final int maxConcurrency;
+
+    /** Cancel all remaining actions on first error */
+    private final boolean failFast;
 
-    /** Collect exceptions in list */
-    private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    /** Execution time in milliseconds for each nested action of the last execution */
+    private volatile List<Long> executionTimes = Collections.emptyList();
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(Parallel.class);
@@ -52,23 +75,92 @@ public class Parallel extends AbstractActionContainer {
      */
     public Parallel(Builder builder) {
         super("parallel", builder);
+
+        this.executorService = builder.executorService;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.failFast = builder.failFast;
     }
 
     @Override
     public void doExecute(TestContext context) {
-        for (TestActionBuilder<?> actionBuilder : actions) {
-            final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(ctx -> executeAction(action, ctx), context, exceptions::add));
-            threads.push(t);
-            t.start();
-        }
+        ExecutorService executor = Optional.ofNullable(executorService)
+                .orElseGet(() -> ExecutorHelper.newThreadPerTaskExecutor("parallel"));
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                logger.error("Unable to join thread", e);
+        Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentLinkedQueue<Future<?>> futures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicLongArray durations = new AtomicLongArray(actions.size());
+
+        Consumer<CitrusRuntimeException> exceptionHandler = e -> {
+            if (failed.compareAndSet(false, true)) {
+                exceptions.add(e);
+
+                if (failFast) {
+                    futures.forEach(future -> future.cancel(true));
+                }
+            } else if (!failFast) {
+                exceptions.add(e);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Ignoring error of cancelled parallel test action: " + e.getMessage());
+            }
+        };
+
+        try {
+            for (int i = 0; i < actions.size() && !(failFast && failed.get()); i++) {
+                final TestAction action = actions.get(i).build();
+                final int index = i;
+
+                if (permits != null) {
+                    permits.acquire();
+                }
+
+                FutureTask<Void> task = new FutureTask<>(new ActionRunner(ctx -> {
+                    long started = System.nanoTime();
+                    try {
+                        executeAction(action, ctx);
+                    } finally {
+                        durations.set(index, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                    }
+                }, context, exceptionHandler), null) {
+                    @Override
+                    protected void done() {
+                        if (permits != null) {
+                            permits.release();
+                        }
+                    }
+                };
+
+                futures.add(task);
+                executor.execute(task);
+
+                if (failFast && failed.get()) {
+                    task.cancel(true);
+                }
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    // action was cancelled in fail fast mode
+                } catch (ExecutionException e) {
+                    exceptionHandler.accept(new CitrusRuntimeException(e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new CitrusRuntimeException("Interrupted while waiting for parallel test actions to finish", e);
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new CitrusRuntimeException("Failed to execute parallel test actions", e);
+        } finally {
+            if (executorService == null) {
+                executor.shutdownNow();
             }
+
+            recordExecutionTimes(durations);
         }
 
         if (!exceptions.isEmpty()) {
@@ -80,6 +172,60 @@ public class Parallel extends AbstractActionContainer {
         }
     }
 
+    /**
+     * Saves execution times of nested actions and logs them for reporting.
+     * @param durations
+     */
+    private void recordExecutionTimes(AtomicLongArray durations) {
+        List<Long> times = new ArrayList<>(durations.length());
+        for (int i = 0; i < durations.length(); i++) {
+            times.add(durations.get(i));
+        }
+        executionTimes = Collections.unmodifiableList(times);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Parallel test action execution times (ms): " + times);
+        }
+    }
+
+    @Override
+    public synchronized void setExecutedAction(TestAction action) {
+        super.setExecutedAction(action);
+    }
+
+    /**
+     * Gets the execution time in milliseconds for each nested action of the last execution. Times are given in the
+     * order of nested actions. Actions that have not been executed (e.g. cancelled in fail fast mode) report zero.
+     * @return
+     */
+    public List<Long> getExecutionTimes() {
+        return executionTimes;
+    }
+
+    /**
+     * Gets the executorService.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Gets the maxConcurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the failFast.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -120,6 +266,10 @@ public class Parallel extends AbstractActionContainer {
      */
     public static class Builder extends AbstractTestContainerBuilder<Parallel, Builder> {
 
+        private ExecutorService executorService;
+        private int maxConcurrency = -1;
+        private boolean failFast = false;
+
         /**
          * Fluent API action building entry method used in Java DSL.
          * @return
@@ -128,6 +278,44 @@ public class Parallel extends AbstractActionContainer {
             return new Builder();
         }
 
+        /**
+         * Sets custom executor service running the nested actions. The executor is not shut down by this container.
+         * @param executorService
+         * @return
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Sets the max number of nested actions running at the same time.
+         * @param maxConcurrency
+         * @return
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Enables fail fast mode. Remaining actions get cancelled on the first error.
+         * @param failFast
+         * @return
+         */
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * Enables fail fast mode.
+         * @return
+         */
+        public Builder failFast() {
+            return failFast(true);
+        }
+
         @Override
         public Parallel doBuild() {
             return new Parallel(this);
@@ -17,8 +17,6 @@
 package org.citrusframework.container;
 
 import java.util.TimerTask;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.AbstractTestContainerBuilder;
@@ -64,8 +62,7 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     @Override
     public void doExecute(final TestContext context) {
         if (fork) {
-            ExecutorService taskExecutor = Executors.newSingleThreadExecutor();
-            taskExecutor.execute(() -> configureAndRunTimer(context));
+            context.getExecutorService().execute(() -> configureAndRunTimer(context));
         } else {
             configureAndRunTimer(context);
         }
@@ -19,8 +19,6 @@ package org.citrusframework.container;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -88,15 +86,14 @@ public class Wait extends AbstractTestAction {
                 logger.debug(String.format("Waiting for condition %s", condition.getName()));
             }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
+            Future<Boolean> future = context.getExecutorService().submit(callable);
             long checkStartTime = System.currentTimeMillis();
             try {
                 conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | TimeoutException | ExecutionException e) {
                 logger.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+                future.cancel(true);
             }
-            executor.shutdown();
 
             if (Boolean.TRUE.equals(conditionSatisfied)) {
                 logger.info(condition.getSuccessMessage(context));
@@ -21,6 +21,7 @@ package org.citrusframework.context;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.citrusframework.container.AfterTest;
 import org.citrusframework.container.BeforeTest;
@@ -84,6 +85,8 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private LogModifier logModifier;
 
+    private ExecutorService executorService;
+
     private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
 
     /**
@@ -131,6 +134,7 @@ public class TestContextFactory implements ReferenceResolverAware {
         result.setReferenceResolver(context.getReferenceResolver());
         result.setTypeConverter(context.getTypeConverter());
         result.setLogModifier(context.getLogModifier());
+        result.setExecutorService(context.getExecutorService());
         return result;
     }
 
@@ -166,6 +170,10 @@ public class TestContextFactory implements ReferenceResolverAware {
             context.setLogModifier(logModifier);
         }
 
+        if (executorService != null) {
+            context.setExecutorService(executorService);
+        }
+
         return context;
     }
 
@@ -402,6 +410,22 @@ public class TestContextFactory implements ReferenceResolverAware {
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the executorService.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executorService.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Gets the segmentVariableExtractorRegistry
      * @return
@@ -16,6 +16,9 @@
 
 package org.citrusframework.endpoint;
 
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.message.correlation.CorrelationMetrics;
+
 /**
  * Abstract pollable endpoint configuration adds polling interval settings.
  *
@@ -27,6 +30,15 @@ public class AbstractPollableEndpointConfiguration extends AbstractEndpointConfi
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Max number of correlated objects kept by correlation managers, negative value for unbounded store */
+    private int correlationStoreMaxSize = CitrusSettings.getCorrelationStoreMaxSize();
+
+    /** Time to live in milliseconds for correlated objects in bounded store */
+    private long correlationStoreTimeToLive = CitrusSettings.getCorrelationStoreTimeToLive();
+
+    /** Wait time statistics of correlated find operations on this endpoint */
+    private final CorrelationMetrics correlationMetrics = new CorrelationMetrics();
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
@@ -42,4 +54,36 @@ public class AbstractPollableEndpointConfiguration extends AbstractEndpointConfi
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    @Override
+    public CorrelationMetrics getCorrelationMetrics() {
+        return correlationMetrics;
+    }
+
+    @Override
+    public int getCorrelationStoreMaxSize() {
+        return correlationStoreMaxSize;
+    }
+
+    /**
+     * Sets the max number of correlated objects kept by correlation managers on this endpoint.
+     * Negative value uses an unbounded object store.
+     * @param correlationStoreMaxSize
+     */
+    public void setCorrelationStoreMaxSize(int correlationStoreMaxSize) {
+        this.correlationStoreMaxSize = correlationStoreMaxSize;
+    }
+
+    @Override
+    public long getCorrelationStoreTimeToLive() {
+        return correlationStoreTimeToLive;
+    }
+
+    /**
+     * Sets the time to live in milliseconds for correlated objects in bounded object store.
+     * @param correlationStoreTimeToLive
+     */
+    public void setCorrelationStoreTimeToLive(long correlationStoreTimeToLive) {
+        this.correlationStoreTimeToLive = correlationStoreTimeToLive;
+    }
 }
@@ -33,7 +33,7 @@ public class DirectSyncConsumer extends DirectConsumer implements ReplyProducer
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply channel not set up yet");
+        this.correlationManager = new PollingCorrelationManager<>(this::getName, endpointConfiguration, "Reply channel not set up yet");
     }
 
     @Override
@@ -3,6 +3,7 @@ package org.citrusframework.endpoint.direct;
 import org.citrusframework.endpoint.PollableEndpointConfiguration;
 import org.citrusframework.message.DefaultMessageCorrelator;
 import org.citrusframework.message.MessageCorrelator;
+import org.citrusframework.message.correlation.CorrelationMetrics;
 
 /**
  * @author Christoph Deppisch
@@ -15,6 +16,9 @@ public class DirectSyncEndpointConfiguration extends DirectEndpointConfiguration
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Wait time statistics of correlated find operations on this endpoint */
+    private final CorrelationMetrics correlationMetrics = new CorrelationMetrics();
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -46,4 +50,9 @@ public class DirectSyncEndpointConfiguration extends DirectEndpointConfiguration
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    @Override
+    public CorrelationMetrics getCorrelationMetrics() {
+        return correlationMetrics;
+    }
 }
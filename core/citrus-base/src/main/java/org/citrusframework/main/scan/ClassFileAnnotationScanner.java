@@ -0,0 +1,293 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.main.scan;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Detects test annotations on classes and methods by reading the class file bytecode. Only the constant pool and
+ * the runtime visible annotations of the class and its methods are parsed, so candidate classes are never loaded
+ * or initialized. The superclass hierarchy is followed as long as the respective class files are available.
+ * <p>
+ * Class files are resolved with a lookup function that opens the class file for a given resource name
+ * (e.g. org/sample/MyTest.class). The function returns null for unknown class files and may raise
+ * {@link UncheckedIOException} on read errors. Parsed class files are cached, so shared base classes are read only once.
+ * Scanner is thread safe and may be used by parallel streams.
+ *
+ * @since 4.2
+ */
+public class ClassFileAnnotationScanner {
+
+    /** Class file magic number */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /** Access flag marking compiler generated bridge methods */
+    private static final int ACC_BRIDGE = 0x0040;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /** Type descriptor of the annotation, e.g. Lorg/testng/annotations/Test; */
+    private final String annotationDescriptor;
+
+    /** Whether class level annotation is inherited by subclasses */
+    private final boolean inherited;
+
+    /** Opens class file for given resource name, returns null for unknown class files */
+    private final Function<String, InputStream> classFileLookup;
+
+    /** Parsed class files by class name */
+    private final Map<String, Optional<ClassFileInfo>> classFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using annotation type and class file lookup.
+     * @param annotationType
+     * @param classFileLookup
+     */
+    public ClassFileAnnotationScanner(Class<? extends Annotation> annotationType, Function<String, InputStream> classFileLookup) {
+        this.annotationDescriptor = "L" + annotationType.getName().replace('.', '/') + ";";
+        this.inherited = annotationType.isAnnotationPresent(Inherited.class);
+        this.classFileLookup = classFileLookup;
+    }
+
+    /**
+     * Checks if given class is annotated with the annotation type or has at least one method (also in superclasses)
+     * annotated with the annotation type.
+     * @param className
+     * @return
+     * @throws IOException when the class file of the given class is not available or can not be parsed.
+     */
+    public boolean isAnnotated(String className) throws IOException {
+        ClassFileInfo classFile = getClassFile(className)
+                .orElseThrow(() -> new IOException("Missing class file for class: " + className));
+
+        if (classFile.isAnnotatedClass() || classFile.isAnnotatedMethod()) {
+            return true;
+        }
+
+        String superClassName = classFile.getSuperClassName();
+        while (superClassName != null && !superClassName.startsWith("java.")) {
+            Optional<ClassFileInfo> superClassFile = getClassFile(superClassName);
+            if (superClassFile.isEmpty()) {
+                return false;
+            }
+
+            if (superClassFile.get().isAnnotatedMethod() || (inherited && superClassFile.get().isAnnotatedClass())) {
+                return true;
+            }
+
+            superClassName = superClassFile.get().getSuperClassName();
+        }
+
+        return false;
+    }
+
+    private Optional<ClassFileInfo> getClassFile(String className) throws IOException {
+        Optional<ClassFileInfo> cached = classFiles.get(className);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<ClassFileInfo> classFile;
+        try (InputStream in = classFileLookup.apply(className.replace('.', '/') + ".class")) {
+            classFile = in != null ? Optional.of(parse(in, annotationDescriptor)) : Optional.empty();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        classFiles.putIfAbsent(className, classFile);
+        return classFile;
+    }
+
+    /**
+     * Parse class file and look for given annotation type descriptor on class and method level.
+     * @param classFile
+     * @param annotationDescriptor
+     * @return
+     * @throws IOException
+     */
+    static ClassFileInfo parse(InputStream classFile, String annotationDescriptor) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Invalid class file - magic number mismatch");
+        }
+
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+        boolean descriptorPresent = false;
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> {
+                    utf8[i] = in.readUTF();
+                    descriptorPresent |= annotationDescriptor.equals(utf8[i]);
+                }
+                case 7 -> classNameIndex[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipBytes(2);
+                case 15 -> in.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                case 5, 6 -> {
+                    in.skipBytes(8);
+                    i++; // long and double entries take two constant pool slots
+                }
+                default -> throw new IOException("Invalid class file - unsupported constant pool tag " + tag);
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        in.readUnsignedShort(); // this class
+        int superClass = in.readUnsignedShort();
+        String superClassName = superClass > 0 ? utf8[classNameIndex[superClass]].replace('/', '.') : null;
+
+        if (!descriptorPresent) {
+            // annotation type is not referenced at all - no need to read members
+            return new ClassFileInfo(superClassName, false, false);
+        }
+
+        in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            in.skipBytes(6); // access flags, name and descriptor
+            skipAttributes(in);
+        }
+
+        boolean annotatedMethod = false;
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            int accessFlags = in.readUnsignedShort();
+            in.skipBytes(4); // name and descriptor
+            boolean annotated = hasAnnotation(in, utf8, annotationDescriptor);
+            annotatedMethod |= annotated && (accessFlags & ACC_BRIDGE) == 0;
+        }
+
+        boolean annotatedClass = hasAnnotation(in, utf8, annotationDescriptor);
+        return new ClassFileInfo(superClassName, annotatedClass, annotatedMethod);
+    }
+
+    /**
+     * Reads attributes and checks runtime visible annotations for the given annotation type descriptor.
+     */
+    private static boolean hasAnnotation(DataInputStream in, String[] utf8, String annotationDescriptor) throws IOException {
+        boolean found = false;
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                skipFully(in, length);
+                continue;
+            }
+
+            int annotationCount = in.readUnsignedShort();
+            for (int j = 0; j < annotationCount; j++) {
+                found |= annotationDescriptor.equals(utf8[in.readUnsignedShort()]);
+                skipElementValuePairs(in);
+            }
+        }
+
+        return found;
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            in.skipBytes(2);
+            skipFully(in, in.readInt());
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            in.skipBytes(2); // element name
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> in.skipBytes(2);
+            case 'e' -> in.skipBytes(4);
+            case '@' -> {
+                in.skipBytes(2); // annotation type
+                skipElementValuePairs(in);
+            }
+            case '[' -> {
+                int valueCount = in.readUnsignedShort();
+                for (int i = 0; i < valueCount; i++) {
+                    skipElementValue(in);
+                }
+            }
+            default -> throw new IOException("Invalid class file - unsupported annotation element value tag " + (char) tag);
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Invalid class file - unexpected end of stream");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Relevant information read from a class file.
+     */
+    static final class ClassFileInfo {
+        private final String superClassName;
+        private final boolean annotatedClass;
+        private final boolean annotatedMethod;
+
+        ClassFileInfo(String superClassName, boolean annotatedClass, boolean annotatedMethod) {
+            this.superClassName = superClassName;
+            this.annotatedClass = annotatedClass;
+            this.annotatedMethod = annotatedMethod;
+        }
+
+        String getSuperClassName() {
+            return superClassName;
+        }
+
+        boolean isAnnotatedClass() {
+            return annotatedClass;
+        }
+
+        boolean isAnnotatedMethod() {
+            return annotatedMethod;
+        }
+    }
+}
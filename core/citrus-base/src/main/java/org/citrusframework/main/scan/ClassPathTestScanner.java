@@ -17,23 +17,25 @@
 package org.citrusframework.main.scan;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.citrusframework.TestClass;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.ClasspathResourceResolver;
 import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Scans classpath packages for test classes. Test annotations are detected on bytecode level, so candidate classes are
+ * not loaded and initialized during the scan.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -48,6 +50,12 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     /** Classpath resource resolver */
     private final ClasspathResourceResolver resolver = new ClasspathResourceResolver();
 
+    /** Class loaders used to read class files, captured on the thread creating this scanner */
+    private final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+
+    /** Detects test annotations in class files */
+    private final ClassFileAnnotationScanner classFileScanner;
+
     /**
      * Default constructor using run configuration.
      * @param includes
@@ -55,6 +63,14 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     public ClassPathTestScanner(Class<? extends Annotation> annotationType, String... includes) {
         super(includes);
         this.annotationType = annotationType;
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            classLoaders.add(contextClassLoader);
+        }
+        classLoaders.add(ClassPathTestScanner.class.getClassLoader());
+
+        this.classFileScanner = new ClassFileAnnotationScanner(annotationType, this::openClassFile);
     }
 
     @Override
@@ -62,16 +78,10 @@ public class ClassPathTestScanner extends AbstractTestScanner {
         try {
             Set<Path> resources = resolver.getClasses(packageName);
 
-            List<String> classes = new ArrayList<>();
-            for (Path resource : resources) {
-                String className = String.format("%s.%s", packageName, FileUtils.getBaseName(String.valueOf(resource.getFileName())));
-                if (isIncluded(className)) {
-                    classes.add(className);
-                }
-            }
-
-            return classes.stream()
+            return resources.parallelStream()
+                    .map(resource -> FileUtils.getBaseName(resource.toString().replace('\\', '/')).replace('/', '.'))
                     .distinct()
+                    .filter(this::isIncluded)
                     .map(TestClass::fromString)
                     .collect(Collectors.toList());
         } catch (IOException e) {
@@ -85,21 +95,37 @@ public class ClassPathTestScanner extends AbstractTestScanner {
         }
 
         try {
-            Class<?> clazz = Class.forName(className);
-            if (clazz.isAnnotationPresent(annotationType)) {
-                return true;
-            }
-
-            AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-            ReflectionHelper.doWithMethods(clazz, method -> {
-                if (method.getDeclaredAnnotation(annotationType) != null) {
-                    hasTestMethod.set(true);
-                }
-            });
-            return hasTestMethod.get();
-        } catch (NoClassDefFoundError | ClassNotFoundException e) {
+            return classFileScanner.isAnnotated(className);
+        } catch (IOException e) {
             logger.warn("Unable to access class: " + className);
             return false;
         }
     }
+
+    /**
+     * Opens class file resource with the context class loader captured on scanner creation and falls back to this
+     * scanner's class loader. Class files are read on parallel worker threads, so the worker's own context class loader
+     * must not be used.
+     * @param resourceName
+     * @return
+     */
+    private InputStream openClassFile(String resourceName) {
+        for (ClassLoader classLoader : classLoaders) {
+            InputStream in = classLoader.getResourceAsStream(resourceName);
+            if (in != null) {
+                return in;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the annotationType.
+     *
+     * @return
+     */
+    public Class<? extends Annotation> getAnnotationType() {
+        return annotationType;
+    }
 }
@@ -18,11 +18,15 @@ package org.citrusframework.main.scan;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Enumeration;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 import org.citrusframework.TestClass;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -31,6 +35,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Scans test jar file for test classes in a given package. When a test annotation type is given the scanner reads the
+ * class files in the jar on bytecode level in order to verify that the candidate classes are annotated test classes.
+ * Candidate classes are not loaded during the scan.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -42,29 +50,89 @@ public class JarFileTestScanner extends AbstractTestScanner {
     /** Jar file resource to search in */
     private final File artifact;
 
+    /** Optional test annotation marking test classes and methods */
+    private final Class<? extends Annotation> annotationType;
+
+    /** Class loaders used to read class files not part of the jar, captured on the thread creating this scanner */
+    private final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+
     public JarFileTestScanner(File artifact, String... includes) {
+        this(artifact, null, includes);
+    }
+
+    public JarFileTestScanner(File artifact, Class<? extends Annotation> annotationType, String... includes) {
         super(includes);
         this.artifact = artifact;
+        this.annotationType = annotationType;
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            classLoaders.add(contextClassLoader);
+        }
+        classLoaders.add(JarFileTestScanner.class.getClassLoader());
     }
 
     @Override
     public List<TestClass> findTestsInPackage(String packageToScan) {
-        List<TestClass> testClasses = new ArrayList<>();
-        if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = FileUtils.getBaseName(entry.getName()).replace( "/", "." );
-                    if (packageToScan.replace( ".", "/" ).startsWith(entry.getName()) && isIncluded(className)) {
-                        logger.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(TestClass.fromString(className));
-                    }
+        if (artifact == null || !artifact.isFile()) {
+            return List.of();
+        }
+
+        String packagePath = packageToScan.isEmpty() ? "" : packageToScan.replace(".", "/") + "/";
+        try (JarFile jar = new JarFile(artifact)) {
+            ClassFileAnnotationScanner classFileScanner = annotationType != null ?
+                    new ClassFileAnnotationScanner(annotationType, resourceName -> openClassFile(jar, resourceName)) : null;
+
+            return jar.stream()
+                    .parallel()
+                    .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".class") && entry.getName().startsWith(packagePath))
+                    .filter(entry -> isIncluded(FileUtils.getBaseName(entry.getName()).replace("/", "."), classFileScanner))
+                    .peek(entry -> logger.info("Found test class candidate in test jar file: " + entry.getName()))
+                    .map(entry -> TestClass.fromString(FileUtils.getBaseName(entry.getName()).replace("/", ".")))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+        }
+    }
+
+    private boolean isIncluded(String className, ClassFileAnnotationScanner classFileScanner) {
+        if (!isIncluded(className)) {
+            return false;
+        }
+
+        if (classFileScanner == null) {
+            return true;
+        }
+
+        try {
+            return classFileScanner.isAnnotated(className);
+        } catch (IOException e) {
+            logger.warn("Unable to access class: " + className);
+            return false;
+        }
+    }
+
+    /**
+     * Opens class file from jar file and falls back to the classpath for class files not part of the jar
+     * (e.g. test base classes provided by libraries).
+     */
+    private InputStream openClassFile(JarFile jar, String resourceName) {
+        JarEntry entry = jar.getJarEntry(resourceName);
+        if (entry == null) {
+            for (ClassLoader classLoader : classLoaders) {
+                InputStream in = classLoader.getResourceAsStream(resourceName);
+                if (in != null) {
+                    return in;
                 }
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
             }
+
+            return null;
         }
 
-        return testClasses;
+        try {
+            return jar.getInputStream(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
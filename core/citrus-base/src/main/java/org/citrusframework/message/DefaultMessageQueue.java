@@ -15,9 +15,19 @@
  */
 package org.citrusframework.message;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.citrusframework.message.selector.HeaderEqualityMessageSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +35,15 @@ import org.slf4j.LoggerFactory;
  * Default message queue implementation. Holds queued messages in memory and adds selective consumption of messages
  * according to a message selector implementation.
  *
+ * Selective receivers waiting for a message register themselves with their message selector. Each new message sent to the queue
+ * wakes up the first waiting receiver whose selector accepts the message, so receivers do not need to poll and concurrent receivers
+ * with different selectors are not woken up by messages that they are not interested in. The polling interval is
+ * still used as an upper bound for the time a receiver waits before the queue is scanned again.
+ *
+ * Queued messages are indexed by their header values. Selectors that define header equality conditions (e.g. correlation ids)
+ * look up candidate messages in this index instead of evaluating the selector on each queued message. Other selectors
+ * such as payload matching selectors scan the whole queue.
+ *
  * @author Christoph Deppisch
  */
 public class DefaultMessageQueue implements MessageQueue {
@@ -35,12 +54,27 @@ public class DefaultMessageQueue implements MessageQueue {
     /** Logger */
     private static final Logger RETRY_LOG = LoggerFactory.getLogger("org.citrusframework.RetryLogger");
 
-    /** Blocking in memory message store */
-    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    /** In memory message store ordered by send sequence */
+    private final ConcurrentNavigableMap<Long, QueuedMessage> queue = new ConcurrentSkipListMap<>();
+
+    /** Sequence number generator keeping messages in send order */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** Queued messages indexed by header name and header value */
+    private final Map<String, Map<String, ConcurrentNavigableMap<Long, QueuedMessage>>> headerIndex = new ConcurrentHashMap<>();
 
-    /** Polling interval when waiting for synchronous reply message to arrive */
+    /** Receivers currently waiting for a matching message to arrive that do not define header equality conditions */
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+
+    /** Receivers currently waiting for a matching message to arrive indexed by header name and header value */
+    private final Map<String, Map<String, List<Waiter>>> waiterIndex = new ConcurrentHashMap<>();
+
+    /** Max time to wait for a new message to arrive before scanning the queue again */
     private long pollingInterval = 500;
 
+    /** Flag to enable/disable message header index */
+    private boolean headerIndexEnabled = true;
+
     /** Flag to enable/disable message logging */
     private boolean loggingEnabled = false;
 
@@ -52,16 +86,28 @@ public class DefaultMessageQueue implements MessageQueue {
 
     @Override
     public void send(Message message) {
-        this.queue.add(message);
+        QueuedMessage queued = new QueuedMessage(sequence.incrementAndGet(), message);
+
+        if (headerIndexEnabled) {
+            // index message before adding it to the queue so receivers never remove messages that are not indexed yet
+            queued.headers.forEach((headerName, headerValue) -> headerIndex
+                    .computeIfAbsent(headerName, k -> new ConcurrentHashMap<>())
+                    .compute(headerValue, (k, indexed) -> {
+                        ConcurrentNavigableMap<Long, QueuedMessage> result = indexed != null ? indexed : new ConcurrentSkipListMap<>();
+                        result.put(queued.sequence, queued);
+                        return result;
+                    }));
+        }
+
+        this.queue.put(queued.sequence, queued);
+        notifyWaiters(queued);
     }
 
     @Override
     public Message receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
-            if (selector.accept(message) && this.queue.remove(message)) {
-                return message;
+        for (QueuedMessage queued : getCandidates(selector)) {
+            if (selector.accept(queued.message) && remove(queued)) {
+                return queued.message;
             }
         }
 
@@ -70,36 +116,48 @@ public class DefaultMessageQueue implements MessageQueue {
 
     @Override
     public Message receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message message = receive(selector);
+        long deadline = System.currentTimeMillis() + timeout;
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        Waiter waiter = new Waiter(selector);
+        addWaiter(waiter);
+        try {
+            while (true) {
+                waiter.reset();
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " +
-                        (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
+                Message message = receive(selector);
+                long timeLeft = deadline - System.currentTimeMillis();
+                if (message != null || timeLeft <= 0) {
+                    return message;
+                }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                long waitTime = Math.min(pollingInterval, timeLeft);
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("No message received with message selector - waiting " + waitTime + "ms for new message");
+                }
+
+                try {
+                    waiter.await(waitTime);
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                }
             }
+        } finally {
+            removeWaiter(waiter);
 
-            message = receive(selector);
+            if (waiter.isSignaled()) {
+                // waiter has been notified about a message that it may not have consumed - give other waiters a chance
+                waiters.forEach(Waiter::signal);
+                waiterIndex.values().forEach(values -> values.values().forEach(list -> list.forEach(Waiter::signal)));
+            }
         }
-
-        return message;
     }
 
     @Override
     public void purge(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
+        for (QueuedMessage queued : getCandidates(selector)) {
+            Message message = queued.message;
             if (selector.accept(message)) {
-                if (this.queue.remove(message)) {
+                if (remove(queued)) {
                     if (logger.isDebugEnabled()) {
                         logger.debug(String.format("Purged message '%s' from in memory queue", message.getId()));
                     }
@@ -110,6 +168,124 @@ public class DefaultMessageQueue implements MessageQueue {
         }
     }
 
+    /**
+     * Gets queued messages that may be accepted by given selector in send order. Uses the header index
+     * when selector defines header equality conditions, otherwise all queued messages are candidates.
+     * @param selector
+     * @return
+     */
+    private Collection<QueuedMessage> getCandidates(MessageSelector selector) {
+        Map.Entry<String, String> condition = getHeaderCondition(selector);
+        if (condition == null) {
+            return queue.values();
+        }
+
+        ConcurrentNavigableMap<Long, QueuedMessage> candidates = headerIndex.getOrDefault(condition.getKey(), Collections.emptyMap())
+                .get(condition.getValue());
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
+
+        return candidates.values();
+    }
+
+    /**
+     * Removes queued message from queue and header index. Returns false in case message has already been removed
+     * by some other receiver.
+     * @param queued
+     * @return
+     */
+    private boolean remove(QueuedMessage queued) {
+        if (!queue.remove(queued.sequence, queued)) {
+            return false;
+        }
+
+        queued.headers.forEach((headerName, headerValue) -> {
+            Map<String, ConcurrentNavigableMap<Long, QueuedMessage>> values = headerIndex.get(headerName);
+            if (values != null) {
+                values.computeIfPresent(headerValue, (k, indexed) -> {
+                    indexed.remove(queued.sequence);
+                    return indexed.isEmpty() ? null : indexed;
+                });
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Wakes up the first waiting receiver that accepts the given message and has not been signaled yet.
+     * Receivers waiting for header values of the message are preferred over receivers without header conditions.
+     * @param queued the new message on the queue.
+     */
+    private void notifyWaiters(QueuedMessage queued) {
+        if (!waiterIndex.isEmpty()) {
+            for (Map.Entry<String, String> header : queued.headers.entrySet()) {
+                List<Waiter> indexed = waiterIndex.getOrDefault(header.getKey(), Collections.emptyMap()).get(header.getValue());
+                if (indexed != null && notifyWaiters(indexed, queued.message)) {
+                    return;
+                }
+            }
+        }
+
+        notifyWaiters(waiters, queued.message);
+    }
+
+    private boolean notifyWaiters(List<Waiter> candidates, Message message) {
+        for (Waiter waiter : candidates) {
+            if (!waiter.isSignaled() && waiter.accept(message)) {
+                waiter.signal();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addWaiter(Waiter waiter) {
+        if (waiter.condition == null) {
+            waiters.add(waiter);
+        } else {
+            waiterIndex.computeIfAbsent(waiter.condition.getKey(), k -> new ConcurrentHashMap<>())
+                    .compute(waiter.condition.getValue(), (k, indexed) -> {
+                        List<Waiter> result = indexed != null ? indexed : new CopyOnWriteArrayList<>();
+                        result.add(waiter);
+                        return result;
+                    });
+        }
+    }
+
+    private void removeWaiter(Waiter waiter) {
+        if (waiter.condition == null) {
+            waiters.remove(waiter);
+        } else {
+            Map<String, List<Waiter>> values = waiterIndex.get(waiter.condition.getKey());
+            if (values != null) {
+                values.computeIfPresent(waiter.condition.getValue(), (k, indexed) -> {
+                    indexed.remove(waiter);
+                    return indexed.isEmpty() ? null : indexed;
+                });
+            }
+        }
+    }
+
+    /**
+     * Gets header equality condition of given selector that is used to look up messages in the header index.
+     * @param selector
+     * @return the header name and value or null if selector is not able to use the header index.
+     */
+    private Map.Entry<String, String> getHeaderCondition(MessageSelector selector) {
+        if (!headerIndexEnabled || !(selector instanceof HeaderEqualityMessageSelector)) {
+            return null;
+        }
+
+        return ((HeaderEqualityMessageSelector) selector).getHeaderEqualityConditions()
+                .entrySet()
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval to get.
@@ -126,6 +302,22 @@ public class DefaultMessageQueue implements MessageQueue {
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the headerIndexEnabled.
+     * @return
+     */
+    public boolean isHeaderIndexEnabled() {
+        return headerIndexEnabled;
+    }
+
+    /**
+     * Enables or disables the message header index. Should be set before messages are sent to the queue.
+     * @param headerIndexEnabled
+     */
+    public void setHeaderIndexEnabled(boolean headerIndexEnabled) {
+        this.headerIndexEnabled = headerIndexEnabled;
+    }
+
     /**
      * Obtains the loggingEnabled.
      * @return
@@ -146,4 +338,104 @@ public class DefaultMessageQueue implements MessageQueue {
     public String toString() {
         return name;
     }
+
+    /**
+     * Queued message with its send sequence number and header values used in header index.
+     */
+    private static class QueuedMessage {
+
+        private final long sequence;
+        private final Message message;
+        private final Map<String, String> headers;
+
+        QueuedMessage(long sequence, Message message) {
+            this.sequence = sequence;
+            this.message = message;
+            this.headers = getHeaderValues(message);
+        }
+
+        /**
+         * Gets header values of given message as String representation. Nested message headers overwrite
+         * headers of the outer message, which is the same semantic as in header matching message selectors.
+         * @param message
+         * @return
+         */
+        private static Map<String, String> getHeaderValues(Message message) {
+            Map<String, String> headers = new HashMap<>();
+            addHeaderValues(message.getHeaders(), headers);
+
+            if (message.getPayload() instanceof Message) {
+                addHeaderValues(((Message) message.getPayload()).getHeaders(), headers);
+            }
+
+            return headers;
+        }
+
+        private static void addHeaderValues(Map<String, Object> messageHeaders, Map<String, String> headers) {
+            messageHeaders.forEach((headerName, headerValue) -> {
+                if (headerValue != null) {
+                    headers.put(headerName, headerValue.toString());
+                } else {
+                    headers.remove(headerName);
+                }
+            });
+        }
+    }
+
+    /**
+     * Receiver waiting for a message that is accepted by its message selector.
+     */
+    private class Waiter {
+
+        private final MessageSelector selector;
+        private final Map.Entry<String, String> condition;
+
+        private boolean signaled = false;
+
+        Waiter(MessageSelector selector) {
+            this.selector = selector;
+            this.condition = getHeaderCondition(selector);
+        }
+
+        /**
+         * Checks if the waiting receiver is interested in given message. Errors raised by the selector are
+         * handled on the receiver side when scanning the queue, so waiter is notified in this case.
+         * @param message
+         * @return
+         */
+        boolean accept(Message message) {
+            try {
+                return selector.accept(message);
+            } catch (RuntimeException e) {
+                return true;
+            }
+        }
+
+        synchronized void signal() {
+            signaled = true;
+            notifyAll();
+        }
+
+        synchronized boolean isSignaled() {
+            return signaled;
+        }
+
+        synchronized void reset() {
+            signaled = false;
+        }
+
+        /**
+         * Waits until this waiter is signaled or the given time has passed.
+         * @param timeout
+         * @throws InterruptedException
+         */
+        synchronized void await(long timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            long timeLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (!signaled && timeLeft > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, timeLeft);
+                timeLeft = deadline - System.nanoTime();
+            }
+        }
+    }
 }
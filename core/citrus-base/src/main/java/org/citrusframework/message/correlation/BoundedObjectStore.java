@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.correlation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Object store implementation with limited capacity and time to live for stored objects. Objects that are never removed
+ * from the store (e.g. replies of timed out tests) are evicted once they expire or once the store exceeds its max size. In
+ * this case the oldest objects are evicted first. Expired objects are evicted on each add and remove operation, so
+ * an endpoint that keeps polling for correlated objects also cleans up the store. Each eviction is logged to the retry logger.
+ *
+ * @since 4.2
+ */
+public class BoundedObjectStore<T> implements ObjectStore<T> {
+
+    /** Retry logger */
+    private static final Logger RETRY_LOG = LoggerFactory.getLogger("org.citrusframework.RetryLogger");
+
+    /** Default store name used in eviction log messages */
+    public static final String DEFAULT_NAME = "object-store";
+
+    /** Default max number of objects and time to live in milliseconds */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final long DEFAULT_TIME_TO_LIVE = 300000L;
+
+    /** Stored objects in insertion order */
+    private final Map<String, StoredObject<T>> store = new LinkedHashMap<>();
+
+    /** Max number of stored objects */
+    private final int maxSize;
+
+    /** Time in milliseconds a stored object is kept in the store */
+    private final long timeToLive;
+
+    /** Name used in eviction log messages, usually the endpoint name */
+    private final Supplier<String> name;
+
+    /** Number of evicted objects */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Default constructor using default max size and time to live.
+     */
+    public BoundedObjectStore() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructor using max size and time to live.
+     * @param maxSize
+     * @param timeToLive
+     */
+    public BoundedObjectStore(int maxSize, long timeToLive) {
+        this(DEFAULT_NAME, maxSize, timeToLive);
+    }
+
+    /**
+     * Constructor using store name, max size and time to live.
+     * @param name
+     * @param maxSize
+     * @param timeToLive
+     */
+    public BoundedObjectStore(String name, int maxSize, long timeToLive) {
+        this(() -> name, maxSize, timeToLive);
+    }
+
+    /**
+     * Constructor using store name supplier, max size and time to live. The name is resolved on each eviction, so
+     * endpoints that receive their name after the store has been created (e.g. the Spring bean id) are logged properly.
+     * @param name
+     * @param maxSize
+     * @param timeToLive
+     */
+    public BoundedObjectStore(Supplier<String> name, int maxSize, long timeToLive) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public synchronized void add(String correlationKey, T object) {
+        long now = System.currentTimeMillis();
+
+        // remove existing entry first so the new object is moved to the end of the insertion order
+        store.remove(correlationKey);
+        store.put(correlationKey, new StoredObject<>(object, now + timeToLive));
+
+        evictExpired(now);
+
+        Iterator<Map.Entry<String, StoredObject<T>>> eldest = store.entrySet().iterator();
+        while (store.size() > maxSize && eldest.hasNext()) {
+            Map.Entry<String, StoredObject<T>> entry = eldest.next();
+            eldest.remove();
+            onEviction(entry.getKey(), entry.getValue().object, "max size of " + maxSize + " exceeded");
+        }
+    }
+
+    @Override
+    public synchronized T remove(String correlationKey) {
+        long now = System.currentTimeMillis();
+        StoredObject<T> stored = store.remove(correlationKey);
+        evictExpired(now);
+
+        if (stored == null) {
+            return null;
+        }
+
+        if (stored.isExpired(now)) {
+            onEviction(correlationKey, stored.object, "time to live of " + timeToLive + "ms exceeded");
+            return null;
+        }
+
+        return stored.object;
+    }
+
+    /**
+     * Evicts all expired objects from the store.
+     */
+    public synchronized void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, StoredObject<T>>> entries = store.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, StoredObject<T>> entry = entries.next();
+            if (!entry.getValue().isExpired(now)) {
+                // entries are sorted by expiry time as all entries share the same time to live
+                break;
+            }
+
+            entries.remove();
+            onEviction(entry.getKey(), entry.getValue().object, "time to live of " + timeToLive + "ms exceeded");
+        }
+    }
+
+    /**
+     * Callback invoked for each evicted object. Subclasses may add custom eviction handling.
+     * @param correlationKey
+     * @param object
+     * @param reason
+     */
+    protected void onEviction(String correlationKey, T object, String reason) {
+        evictionCount.increment();
+
+        if (RETRY_LOG.isDebugEnabled()) {
+            RETRY_LOG.debug(String.format("Evicted correlated object for '%s' from store '%s' - %s", correlationKey, getName(), reason));
+        }
+    }
+
+    /**
+     * Gets the current number of stored objects. Expired objects are evicted first.
+     * @return
+     */
+    public synchronized int getSize() {
+        evictExpired(System.currentTimeMillis());
+        return store.size();
+    }
+
+    @Override
+    public int size() {
+        return getSize();
+    }
+
+    /**
+     * Gets the number of objects evicted from this store.
+     * @return
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets the maxSize.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the timeToLive.
+     * @return
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Gets the name.
+     * @return
+     */
+    public String getName() {
+        return name.get();
+    }
+
+    /**
+     * Stored object with expiry time.
+     */
+    private static class StoredObject<T> {
+        private final T object;
+        private final long expiresAt;
+
+        StoredObject(T object, long expiresAt) {
+            this.object = object;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -16,6 +16,15 @@
 
 package org.citrusframework.message.correlation;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.PollableEndpointConfiguration;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -23,10 +32,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Extension of default correlation manager adds polling mechanism for find operation on object store.
- * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
+ * Extension of default correlation manager adds waiting mechanism for find operation on object store.
+ * In case object is not found in store the find operation waits for the object to be stored with the correlation key.
+ * Storing an object completes the pending futures for the correlation key so waiting clients return immediately.
+ * Polling interval is still used as max time to wait before the object store is checked again, overall retry timeout
  * is usually defined in endpoint configuration.
  *
+ * Manager records wait time statistics for find operations to the endpoint wide {@link CorrelationMetrics} of the
+ * endpoint configuration. When the endpoint configuration defines a
+ * max correlation store size the manager uses a {@link BoundedObjectStore} with the configured time to live.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -36,6 +51,15 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     private final PollableEndpointConfiguration endpointConfiguration;
 
+    /** Pending futures completed when object with correlation key is stored */
+    private final Map<String, CompletableFuture<Void>> pendingObjects = new ConcurrentHashMap<>();
+
+    /** Pending futures completed when correlation key with given name is saved */
+    private final Map<String, CompletableFuture<Void>> pendingCorrelationKeys = new ConcurrentHashMap<>();
+
+    /** Endpoint wide find operation statistics */
+    private final CorrelationMetrics correlationMetrics;
+
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(PollingCorrelationManager.class);
 
@@ -48,8 +72,29 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
      * @param retryLogMessage
      */
     public PollingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
+        this(() -> BoundedObjectStore.DEFAULT_NAME, endpointConfiguration, retryLogMessage);
+    }
+
+    /**
+     * Constructor using name of the endpoint, consumer or producer that owns this manager. The name is used in
+     * eviction log messages of the bounded object store.
+     * @param name
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     */
+    public PollingCorrelationManager(Supplier<String> name, PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
         this.retryLogMessage = retryLogMessage;
         this.endpointConfiguration = endpointConfiguration;
+
+        this.correlationMetrics = Optional.ofNullable(endpointConfiguration.getCorrelationMetrics())
+                .orElseGet(CorrelationMetrics::new);
+
+        if (endpointConfiguration.getCorrelationStoreMaxSize() > 0) {
+            setObjectStore(new BoundedObjectStore<>(name, endpointConfiguration.getCorrelationStoreMaxSize(),
+                    endpointConfiguration.getCorrelationStoreTimeToLive()));
+        } else {
+            correlationMetrics.registerStore(getObjectStore());
+        }
     }
 
     /**
@@ -61,35 +106,40 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+        complete(pendingCorrelationKeys, correlationKeyName);
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (logger.isDebugEnabled()) {
             logger.debug(String.format("Get correlation key for '%s'", correlationKeyName));
         }
 
-        String correlationKey = null;
-        if (context.getVariables().containsKey(correlationKeyName)) {
-            correlationKey = context.getVariable(correlationKeyName);
-        }
-
-        long timeLeft = 1000L;
+        long timeout = 1000L;
         long pollingInterval = 300L;
-        while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        long deadline = System.currentTimeMillis() + timeout;
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+        String correlationKey = null;
+        while (true) {
+            CompletableFuture<Void> pending = pendingCorrelationKeys.computeIfAbsent(correlationKeyName, k -> new CompletableFuture<>());
+            if (context.getVariables().containsKey(correlationKeyName)) {
+                correlationKey = context.getVariable(correlationKeyName);
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (correlationKey != null || timeLeft <= 0) {
+                pendingCorrelationKeys.remove(correlationKeyName, pending);
+                break;
             }
 
-            if (context.getVariables().containsKey(correlationKeyName)) {
-                correlationKey = context.getVariable(correlationKeyName);
+            if (RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug("Correlation key not available yet - waiting " + Math.min(pollingInterval, timeLeft) + "ms");
             }
+
+            await(pending, Math.min(pollingInterval, timeLeft));
         }
 
         if (correlationKey == null) {
@@ -99,32 +149,106 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return correlationKey;
     }
 
+    @Override
+    public void setObjectStore(ObjectStore<T> store) {
+        if (correlationMetrics != null) {
+            correlationMetrics.unregisterStore(getObjectStore());
+            correlationMetrics.registerStore(store);
+        }
+
+        super.setObjectStore(store);
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+        complete(pendingObjects, correlationKey);
+    }
+
     @Override
     public T find(String correlationKey, long timeout) {
-        long timeLeft = timeout;
+        long start = System.currentTimeMillis();
+        long deadline = start + timeout;
         long pollingInterval = endpointConfiguration.getPollingInterval();
 
-        T stored = super.find(correlationKey, timeLeft);
+        T stored;
+        while (true) {
+            CompletableFuture<Void> pending = pendingObjects.computeIfAbsent(correlationKey, k -> new CompletableFuture<>());
+            stored = super.find(correlationKey, deadline - System.currentTimeMillis());
 
-        while (stored == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug(retryLogMessage + " - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (stored != null || timeLeft <= 0) {
+                pendingObjects.remove(correlationKey, pending);
+                break;
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            if (RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug(retryLogMessage + " - waiting " + Math.min(pollingInterval, timeLeft) + "ms");
             }
 
-            stored = super.find(correlationKey, timeLeft);
+            await(pending, Math.min(pollingInterval, timeLeft));
         }
 
+        recordWaitTime(System.currentTimeMillis() - start, stored == null);
         return stored;
     }
 
+    /**
+     * Completes pending future for given key so waiting clients get notified.
+     * @param pending
+     * @param key
+     */
+    private void complete(Map<String, CompletableFuture<Void>> pending, String key) {
+        CompletableFuture<Void> future = pending.remove(key);
+        if (future != null) {
+            future.complete(null);
+        }
+    }
+
+    /**
+     * Waits for pending future to complete with given timeout.
+     * @param pending
+     * @param timeout
+     */
+    private void await(CompletableFuture<Void> pending, long timeout) {
+        try {
+            pending.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // continue to check store again
+        }
+    }
+
+    /**
+     * Updates find operation statistics.
+     * @param waitTime
+     * @param timedOut
+     */
+    private void recordWaitTime(long waitTime, boolean timedOut) {
+        correlationMetrics.recordFind(waitTime, timedOut);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Find correlated object %s after %sms (%s)", timedOut ? "timed out" : "completed", waitTime, correlationMetrics));
+        }
+    }
+
+    /**
+     * Checks for pending futures of find or get correlation key operations.
+     * @return
+     */
+    boolean hasPendingOperations() {
+        return !pendingObjects.isEmpty() || !pendingCorrelationKeys.isEmpty();
+    }
+
+    /**
+     * Gets the endpoint wide find operation statistics.
+     * @return
+     */
+    public CorrelationMetrics getCorrelationMetrics() {
+        return correlationMetrics;
+    }
+
     /**
      * Gets the retry logger message
      * @return
@@ -60,6 +60,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
         }
     }
 
+    /**
+     * Gets the message holding the payload either the message object itself or the nested Citrus message representation.
+     * Selectors should use this message when parsing the payload so the parsed representation is cached on the message.
+     * @param message
+     * @return
+     */
+    Message getPayloadMessage(Message message) {
+        if (message.getPayload() instanceof Message) {
+            return (Message) message.getPayload();
+        } else {
+            return message;
+        }
+    }
+
     /**
      * Evaluates given value to match this selectors matching condition. Automatically supports validation matcher expressions.
      * @param value
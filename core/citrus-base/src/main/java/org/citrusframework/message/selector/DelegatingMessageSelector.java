@@ -17,6 +17,7 @@
 package org.citrusframework.message.selector;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,7 +34,7 @@ import org.citrusframework.message.MessageSelectorBuilder;
  * @author Christoph Deppisch
  * @since 3.0
  */
-public class DelegatingMessageSelector implements MessageSelector {
+public class DelegatingMessageSelector implements HeaderEqualityMessageSelector {
 
     /** List of header elements to match */
     private final Map<String, String> matchingHeaders;
@@ -68,12 +69,36 @@ public class DelegatingMessageSelector implements MessageSelector {
     public boolean accept(Message message) {
         return matchingHeaders.entrySet()
                               .stream()
-                              .allMatch(entry -> factories.stream()
-                                                     .filter(factory -> factory.supports(entry.getKey()))
-                                                     .findAny()
-                                                     .orElseGet(HeaderMatchingMessageSelector.Factory::new)
-                                                     .create(entry.getKey(), entry.getValue(), context)
-                                                     .accept(message));
+                              .allMatch(entry -> createDelegate(entry.getKey(), entry.getValue()).accept(message));
+    }
+
+    @Override
+    public Map<String, String> getHeaderEqualityConditions() {
+        Map<String, String> conditions = new LinkedHashMap<>();
+
+        matchingHeaders.entrySet()
+                .stream()
+                .map(entry -> createDelegate(entry.getKey(), entry.getValue()))
+                .filter(HeaderEqualityMessageSelector.class::isInstance)
+                .map(HeaderEqualityMessageSelector.class::cast)
+                .forEach(delegate -> conditions.putAll(delegate.getHeaderEqualityConditions()));
+
+        return conditions;
+    }
+
+    /**
+     * Creates delegate message selector for given selector key using the first factory that supports the key.
+     * Falls back to header matching selector when no factory supports the key.
+     * @param key
+     * @param value
+     * @return
+     */
+    private MessageSelector createDelegate(String key, String value) {
+        return factories.stream()
+                        .filter(factory -> factory.supports(key))
+                        .findAny()
+                        .orElseGet(HeaderMatchingMessageSelector.Factory::new)
+                        .create(key, value, context);
     }
 
     /**
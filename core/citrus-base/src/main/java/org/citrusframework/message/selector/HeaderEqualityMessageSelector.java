@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.selector;
+
+import java.util.Map;
+
+import org.citrusframework.message.MessageSelector;
+
+/**
+ * Message selector that only accepts messages with one or more headers equal to a given value. Message queues are able
+ * to use these header conditions in order to look up candidate messages in a header index instead of
+ * evaluating the selector on each queued message.
+ *
+ * @since 4.2
+ */
+public interface HeaderEqualityMessageSelector extends MessageSelector {
+
+    /**
+     * Gets header names and values that a message must match exactly in order to be accepted by this selector.
+     * The selector may apply additional conditions in {@link #accept(org.citrusframework.message.Message)}.
+     * Empty map in case the selector does not define any header equality conditions.
+     *
+     * @return header name and expected header value
+     */
+    Map<String, String> getHeaderEqualityConditions();
+}
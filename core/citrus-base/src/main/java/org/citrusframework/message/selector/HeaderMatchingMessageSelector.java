@@ -15,12 +15,14 @@
  */
 package org.citrusframework.message.selector;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 
 /**
  * Message selector matches one or more header elements with the message header. Only in case all
@@ -29,7 +31,7 @@ import org.citrusframework.message.Message;
  *
  * @author Christoph Deppisch
  */
-public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
+public class HeaderMatchingMessageSelector extends AbstractMessageSelector implements HeaderEqualityMessageSelector {
 
     /** Special selector key prefix identifying this message selector implementation */
     public static final String SELECTOR_PREFIX = "header:";
@@ -59,6 +61,15 @@ public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
         }
     }
 
+    @Override
+    public Map<String, String> getHeaderEqualityConditions() {
+        if (ValidationMatcherUtils.isValidationMatcherExpression(matchingValue)) {
+            return Collections.emptyMap();
+        }
+
+        return Collections.singletonMap(selectKey, matchingValue);
+    }
+
     private boolean matchHeader(Map<String, Object> messageHeaders) {
         return Optional.ofNullable(messageHeaders.get(selectKey))
                 .map(Object::toString)
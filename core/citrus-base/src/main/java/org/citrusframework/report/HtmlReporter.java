@@ -20,19 +20,23 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.text.DateFormat;
-import java.util.HashMap;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.codec.binary.Base64;
 import org.citrusframework.TestCase;
 import org.citrusframework.TestCaseMetaInfo;
+import org.citrusframework.TestResult;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.PropertyUtils;
 import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,8 +51,21 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(HtmlReporter.class);
 
-    /** Map holding additional information of test cases */
-    private Map<String, ResultDetail> details = new HashMap<>();
+    /** Report template property holding the test results */
+    private static final String TEST_RESULTS_PROPERTY = "test.results";
+
+    /** Additional information of test cases whose results have not been streamed and need to be rendered with the report */
+    private final Map<String, ResultDetail> details = new ConcurrentHashMap<>();
+
+    /** Spool collecting rendered test results while tests are running */
+    private volatile ReportSpool resultSpool = new ReportSpool();
+
+    /** Marks that at least one test result could not be streamed */
+    private volatile boolean streamingFailed;
+
+    /** Compiled report templates */
+    private ReportTemplate compiledReportTemplate;
+    private ReportTemplate compiledDetailTemplate;
 
     /** Static resource for the HTML test report template */
     private String reportTemplate = HtmlReporterSettings.getReportTemplate();
@@ -73,49 +90,170 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
     @Override
     public String getReportContent(TestResults testResults) {
-        final StringBuilder reportDetails = new StringBuilder();
+        StringWriter writer = new StringWriter();
+
+        try {
+            writeReportContent(testResults, writer);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+        }
+
+        return writer.toString();
+    }
 
+    @Override
+    protected void writeReportContent(TestResults testResults, Writer writer) throws IOException {
         logger.debug("Generating HTML test report");
 
+        ReportSpool spool = resultSpool;
+        resultSpool = new ReportSpool();
+
         try {
-            final String testDetails = FileUtils.readToString(FileUtils.getFileResource(testDetailTemplate));
-            final String emptyString = "";
-
-            testResults.doWithResults(result -> {
-                ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElseGet(ResultDetail::new);
-
-                Properties detailProps = new Properties();
-                detailProps.put("test.style.class", result.getResult().toLowerCase());
-                detailProps.put("test.case.name", result.getTestName());
-                detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
-                detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
-                detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
-                detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
-                detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
-                detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
-                detailProps.put("test.result", result.getResult());
-
-                reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
-
-                if (result.isFailed() && result.getCause() != null) {
-                    reportDetails.append(getStackTraceHtml(result.getCause()));
-                }
-            });
+            if (streamingFailed || spool.getCount() != testResults.getSize()) {
+                // streamed results do not match the given test results, so spool the given results now
+                spool.delete();
+                spool = spoolResults(testResults);
+            }
 
+            TestResults.Snapshot summary = testResults.snapshot();
             Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
-            reportProps.put("skipped.test.pct", testResults.getSkippedPercentage());
-            reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
-            reportProps.put("failed.test.pct", testResults.getFailedPercentage());
-            reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
-            reportProps.put("success.test.pct", testResults.getSuccessPercentage());
-            reportProps.put("test.results", reportDetails.toString());
+            reportProps.put("test.cnt", Integer.toString(summary.getSize()));
+            reportProps.put("skipped.test.cnt", Integer.toString(summary.getSkipped()));
+            reportProps.put("skipped.test.pct", summary.getSkippedPercentage());
+            reportProps.put("failed.test.cnt", Integer.toString(summary.getFailed()));
+            reportProps.put("failed.test.pct", summary.getFailedPercentage());
+            reportProps.put("success.test.cnt", Integer.toString(summary.getSuccess()));
+            reportProps.put("success.test.pct", summary.getSuccessPercentage());
             reportProps.put("logo.data", getLogoImageData());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+
+            ReportTemplate template = getCompiledReportTemplate();
+            template.before(TEST_RESULTS_PROPERTY).render(writer, reportProps);
+            spool.transferTo(writer);
+            template.after(TEST_RESULTS_PROPERTY).render(writer, reportProps);
+        } finally {
+            spool.delete();
+            details.clear();
+            streamingFailed = false;
+        }
+    }
+
+    /**
+     * Spools all given test results in order to write the report in case results have not been streamed
+     * while tests were running.
+     * @param testResults
+     * @return
+     * @throws IOException
+     */
+    private ReportSpool spoolResults(TestResults testResults) throws IOException {
+        ReportSpool spool = new ReportSpool();
+
+        for (TestResult result : testResults.asList()) {
+            ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElseGet(ResultDetail::new);
+            spool.append(result, renderResult(result, detail, getFailureStackElement(result.getCause(), null)));
         }
+
+        return spool;
+    }
+
+    /**
+     * Streams the result of the finished test to the result spool.
+     * @param result
+     * @param test
+     */
+    private void streamResult(TestResult result, TestCase test) {
+        ResultDetail detail = ResultDetail.build(test);
+
+        if (!enabled || streamingFailed) {
+            // report is generated with all results at the end
+            details.put(test.getName(), detail);
+            return;
+        }
+
+        try {
+            resultSpool.append(result, renderResult(result, detail, getFailureStackElement(result.getCause(), test)));
+        } catch (IOException | CitrusRuntimeException e) {
+            details.put(test.getName(), detail);
+            streamingFailed = true;
+            logger.warn("Failed to stream test result to HTML report - report is generated with all results at the end", e);
+        }
+    }
+
+    /**
+     * Renders the HTML report details of a single test result.
+     * @param result
+     * @param detail
+     * @param failureElement
+     * @return
+     * @throws IOException
+     */
+    private String renderResult(TestResult result, ResultDetail detail, FailureStackElement failureElement) throws IOException {
+        final String emptyString = "";
+
+        Properties detailProps = new Properties();
+        detailProps.put("test.style.class", result.getResult().toLowerCase());
+        detailProps.put("test.case.name", result.getTestName());
+        detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
+        detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
+        detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : formatDate(detail.getMetaInfo().getCreationDate()));
+        detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
+        detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : formatDate(detail.getMetaInfo().getLastUpdatedOn()));
+        detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
+        detailProps.put("test.result", result.getResult());
+
+        String content = getCompiledDetailTemplate().render(detailProps);
+        if (result.isFailed() && result.getCause() != null) {
+            content += getStackTraceHtml(result.getCause(), failureElement);
+        }
+
+        return content;
+    }
+
+    /**
+     * Gets the failure stack element that caused the test to fail. When the test has just finished the failure stack may
+     * not be set on the error yet, in that case the failure stack is resolved from the given test.
+     * @param cause
+     * @param test
+     * @return
+     */
+    private FailureStackElement getFailureStackElement(Throwable cause, TestCase test) {
+        if (!(cause instanceof CitrusRuntimeException ex)) {
+            return null;
+        }
+
+        if (!ex.getFailureStack().isEmpty()) {
+            return ex.getFailureStack().pop();
+        }
+
+        if (test != null) {
+            List<FailureStackElement> failureStack = FailureStackTestListener.getFailureStack(test);
+            if (!failureStack.isEmpty()) {
+                return failureStack.get(failureStack.size() - 1);
+            }
+        }
+
+        return null;
+    }
+
+    private String formatDate(Date date) {
+        synchronized (dateFormat) {
+            return dateFormat.format(date);
+        }
+    }
+
+    private synchronized ReportTemplate getCompiledReportTemplate() throws IOException {
+        if (compiledReportTemplate == null) {
+            compiledReportTemplate = ReportTemplate.load(reportTemplate);
+        }
+
+        return compiledReportTemplate;
+    }
+
+    private synchronized ReportTemplate getCompiledDetailTemplate() throws IOException {
+        if (compiledDetailTemplate == null) {
+            compiledDetailTemplate = ReportTemplate.load(testDetailTemplate);
+        }
+
+        return compiledDetailTemplate;
     }
 
     /**
@@ -158,64 +296,48 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     /**
      * Gets the code section from test case XML which is responsible for the
      * error.
-     * @param cause the error cause.
+     * @param stackElement the failure stack element pointing to the failed test action.
      * @return
      */
-    private String getCodeSnippetHtml(Throwable cause) {
+    private String getCodeSnippetHtml(FailureStackElement stackElement) {
         StringBuilder codeSnippet = new StringBuilder();
-        BufferedReader reader = null;
 
-        try {
-            if (cause instanceof CitrusRuntimeException) {
-                CitrusRuntimeException ex = (CitrusRuntimeException) cause;
-                if (!ex.getFailureStack().isEmpty()) {
-                    FailureStackElement stackElement = ex.getFailureStack().pop();
-                    if (stackElement.getLineNumberStart() > 0) {
-                        reader = new BufferedReader(Resources.fromClasspath(stackElement.getTestFilePath() + FileUtils.FILE_EXTENSION_XML).getReader());
-
-                        codeSnippet.append("<div class=\"code-snippet\">");
-                        codeSnippet.append("<h2 class=\"code-title\">" + stackElement.getTestFilePath() + ".xml</h2>");
-
-                        String line;
-                        String codeStyle;
-                        int lineIndex = 1;
-                        int snippetOffset = 5;
-                        while ((line = reader.readLine()) != null) {
-                            if (lineIndex >= stackElement.getLineNumberStart() - snippetOffset &&
-                                    lineIndex < stackElement.getLineNumberStart() ||
-                                    lineIndex > stackElement.getLineNumberEnd() &&
-                                    lineIndex <= stackElement.getLineNumberEnd() + snippetOffset) {
-                                codeStyle = "code";
-                            } else if (lineIndex >= stackElement.getLineNumberStart() &&
-                                    lineIndex <= stackElement.getLineNumberEnd()) {
-                                codeStyle = "code-failed";
-                            } else {
-                                codeStyle = "";
-                            }
-
-                            if (StringUtils.hasText(codeStyle)) {
-                                codeSnippet.append("<pre class=\"" + codeStyle +"\"><span class=\"line-number\">" + lineIndex + ":</span>" +
-                                        line.replaceAll(">", "&gt;").replaceAll("<", "&lt;") + "</pre>");
-                            }
-
-                            lineIndex++;
-
-                        }
-
-                        codeSnippet.append("</div>");
-                    }
+        if (stackElement == null || stackElement.getLineNumberStart() <= 0) {
+            return codeSnippet.toString();
+        }
+
+        try (BufferedReader reader = new BufferedReader(Resources.fromClasspath(stackElement.getTestFilePath() + FileUtils.FILE_EXTENSION_XML).getReader())) {
+            codeSnippet.append("<div class=\"code-snippet\">");
+            codeSnippet.append("<h2 class=\"code-title\">").append(stackElement.getTestFilePath()).append(".xml</h2>");
+
+            String line;
+            String codeStyle;
+            int lineIndex = 1;
+            int snippetOffset = 5;
+            while ((line = reader.readLine()) != null) {
+                if (lineIndex >= stackElement.getLineNumberStart() - snippetOffset &&
+                        lineIndex < stackElement.getLineNumberStart() ||
+                        lineIndex > stackElement.getLineNumberEnd() &&
+                        lineIndex <= stackElement.getLineNumberEnd() + snippetOffset) {
+                    codeStyle = "code";
+                } else if (lineIndex >= stackElement.getLineNumberStart() &&
+                        lineIndex <= stackElement.getLineNumberEnd()) {
+                    codeStyle = "code-failed";
+                } else {
+                    codeStyle = "";
+                }
+
+                if (StringUtils.hasText(codeStyle)) {
+                    codeSnippet.append("<pre class=\"").append(codeStyle).append("\"><span class=\"line-number\">").append(lineIndex).append(":</span>")
+                            .append(line.replace(">", "&gt;").replace("<", "&lt;")).append("</pre>");
                 }
+
+                lineIndex++;
             }
+
+            codeSnippet.append("</div>");
         } catch (IOException e) {
             logger.error("Failed to construct HTML code snippet", e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    logger.warn("Failed to close test file", e);
-                }
-            }
         }
 
         return codeSnippet.toString();
@@ -224,9 +346,10 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     /**
      * Construct HTML code snippet for stack trace information.
      * @param cause the causing error.
+     * @param failureElement the failure stack element pointing to the failed test action.
      * @return
      */
-    private String getStackTraceHtml(Throwable cause) {
+    private String getStackTraceHtml(Throwable cause, FailureStackElement failureElement) {
         StringBuilder stackTraceBuilder = new StringBuilder();
         stackTraceBuilder.append(cause.getClass().getName())
                         .append(": ")
@@ -239,7 +362,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
         return "<tr><td colspan=\"2\">" +
         		"<div class=\"error-detail\"><pre>" + stackTraceBuilder.toString() +
-        		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
+        		"</pre>" + getCodeSnippetHtml(failureElement) + "</div></td></tr>";
     }
 
     @Override
@@ -254,17 +377,21 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
     @Override
     public void onTestSuccess(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        streamResult(TestResult.success(test.getName(), getClassName(test)), test);
     }
 
     @Override
     public void onTestFailure(TestCase test, Throwable cause) {
-        details.put(test.getName(), ResultDetail.build(test));
+        streamResult(TestResult.failed(test.getName(), getClassName(test), cause), test);
     }
 
     @Override
     public void onTestSkipped(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        streamResult(TestResult.skipped(test.getName(), getClassName(test)), test);
+    }
+
+    private String getClassName(TestCase test) {
+        return Optional.ofNullable(test.getTestClass()).map(Class::getName).orElse("");
     }
 
     /**
@@ -317,8 +444,9 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      *
      * @param reportTemplate
      */
-    public void setReportTemplate(String reportTemplate) {
+    public synchronized void setReportTemplate(String reportTemplate) {
         this.reportTemplate = reportTemplate;
+        this.compiledReportTemplate = null;
     }
 
     /**
@@ -326,8 +454,9 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      *
      * @param testDetailTemplate
      */
-    public void setTestDetailTemplate(String testDetailTemplate) {
+    public synchronized void setTestDetailTemplate(String testDetailTemplate) {
         this.testDetailTemplate = testDetailTemplate;
+        this.compiledDetailTemplate = null;
     }
 
     /**
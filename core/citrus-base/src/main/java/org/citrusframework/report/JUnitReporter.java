@@ -16,14 +16,15 @@
 
 package org.citrusframework.report;
 
+import org.citrusframework.TestCase;
 import org.citrusframework.TestResult;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.PropertyUtils;
 import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -31,7 +32,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,7 +45,7 @@ import static org.apache.commons.lang3.StringEscapeUtils.escapeXml;
  * @author Christoph Deppisch
  * @since 2.7.5
  */
-public class JUnitReporter extends AbstractTestReporter {
+public class JUnitReporter extends AbstractTestReporter implements TestListener {
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(JUnitReporter.class);
@@ -70,145 +71,217 @@ public class JUnitReporter extends AbstractTestReporter {
     /** Enables/disables report generation */
     private boolean enabled = JUnitReporterSettings.isReportEnabled();
 
+    /** Report template property holding the test cases */
+    private static final String TESTS_PROPERTY = "tests";
+
+    /** Spools collecting rendered test results for the test suite and per test class while tests are running */
+    private volatile ResultSpools resultSpools = new ResultSpools();
+
+    /** Marks that at least one test result could not be streamed */
+    private volatile boolean streamingFailed;
+
+    /** Compiled report templates */
+    private ReportTemplates reportTemplates;
+
     @Override
     public void generate(TestResults testResults) {
         if (isEnabled()) {
-            ReportTemplates reportTemplates = new ReportTemplates();
-
             logger.debug("Generating JUnit test report");
 
-            try {
-                List<TestResult> results = testResults.asList();
-                createReportFile(String.format(reportFileNamePattern, suiteName), createReportContent(suiteName, results, reportTemplates), new File(getReportDirectory()));
+            ResultSpools spools = resultSpools;
+            resultSpools = new ResultSpools();
 
-                Map<String, List<TestResult>> groupedResults = new HashMap<>();
-                for(TestResult result : results) {
-                    if (!groupedResults.containsKey(result.getClassName())) {
-                        groupedResults.put(result.getClassName(), new ArrayList<>());
+            try {
+                ReportTemplates templates = getReportTemplates();
+
+                if (streamingFailed || spools.getCount() != testResults.getSize()) {
+                    // streamed results do not match the given test results, so spool the given results now
+                    spools.delete();
+                    spools = new ResultSpools();
+                    for (TestResult result : testResults.asList()) {
+                        spools.append(result, createResultContent(result, templates));
                     }
-
-                    groupedResults.get(result.getClassName()).add(result);
                 }
 
+                List<ReportSpool> classSpools = spools.getClassSpools();
+                createReportFile(String.format(reportFileNamePattern, suiteName), suiteName, classSpools, templates, new File(getReportDirectory()));
+
                 File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
-                for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
-                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), createReportContent(resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
+                for (Map.Entry<String, ReportSpool> classSpool : spools.getClasses().entrySet()) {
+                    createReportFile(String.format(reportFileNamePattern, classSpool.getKey()), classSpool.getKey(), List.of(classSpool.getValue()), templates, targetDirectory);
                 }
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
+            } finally {
+                spools.delete();
+                streamingFailed = false;
             }
         }
     }
 
     /**
-     * Create report file for test class.
-     * @param suiteName
-     * @param results
+     * Create report content for a single test result.
+     * @param result
      * @param templates
      * @return
      */
-    private String createReportContent(String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
-        final StringBuilder reportDetails = new StringBuilder();
-
-        for (TestResult result: results) {
-            Properties detailProps = new Properties();
-            detailProps.put("test.class", result.getClassName());
-            detailProps.put("test.name", escapeXml(result.getTestName()));
-            detailProps.put("test.duration", "0.0");
-
-            if (result.isFailed()) {
-                detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
-                detailProps.put("test.error.msg", escapeXml(result.getErrorMessage()));
-                detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
-                    StringWriter writer = new StringWriter();
-                    cause.printStackTrace(new PrintWriter(writer));
-                    return writer.toString();
-                }).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getFailedTemplate(), detailProps));
-            } else {
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getSuccessTemplate(), detailProps));
-            }
+    private String createResultContent(TestResult result, ReportTemplates templates) {
+        Properties detailProps = new Properties();
+        detailProps.put("test.class", result.getClassName());
+        detailProps.put("test.name", escapeXml(result.getTestName()));
+        detailProps.put("test.duration", "0.0");
+
+        if (result.isFailed()) {
+            detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
+            detailProps.put("test.error.msg", escapeXml(result.getErrorMessage()));
+            detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
+                StringWriter writer = new StringWriter();
+                cause.printStackTrace(new PrintWriter(writer));
+                return writer.toString();
+            }).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
+            return System.lineSeparator() + "    " + templates.failedTemplate.render(detailProps);
+        } else {
+            return System.lineSeparator() + "    " + templates.successTemplate.render(detailProps);
         }
-
-        Properties reportProps = new Properties();
-        reportProps.put("test.suite", suiteName);
-        reportProps.put("test.cnt", Integer.toString(results.size()));
-        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
-        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
-        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
-        reportProps.put("test.error.cnt", "0");
-        reportProps.put("test.duration", "0.0");
-        reportProps.put("tests", reportDetails.toString());
-        return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
     }
 
     /**
-     * Creates the JUnit report file
+     * Creates the JUnit report file writing the spooled test results in between the head and the tail of the report template.
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param suiteName The test suite name
+     * @param spools The spooled test results
+     * @param templates The report templates
+     * @param targetDirectory The target directory
      */
-    private void createReportFile(String reportFileName, String content, File targetDirectory) {
+    private void createReportFile(String reportFileName, String suiteName, List<ReportSpool> spools, ReportTemplates templates, File targetDirectory) {
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
                 throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory() + (StringUtils.hasText(outputDirectory) ? "/" + outputDirectory : ""));
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        Properties reportProps = new Properties();
+        reportProps.put("test.suite", suiteName);
+        reportProps.put("test.cnt", Integer.toString(spools.stream().mapToInt(ReportSpool::getCount).sum()));
+        reportProps.put("test.skipped.cnt", Integer.toString(spools.stream().mapToInt(ReportSpool::getSkipped).sum()));
+        reportProps.put("test.failed.cnt", Integer.toString(spools.stream().mapToInt(ReportSpool::getFailed).sum()));
+        reportProps.put("test.success.cnt", Integer.toString(spools.stream().mapToInt(ReportSpool::getSuccess).sum()));
+        reportProps.put("test.error.cnt", "0");
+        reportProps.put("test.duration", "0.0");
+
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)))) {
+            templates.reportTemplate.before(TESTS_PROPERTY).render(fileWriter, reportProps);
+            for (ReportSpool spool : spools) {
+                spool.transferTo(fileWriter);
+            }
+            templates.reportTemplate.after(TESTS_PROPERTY).render(fileWriter, reportProps);
             fileWriter.flush();
         } catch (IOException e) {
             logger.error("Failed to create test report", e);
         }
     }
 
-    private class ReportTemplates {
+    /**
+     * Streams the result of the finished test to the result spools.
+     * @param result
+     */
+    private void streamResult(TestResult result) {
+        if (!isEnabled()) {
+            return;
+        }
 
-        private String reportTemplateContent;
-        private String successTemplateContent;
-        private String failedTemplateContent;
+        try {
+            resultSpools.append(result, createResultContent(result, getReportTemplates()));
+        } catch (IOException | CitrusRuntimeException e) {
+            streamingFailed = true;
+            logger.warn("Failed to stream test result to JUnit report - report is generated with all results at the end", e);
+        }
+    }
 
-        /**
-         * Gets the reportTemplateContent.
-         *
-         * @return
-         */
-        public String getReportTemplate() throws IOException {
-            if (reportTemplateContent == null) {
-                reportTemplateContent = FileUtils.readToString(FileUtils.getFileResource(reportTemplate)).trim();
-            }
+    @Override
+    public void onTestStart(TestCase test) {
+        // do nothing
+    }
 
-            return reportTemplateContent;
+    @Override
+    public void onTestFinish(TestCase test) {
+        // do nothing
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        streamResult(TestResult.success(test.getName(), test.getTestClass().getName()));
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        streamResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause));
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        streamResult(TestResult.skipped(test.getName(), test.getTestClass().getName()));
+    }
+
+    private synchronized ReportTemplates getReportTemplates() throws IOException {
+        if (reportTemplates == null) {
+            reportTemplates = new ReportTemplates(load(reportTemplate), load(successTemplate), load(failedTemplate));
         }
 
-        /**
-         * Gets the successTemplateContent.
-         *
-         * @return
-         */
-        public String getSuccessTemplate() throws IOException {
-            if (successTemplateContent == null) {
-                successTemplateContent = FileUtils.readToString(FileUtils.getFileResource(successTemplate)).trim();
+        return reportTemplates;
+    }
+
+    private static ReportTemplate load(String template) throws IOException {
+        return ReportTemplate.compile(FileUtils.readToString(FileUtils.getFileResource(template)).trim());
+    }
+
+    /**
+     * Compiled report templates.
+     */
+    private static class ReportTemplates {
+        private final ReportTemplate reportTemplate;
+        private final ReportTemplate successTemplate;
+        private final ReportTemplate failedTemplate;
+
+        ReportTemplates(ReportTemplate reportTemplate, ReportTemplate successTemplate, ReportTemplate failedTemplate) {
+            this.reportTemplate = reportTemplate;
+            this.successTemplate = successTemplate;
+            this.failedTemplate = failedTemplate;
+        }
+    }
+
+    /**
+     * Result spools per test class. Each result is spooled once for its test class, the test suite report is written
+     * by transferring all test class spools in sequence.
+     */
+    private static class ResultSpools {
+        private final Map<String, ReportSpool> classes = new LinkedHashMap<>();
+
+        void append(TestResult result, String content) throws IOException {
+            ReportSpool spool;
+            synchronized (classes) {
+                spool = classes.computeIfAbsent(result.getClassName(), className -> new ReportSpool());
             }
 
-            return successTemplateContent;
+            spool.append(result, content);
         }
 
-        /**
-         * Gets the failedTemplateContent.
-         *
-         * @return
-         */
-        public String getFailedTemplate() throws IOException {
-            if (failedTemplateContent == null) {
-                failedTemplateContent = FileUtils.readToString(FileUtils.getFileResource(failedTemplate)).trim();
+        Map<String, ReportSpool> getClasses() {
+            synchronized (classes) {
+                return new LinkedHashMap<>(classes);
             }
+        }
+
+        List<ReportSpool> getClassSpools() {
+            return new ArrayList<>(getClasses().values());
+        }
+
+        int getCount() {
+            return getClassSpools().stream().mapToInt(ReportSpool::getCount).sum();
+        }
 
-            return failedTemplateContent;
+        void delete() {
+            getClassSpools().forEach(ReportSpool::delete);
         }
     }
 
@@ -262,8 +335,9 @@ public class JUnitReporter extends AbstractTestReporter {
      *
      * @param reportTemplate
      */
-    public void setReportTemplate(String reportTemplate) {
+    public synchronized void setReportTemplate(String reportTemplate) {
         this.reportTemplate = reportTemplate;
+        this.reportTemplates = null;
     }
 
     /**
@@ -298,8 +372,9 @@ public class JUnitReporter extends AbstractTestReporter {
      *
      * @param successTemplate
      */
-    public void setSuccessTemplate(String successTemplate) {
+    public synchronized void setSuccessTemplate(String successTemplate) {
         this.successTemplate = successTemplate;
+        this.reportTemplates = null;
     }
 
     /**
@@ -316,8 +391,9 @@ public class JUnitReporter extends AbstractTestReporter {
      *
      * @param failedTemplate
      */
-    public void setFailedTemplate(String failedTemplate) {
+    public synchronized void setFailedTemplate(String failedTemplate) {
         this.failedTemplate = failedTemplate;
+        this.reportTemplates = null;
     }
 
     /**
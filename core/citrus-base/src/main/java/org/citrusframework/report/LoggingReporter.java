@@ -86,12 +86,13 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
         newLine();
 
-        info("TOTAL:\t" + (testResults.getFailed() + testResults.getSuccess()));
+        TestResults.Snapshot summary = testResults.snapshot();
+        info("TOTAL:\t" + (summary.getFailed() + summary.getSuccess()));
 
-        debug("SKIPPED:\t" + testResults.getSkipped() + " (" + testResults.getSkippedPercentage() + "%)");
+        debug("SKIPPED:\t" + summary.getSkipped() + " (" + summary.getSkippedPercentage() + "%)");
 
-        info("FAILED:\t" + testResults.getFailed() + " (" + testResults.getFailedPercentage() + "%)");
-        info("SUCCESS:\t" + testResults.getSuccess() + " (" + testResults.getSuccessPercentage() + "%)");
+        info("FAILED:\t" + summary.getFailed() + " (" + summary.getFailedPercentage() + "%)");
+        info("SUCCESS:\t" + summary.getSuccess() + " (" + summary.getSuccessPercentage() + "%)");
         newLine();
 
         separator();
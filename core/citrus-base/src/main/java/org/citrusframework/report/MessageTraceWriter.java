@@ -0,0 +1,316 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append only message trace writer streams trace entries to per test trace files. Entries are put into a bounded queue
+ * and written by a background thread, so message listeners do not block on file I/O and do not need to hold the
+ * trace content of a whole test in memory. Callers block once the queue is full, so no trace entry gets lost. Callers
+ * never wait longer than the configured timeout for the writer, so a stalled file system does not hang the test run.
+ *
+ * Trace files are opened lazily with the first entry written for a trace, so tests without any traced messages do not
+ * create empty trace files.
+ *
+ * @since 4.2
+ */
+public class MessageTraceWriter {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(MessageTraceWriter.class);
+
+    /** Default max number of queued trace entries */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /** Default time in milliseconds to wait for the writer when queueing entries and closing traces */
+    public static final long DEFAULT_TIMEOUT = 10000L;
+
+    /** Queued trace entries waiting to be written */
+    private final BlockingQueue<TraceEntry> queue;
+
+    /** Open traces by trace key, only accessed by the writer thread */
+    private final Map<String, Trace> traces = new HashMap<>();
+
+    /** Max time in milliseconds to wait for the writer */
+    private final long timeout;
+
+    /** Background writer thread */
+    private Thread writerThread;
+
+    /**
+     * Default constructor using default queue capacity.
+     */
+    public MessageTraceWriter() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor using max number of queued trace entries.
+     * @param queueCapacity
+     */
+    public MessageTraceWriter(int queueCapacity) {
+        this(queueCapacity, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Constructor using max number of queued trace entries and max time to wait for the writer.
+     * @param queueCapacity
+     * @param timeout
+     */
+    public MessageTraceWriter(int queueCapacity, long timeout) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens a new trace with given key. The trace file is resolved and the header is written with the first entry
+     * written for this trace.
+     * @param traceKey
+     * @param traceFile
+     * @param header
+     */
+    public void open(String traceKey, Supplier<File> traceFile, String header) {
+        enqueue(new TraceEntry(EntryType.OPEN, traceKey, traceFile, header, null));
+    }
+
+    /**
+     * Appends entry to the trace with given key.
+     * @param traceKey
+     * @param entry
+     */
+    public void append(String traceKey, String entry) {
+        enqueue(new TraceEntry(EntryType.APPEND, traceKey, null, entry, null));
+    }
+
+    /**
+     * Closes the trace with given key. Blocks until all previously queued entries of this trace have been written
+     * or the timeout is reached.
+     * @param traceKey
+     */
+    public void close(String traceKey) {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        enqueue(new TraceEntry(EntryType.CLOSE, traceKey, null, null, closed));
+
+        try {
+            closed.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e.getCause());
+        } catch (TimeoutException e) {
+            throw new CitrusRuntimeException(String.format("Failed to write message trace to filesystem - timeout after %s milliseconds", timeout), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting to write message trace", e);
+        }
+    }
+
+    private void enqueue(TraceEntry entry) {
+        ensureStarted();
+
+        try {
+            if (!queue.offer(entry, timeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Failed to write message trace - timeout after %s milliseconds " +
+                        "waiting for the trace writer", timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting to write message trace", e);
+        }
+    }
+
+    private synchronized void ensureStarted() {
+        if (writerThread == null || !writerThread.isAlive()) {
+            writerThread = new Thread(this::run, "citrus-message-trace-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+    /**
+     * Writer loop drains queued entries in batches and flushes open traces each time the queue runs empty.
+     */
+    private void run() {
+        List<TraceEntry> batch = new ArrayList<>();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+
+                for (TraceEntry entry : batch) {
+                    try {
+                        handle(entry);
+                    } catch (Throwable e) {
+                        logger.warn(String.format("Failed to handle message trace entry for trace '%s'", entry.traceKey), e);
+                        if (entry.closed != null) {
+                            entry.closed.completeExceptionally(e);
+                        }
+                    }
+                }
+
+                if (queue.isEmpty()) {
+                    flushAll();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void handle(TraceEntry entry) {
+        switch (entry.type) {
+            case OPEN:
+                Trace previous = traces.put(entry.traceKey, new Trace(entry.traceFile, entry.text));
+                if (previous != null) {
+                    previous.close();
+                }
+                break;
+            case APPEND:
+                Trace trace = traces.get(entry.traceKey);
+                if (trace != null) {
+                    trace.write(entry.text);
+                } else if (logger.isDebugEnabled()) {
+                    logger.debug(String.format("Ignoring message trace entry for unknown trace '%s'", entry.traceKey));
+                }
+                break;
+            case CLOSE:
+                Trace closed = traces.remove(entry.traceKey);
+                IOException error = closed != null ? closed.close() : null;
+
+                if (error != null) {
+                    entry.closed.completeExceptionally(error);
+                } else {
+                    entry.closed.complete(null);
+                }
+                break;
+        }
+    }
+
+    private void flushAll() {
+        for (Trace trace : traces.values()) {
+            try {
+                trace.flush();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to flush message trace", e);
+            }
+        }
+    }
+
+    /**
+     * Single trace file with lazily opened writer. The first I/O error is kept and reported when the trace is closed.
+     */
+    private static class Trace {
+        private final Supplier<File> traceFile;
+        private final String header;
+        private Writer writer;
+        private IOException error;
+
+        Trace(Supplier<File> traceFile, String header) {
+            this.traceFile = traceFile;
+            this.header = header;
+        }
+
+        void write(String text) {
+            if (error != null) {
+                return;
+            }
+
+            try {
+                if (writer == null) {
+                    writer = new BufferedWriter(new FileWriter(traceFile.get()));
+                    writer.write(header);
+                }
+
+                writer.write(text);
+            } catch (IOException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                error = new IOException(e.getMessage(), e);
+            }
+        }
+
+        void flush() {
+            if (writer != null && error == null) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+        }
+
+        IOException close() {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    if (error == null) {
+                        error = e;
+                    }
+                }
+            }
+
+            return error;
+        }
+    }
+
+    private enum EntryType {
+        OPEN,
+        APPEND,
+        CLOSE
+    }
+
+    /**
+     * Queued trace entry.
+     */
+    private static class TraceEntry {
+        private final EntryType type;
+        private final String traceKey;
+        private final Supplier<File> traceFile;
+        private final String text;
+        private final CompletableFuture<Void> closed;
+
+        TraceEntry(EntryType type, String traceKey, Supplier<File> traceFile, String text, CompletableFuture<Void> closed) {
+            this.type = type;
+            this.traceKey = traceKey;
+            this.traceFile = traceFile;
+            this.text = text;
+            this.closed = closed;
+        }
+    }
+}
@@ -16,21 +16,21 @@
 
 package org.citrusframework.report;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.TestCase;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.log.LogMessageModifier;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.RawMessage;
+import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,8 +38,9 @@ import org.slf4j.LoggerFactory;
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
  *
- * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
- * Proper correlation to test case is not possible here.
+ * Messages are correlated to the test case via the test name and package variables in the test context, so parallel
+ * tests get separate traces. Trace entries are streamed to the trace file by an asynchronous {@link MessageTraceWriter}
+ * while the test is running. Traced message content may be limited to a max number of characters.
  *
  * @author Christoph Deppisch
  * @since 1.2
@@ -55,23 +56,47 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** Output directory */
     private String outputDirectory = CitrusSettings.getMessageTraceDirectory();
 
-    /** List of messages to trace */
-    private final List<String> messages = new ArrayList<>();
+    /** Max number of characters traced per message, negative value disables the limit */
+    private int maxPayloadSize = CitrusSettings.getMessageTraceMaxPayloadSize();
 
-    /** Locking object for synchronization */
-    private final Object lockObject = new Object();
+    /** Asynchronous writer streaming trace entries to the trace files */
+    private final MessageTraceWriter traceWriter;
+
+    /** Keys of traces for currently running tests */
+    private final Set<String> activeTraces = ConcurrentHashMap.newKeySet();
+
+    /** Trace of the test started on a thread, used when test context does not provide the test name. Tests may finish
+     *  on another thread than the one they have been started on, so entries are removed by trace key. */
+    private final Map<Thread, String> threadTraces = new ConcurrentHashMap<>();
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(MessageTracingTestListener.class);
 
+    /**
+     * Default constructor using default message trace writer.
+     */
+    public MessageTracingTestListener() {
+        this(new MessageTraceWriter());
+    }
+
+    /**
+     * Constructor using given message trace writer.
+     * @param traceWriter
+     */
+    public MessageTracingTestListener(MessageTraceWriter traceWriter) {
+        this.traceWriter = traceWriter;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void onTestStart(TestCase test) {
-        synchronized (lockObject) {
-            messages.clear();
-        }
+        String traceKey = getTraceKey(test.getName(), test.getPackageName());
+
+        activeTraces.add(traceKey);
+        threadTraces.put(Thread.currentThread(), traceKey);
+        traceWriter.open(traceKey, () -> getTraceFile(test.getName()), separator() + newLine() + newLine());
     }
 
     /**
@@ -79,42 +104,125 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
-        if (messages.isEmpty()) {
-            return; // do not write empty message trace file
+        String traceKey = getTraceKey(test.getName(), test.getPackageName());
+
+        activeTraces.remove(traceKey);
+        threadTraces.values().removeIf(traceKey::equals);
+        traceWriter.close(traceKey);
+    }
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+        trace("INBOUND_MESSAGE:", message, context);
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+        trace("OUTBOUND_MESSAGE:", message, context);
+    }
+
+    /**
+     * Appends message to the trace of the test that the given context belongs to. Messages that can not be correlated
+     * to a running test are not traced.
+     * @param direction
+     * @param message
+     * @param context
+     */
+    private void trace(String direction, Message message, TestContext context) {
+        if (!(message instanceof RawMessage)) {
+            return;
         }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
-            writer.write(separator() + newLine() + newLine());
+        String traceKey = resolveTraceKey(context);
+        if (traceKey == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Unable to correlate message to a running test - skip message trace");
+            }
+            return;
+        }
 
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
+        traceWriter.append(traceKey, direction + newLine() + newLine() + print(message, context) +
+                newLine() + separator() + newLine() + newLine());
+    }
+
+    /**
+     * Resolves the trace key of the running test from the test name variables in the given context. Falls back to the
+     * test started on the current thread or the only running test.
+     * @param context
+     * @return the trace key or null if no running test matches
+     */
+    private String resolveTraceKey(TestContext context) {
+        if (context != null && context.getVariables().containsKey(CitrusSettings.TEST_NAME_VARIABLE)) {
+            Object packageName = context.getVariables().get(CitrusSettings.TEST_PACKAGE_VARIABLE);
+            String traceKey = getTraceKey(context.getVariables().get(CitrusSettings.TEST_NAME_VARIABLE).toString(),
+                    packageName != null ? packageName.toString() : null);
+
+            if (activeTraces.contains(traceKey)) {
+                return traceKey;
             }
+        }
+
+        String threadTrace = threadTraces.get(Thread.currentThread());
+        if (threadTrace != null) {
+            return threadTrace;
+        }
 
-            writer.flush();
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
+        if (activeTraces.size() == 1) {
+            return activeTraces.iterator().next();
         }
+
+        return null;
     }
 
-    @Override
-    public void onInboundMessage(Message message, TestContext context) {
-        if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+    /**
+     * Prints the message for the trace. Payloads exceeding the max payload size are masked and truncated before they get
+     * pretty printed, so large payloads are not formatted as a whole only to be cut off afterwards.
+     * @param message
+     * @param context
+     * @return
+     */
+    private String print(Message message, TestContext context) {
+        if (maxPayloadSize < 0) {
+            return message.print(context);
+        }
+
+        String payload = message.getPayload(String.class);
+        if (payload == null || payload.length() <= maxPayloadSize) {
+            return message.print(context);
         }
+
+        if (context == null) {
+            return message.print(truncate(message.getPayload(String.class).trim()), message.getHeaders(), message.getHeaderData());
+        }
+
+        if (context.getLogModifier() instanceof LogMessageModifier modifier) {
+            return message.print(truncate(modifier.maskBody(message)), modifier.maskHeaders(message), modifier.maskHeaderData(message));
+        }
+
+        return message.print(truncate(context.getLogModifier().mask(message.getPayload(String.class).trim())),
+                message.getHeaders(), message.getHeaderData());
     }
 
-    @Override
-    public void onOutboundMessage(Message message, TestContext context) {
-        if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+    /**
+     * Limits the traced message content to the max payload size.
+     * @param content
+     * @return
+     */
+    private String truncate(String content) {
+        if (maxPayloadSize < 0 || content == null || content.length() <= maxPayloadSize) {
+            return content;
         }
+
+        return content.substring(0, maxPayloadSize) +
+                String.format("... [truncated %s characters]", content.length() - maxPayloadSize);
+    }
+
+    private String getTraceKey(String testName, String packageName) {
+        if (StringUtils.hasText(packageName)) {
+            return packageName + "." + testName;
+        }
+
+        return testName;
     }
 
     /**
@@ -164,4 +272,20 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectory = outputDirectory;
     }
+
+    /**
+     * Sets the max number of characters traced per message.
+     * @param maxPayloadSize the maxPayloadSize to set
+     */
+    public void setMaxPayloadSize(int maxPayloadSize) {
+        this.maxPayloadSize = maxPayloadSize;
+    }
+
+    /**
+     * Gets the maxPayloadSize.
+     * @return
+     */
+    public int getMaxPayloadSize() {
+        return maxPayloadSize;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.citrusframework.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Temporary file collecting rendered test result content while tests are running. Reporters append each result as soon
+ * as the test has finished and transfer the spooled content to the final report file at the end of the suite, so the
+ * report content is never held in memory as a whole. The spool keeps track of the number of appended results per result
+ * state.
+ *
+ * The spool file is kept open for writing until the spooled content is transferred or the spool is closed. Reporters must
+ * delete the spool once the report has been written in order to release the open file and remove the spool file.
+ *
+ * @since 4.2
+ */
+public class ReportSpool {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ReportSpool.class);
+
+    /** Spool file, created with first appended content */
+    private File spoolFile;
+
+    /** Open writer on the spool file */
+    private Writer spoolWriter;
+
+    /** Result counters */
+    private int count;
+    private int success;
+    private int failed;
+    private int skipped;
+
+    /**
+     * Appends rendered content for given test result.
+     * @param result
+     * @param content
+     * @throws IOException
+     */
+    public synchronized void append(TestResult result, String content) throws IOException {
+        if (spoolWriter == null) {
+            if (spoolFile == null) {
+                spoolFile = File.createTempFile("citrus-report", ".spool");
+            }
+
+            spoolWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(spoolFile, true), StandardCharsets.UTF_8));
+        }
+
+        spoolWriter.write(content);
+
+        count++;
+        if (result.isSuccess()) {
+            success++;
+        } else if (result.isFailed()) {
+            failed++;
+        } else if (result.isSkipped()) {
+            skipped++;
+        }
+    }
+
+    /**
+     * Transfers the spooled content to given writer.
+     * @param writer
+     * @throws IOException
+     */
+    public synchronized void transferTo(Writer writer) throws IOException {
+        if (spoolFile == null) {
+            return;
+        }
+
+        close();
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(spoolFile), StandardCharsets.UTF_8))) {
+            reader.transferTo(writer);
+        }
+    }
+
+    /**
+     * Closes the open writer on the spool file. Subsequent appends reopen the spool file.
+     * @throws IOException
+     */
+    public synchronized void close() throws IOException {
+        if (spoolWriter != null) {
+            try {
+                spoolWriter.close();
+            } finally {
+                spoolWriter = null;
+            }
+        }
+    }
+
+    /**
+     * Closes and deletes the spool file.
+     */
+    public synchronized void delete() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.warn("Failed to close report spool file", e);
+        }
+
+        if (spoolFile != null && spoolFile.exists() && !spoolFile.delete()) {
+            logger.warn(String.format("Failed to delete report spool file '%s'", spoolFile.getAbsolutePath()));
+        }
+
+        spoolFile = null;
+    }
+
+    /**
+     * Gets the number of spooled results.
+     * @return
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of spooled results in success.
+     * @return
+     */
+    public synchronized int getSuccess() {
+        return success;
+    }
+
+    /**
+     * Gets the number of spooled failed results.
+     * @return
+     */
+    public synchronized int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the number of spooled skipped results.
+     * @return
+     */
+    public synchronized int getSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.FileUtils;
+
+/**
+ * Report template precompiled into literal text and property placeholder segments. Placeholders use the same
+ * <code>@property.name@</code> syntax as {@link org.citrusframework.util.PropertyUtils#replacePropertiesInString(String, Properties)}
+ * including escaped markers. The template is parsed once and rendered many times directly to a writer without
+ * building intermediate strings.
+ *
+ * Templates can be split at a placeholder so reporters are able to stream large content such as the list of test
+ * results in between the head and the tail of the template.
+ *
+ * @since 4.2
+ */
+public final class ReportTemplate {
+
+    /** Property marker */
+    private static final char PROPERTY_MARKER = '@';
+
+    /** Template segments, either literal text or property names */
+    private final List<Segment> segments;
+
+    private ReportTemplate(List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Loads and compiles the template from given resource path.
+     * @param templatePath
+     * @return
+     * @throws IOException
+     */
+    public static ReportTemplate load(String templatePath) throws IOException {
+        return compile(FileUtils.readToString(FileUtils.getFileResource(templatePath)));
+    }
+
+    /**
+     * Compiles given template content.
+     * @param template
+     * @return
+     */
+    public static ReportTemplate compile(String template) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = template.indexOf(PROPERTY_MARKER, startIndex)) != -1) {
+            if (searchIndex != 0 && template.charAt(searchIndex - 1) == '\\') {
+                literal.append(template, startIndex, searchIndex - 1).append(PROPERTY_MARKER);
+                startIndex = searchIndex + 1;
+                continue;
+            }
+
+            int endIndex = template.indexOf(PROPERTY_MARKER, searchIndex + 1);
+            if (endIndex == -1) {
+                throw new CitrusRuntimeException("No such property '" +
+                        PROPERTY_MARKER + template.substring(searchIndex + 1) + PROPERTY_MARKER + "'");
+            }
+
+            literal.append(template, startIndex, searchIndex);
+            if (literal.length() > 0) {
+                segments.add(new Segment(literal.toString(), false));
+                literal.setLength(0);
+            }
+
+            segments.add(new Segment(template.substring(searchIndex + 1, endIndex), true));
+            startIndex = endIndex + 1;
+        }
+
+        literal.append(template.substring(startIndex));
+        if (literal.length() > 0) {
+            segments.add(new Segment(literal.toString(), false));
+        }
+
+        return new ReportTemplate(segments);
+    }
+
+    /**
+     * Renders this template with given properties to the writer.
+     * @param writer
+     * @param properties
+     * @throws IOException
+     */
+    public void render(Writer writer, Properties properties) throws IOException {
+        for (Segment segment : segments) {
+            if (segment.property) {
+                if (!properties.containsKey(segment.text)) {
+                    throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + segment.text + PROPERTY_MARKER + "'");
+                }
+
+                writer.write(properties.getProperty(segment.text, ""));
+            } else {
+                writer.write(segment.text);
+            }
+        }
+    }
+
+    /**
+     * Renders this template with given properties to a string.
+     * @param properties
+     * @return
+     */
+    public String render(Properties properties) {
+        StringWriter writer = new StringWriter();
+        try {
+            render(writer, properties);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Gets the part of this template before the first placeholder of given property.
+     * @param property
+     * @return
+     */
+    public ReportTemplate before(String property) {
+        return new ReportTemplate(segments.subList(0, indexOf(property)));
+    }
+
+    /**
+     * Gets the part of this template after the first placeholder of given property.
+     * @param property
+     * @return
+     */
+    public ReportTemplate after(String property) {
+        return new ReportTemplate(segments.subList(indexOf(property) + 1, segments.size()));
+    }
+
+    private int indexOf(String property) {
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (segment.property && segment.text.equals(property)) {
+                return i;
+            }
+        }
+
+        throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + property + PROPERTY_MARKER + "' in report template");
+    }
+
+    /**
+     * Template segment holding either literal text or a property name.
+     */
+    private static class Segment {
+        private final String text;
+        private final boolean property;
+
+        Segment(String text, boolean property) {
+            this.text = text;
+            this.property = property;
+        }
+    }
+}
@@ -43,14 +43,15 @@ public class SummaryReporter extends AbstractOutputFileReporter {
     @Override
     protected String getReportContent(TestResults testResults) {
         try {
+            TestResults.Snapshot summary = testResults.snapshot();
             Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
-            reportProps.put("skipped.test.pct", testResults.getSkippedPercentage());
-            reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
-            reportProps.put("failed.test.pct", testResults.getFailedPercentage());
-            reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
-            reportProps.put("success.test.pct", testResults.getSuccessPercentage());
+            reportProps.put("test.cnt", Integer.toString(summary.getSize()));
+            reportProps.put("skipped.test.cnt", Integer.toString(summary.getSkipped()));
+            reportProps.put("skipped.test.pct", summary.getSkippedPercentage());
+            reportProps.put("failed.test.cnt", Integer.toString(summary.getFailed()));
+            reportProps.put("failed.test.pct", summary.getFailedPercentage());
+            reportProps.put("success.test.cnt", Integer.toString(summary.getSuccess()));
+            reportProps.put("success.test.pct", summary.getSuccessPercentage());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate summary test report", e);
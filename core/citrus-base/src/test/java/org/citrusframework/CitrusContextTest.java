@@ -19,8 +19,11 @@
 
 package org.citrusframework;
 
+import java.util.concurrent.TimeUnit;
+
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.BindToRegistry;
+import org.citrusframework.util.ManagedExecutorService;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -43,6 +46,31 @@ public class CitrusContextTest {
         Assert.assertEquals(context.getReferenceResolver().resolve("foobar"), "FooBar");
     }
 
+    @Test
+    public void shouldShutdownOwnExecutorServiceOnClose() {
+        CitrusContext context = CitrusContext.Builder.defaultContext().build();
+        context.close();
+
+        Assert.assertTrue(context.getExecutorService().isShutdown());
+    }
+
+    @Test
+    public void shouldNotShutdownProvidedExecutorServiceOnClose() throws Exception {
+        ManagedExecutorService executorService = new ManagedExecutorService(ManagedExecutorService.Mode.POOL, 1);
+        CitrusContext context = CitrusContext.Builder.defaultContext()
+                .executorService(executorService)
+                .build();
+
+        try {
+            context.close();
+
+            Assert.assertFalse(executorService.isShutdown());
+            Assert.assertEquals(executorService.submit(() -> "foo").get(5, TimeUnit.SECONDS), "foo");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     public static class FooConfig {
         @BindToRegistry
         String bar = "Bar";
@@ -20,6 +20,7 @@ import org.citrusframework.condition.Condition;
 import org.citrusframework.container.Wait;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.ManagedExecutorService;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
@@ -146,6 +147,7 @@ public class WaitTest {
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
+        when(contextMock.getExecutorService()).thenReturn(ManagedExecutorService.getDefault());
     }
 
     private Wait getWaitAction(String waitTimeSeconds, String interval) {
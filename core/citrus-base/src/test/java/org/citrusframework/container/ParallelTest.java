@@ -18,6 +18,9 @@ package org.citrusframework.container;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.TestAction;
 import org.citrusframework.UnitTestSupport;
@@ -25,7 +28,9 @@ import org.citrusframework.actions.EchoAction;
 import org.citrusframework.actions.FailAction;
 import org.citrusframework.actions.SleepAction;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ParallelContainerException;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
@@ -150,4 +155,118 @@ public class ParallelTest extends UnitTestSupport {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            actionList.add(ctx -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        Parallel parallelAction = new Parallel.Builder()
+                .maxConcurrency(2)
+                .build();
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+        Assert.assertEquals(parallelAction.getExecutedActions().size(), 10);
+        Assert.assertEquals(parallelAction.getExecutionTimes().size(), 10);
+        Assert.assertTrue(parallelAction.getExecutionTimes().stream().allMatch(time -> time >= 20L));
+    }
+
+    @Test
+    public void testCustomExecutorService() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Parallel parallelAction = new Parallel.Builder()
+                    .executorService(executorService)
+                    .build();
+
+            reset(action);
+
+            List<TestAction> actionList = new ArrayList<>();
+            actionList.add(new EchoAction.Builder().build());
+            actionList.add(action);
+            parallelAction.setActions(actionList);
+
+            parallelAction.execute(context);
+            parallelAction.execute(context);
+
+            verify(action, Mockito.times(2)).execute(context);
+            Assert.assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailFast() {
+        AtomicInteger completed = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<>();
+        actionList.add(new FailAction.Builder().build());
+        for (int i = 0; i < 5; i++) {
+            actionList.add(ctx -> {
+                try {
+                    Thread.sleep(5000L);
+                    completed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    throw new CitrusRuntimeException("Interrupted", e);
+                }
+            });
+        }
+
+        Parallel parallelAction = new Parallel.Builder()
+                .failFast()
+                .build();
+        parallelAction.setActions(actionList);
+
+        long started = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (ParallelContainerException e) {
+            Assert.fail("Unexpected errors of cancelled actions", e);
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Generated error to interrupt test execution");
+        }
+
+        Assert.assertTrue(System.currentTimeMillis() - started < 5000L);
+        Assert.assertEquals(completed.get(), 0);
+    }
+
+    @Test
+    public void testRepeatedExecutionAfterFailure() {
+        AtomicInteger failures = new AtomicInteger(1);
+
+        Parallel parallelAction = new Parallel.Builder().build();
+        parallelAction.setActions(List.of(new EchoAction.Builder().build(), ctx -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new CitrusRuntimeException("Failed once");
+            }
+        }));
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed once");
+        }
+
+        parallelAction.execute(context);
+    }
 }
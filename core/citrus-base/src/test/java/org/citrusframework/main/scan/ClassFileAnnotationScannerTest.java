@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.main.scan;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClassFileAnnotationScannerTest {
+
+    private static boolean initialized = false;
+
+    private final ClassFileAnnotationScanner scanner =
+            new ClassFileAnnotationScanner(SampleTest.class, ClassFileAnnotationScannerTest.class.getClassLoader()::getResourceAsStream);
+
+    private final ClassFileAnnotationScanner inheritedScanner =
+            new ClassFileAnnotationScanner(InheritedSampleTest.class, ClassFileAnnotationScannerTest.class.getClassLoader()::getResourceAsStream);
+
+    @Test
+    public void testAnnotatedClass() throws IOException {
+        Assert.assertTrue(scanner.isAnnotated(AnnotatedClass.class.getName()));
+        Assert.assertFalse(inheritedScanner.isAnnotated(AnnotatedClass.class.getName()));
+        Assert.assertFalse(scanner.isAnnotated(NoTests.class.getName()));
+    }
+
+    @Test
+    public void testAnnotatedMethod() throws IOException {
+        Assert.assertTrue(scanner.isAnnotated(AnnotatedMethod.class.getName()));
+        Assert.assertFalse(inheritedScanner.isAnnotated(AnnotatedMethod.class.getName()));
+    }
+
+    @Test
+    public void testSuperclassHierarchy() throws IOException {
+        Assert.assertTrue(scanner.isAnnotated(InheritedAnnotatedMethod.class.getName()));
+        Assert.assertFalse(scanner.isAnnotated(SubclassOfAnnotatedClass.class.getName()));
+        Assert.assertTrue(inheritedScanner.isAnnotated(SubclassOfInheritedAnnotatedClass.class.getName()));
+    }
+
+    @Test
+    public void testClassNotInitialized() throws IOException {
+        Assert.assertTrue(scanner.isAnnotated("org.citrusframework.main.scan.ClassFileAnnotationScannerTest$StaticInitializer"));
+        Assert.assertFalse(initialized);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testMissingClassFile() throws IOException {
+        scanner.isAnnotated("org.citrusframework.main.scan.UnknownTest");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SampleTest {
+        String[] groups() default {};
+        int priority() default 0;
+        ElementType type() default ElementType.METHOD;
+        Class<?> expected() default Void.class;
+        Retention retention() default @Retention(RetentionPolicy.RUNTIME);
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface InheritedSampleTest {
+    }
+
+    @Deprecated
+    @SampleTest(groups = { "foo", "bar" }, priority = 1, type = ElementType.TYPE, expected = String.class)
+    static class AnnotatedClass {
+    }
+
+    static class SubclassOfAnnotatedClass extends AnnotatedClass {
+    }
+
+    @InheritedSampleTest
+    static class InheritedAnnotatedClass {
+    }
+
+    static class SubclassOfInheritedAnnotatedClass extends InheritedAnnotatedClass {
+    }
+
+    static class AnnotatedMethod {
+        private static final long TIMEOUT = 5000L;
+        private final double ratio = 0.5D;
+
+        @Deprecated
+        public void noTest() {
+        }
+
+        @SampleTest(retention = @Retention(RetentionPolicy.CLASS))
+        public void test() {
+        }
+    }
+
+    static class InheritedAnnotatedMethod extends AnnotatedMethod {
+    }
+
+    static class NoTests {
+        public void test() {
+        }
+    }
+
+    static class StaticInitializer {
+        static {
+            initialized = true;
+        }
+
+        @SampleTest
+        public void test() {
+        }
+    }
+}
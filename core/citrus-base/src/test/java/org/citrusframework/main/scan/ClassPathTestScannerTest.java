@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.scan;
+
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClassPathTestScannerTest {
+
+    @Test
+    public void testReadClassFilesWithCallerClassLoader() throws Exception {
+        RecordingClassLoader classLoader = new RecordingClassLoader(ClassPathTestScannerTest.class.getClassLoader());
+
+        ClassPathTestScanner scanner;
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            scanner = new ClassPathTestScanner(ClassFileAnnotationScannerTest.SampleTest.class, ".*");
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+
+        String className = ClassFileAnnotationScannerTest.class.getName() + "$AnnotatedClass";
+        Assert.assertTrue(CompletableFuture.supplyAsync(() -> scanner.isIncluded(className)).get());
+        Assert.assertTrue(classLoader.resources.contains(className.replace('.', '/') + ".class"));
+    }
+
+    private static class RecordingClassLoader extends ClassLoader {
+        private final Set<String> resources = ConcurrentHashMap.newKeySet();
+
+        RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            resources.add(name);
+            return super.getResourceAsStream(name);
+        }
+    }
+}
@@ -16,9 +16,14 @@
 
 package org.citrusframework.message;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.citrusframework.context.TestContext;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
 import org.citrusframework.message.selector.HeaderMatchingMessageSelector;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -77,6 +82,7 @@ public class DefaultMessageQueueTest {
     public void testRetryExceeded() {
         DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
         queue.setPollingInterval(500L);
+        queue.setHeaderIndexEnabled(false);
 
         queue.send(new DefaultMessage("FooMessage").setHeader("foos", "bars"));
 
@@ -99,6 +105,7 @@ public class DefaultMessageQueueTest {
     public void testRetryExceededWithTimeoutRest() {
         DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
         queue.setPollingInterval(400L);
+        queue.setHeaderIndexEnabled(false);
 
         queue.send(new DefaultMessage("FooMessage").setHeader("foos", "bars"));
 
@@ -116,4 +123,106 @@ public class DefaultMessageQueueTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testSendWakesUpWaitingReceiver() throws Exception {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.setPollingInterval(10000L);
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Message> received = executor.submit(() -> queue.receive(selector, 20000L));
+
+        Thread.sleep(100L);
+        long sent = System.currentTimeMillis();
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        Message receivedMessage = received.get(5000L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(System.currentTimeMillis() - sent < 5000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSendWakesUpMatchingReceiverOnly() throws Exception {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.setPollingInterval(10000L);
+
+        MessageSelector fooSelector = new HeaderMatchingMessageSelector("foo", "bar", context);
+        MessageSelector barSelector = new HeaderMatchingMessageSelector("bar", "foo", context);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Message> fooReceived = executor.submit(() -> queue.receive(fooSelector, 20000L));
+        Future<Message> barReceived = executor.submit(() -> queue.receive(barSelector, 20000L));
+
+        Thread.sleep(100L);
+        queue.send(new DefaultMessage("BarMessage").setHeader("bar", "foo"));
+
+        Assert.assertEquals(barReceived.get(5000L, TimeUnit.MILLISECONDS).getPayload(), "BarMessage");
+        Assert.assertFalse(fooReceived.isDone());
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        Assert.assertEquals(fooReceived.get(5000L, TimeUnit.MILLISECONDS).getPayload(), "FooMessage");
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReceiveSelectedWithHeaderIndex() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        for (int i = 0; i < 1000; i++) {
+            queue.send(new DefaultMessage("Message" + i).setHeader("correlationId", String.valueOf(i)));
+        }
+
+        final AtomicLong accepted = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("correlationId", "500", context) {
+            @Override
+            public boolean accept(Message message) {
+                accepted.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Message receivedMessage = queue.receive(selector, 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "Message500");
+        Assert.assertEquals(accepted.get(), 1L);
+        Assert.assertNull(queue.receive(selector));
+        Assert.assertEquals(accepted.get(), 1L);
+
+        Assert.assertEquals(queue.receive().getPayload(), "Message0");
+    }
+
+    @Test
+    public void testReceiveSelectedWithHeaderIndexInSendOrder() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FirstMessage").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other"));
+        queue.send(new DefaultMessage("SecondMessage").setHeader("foo", "bar"));
+
+        MessageSelector selector = new DelegatingMessageSelector("foo = 'bar'", context);
+
+        Assert.assertEquals(queue.receive(selector).getPayload(), "FirstMessage");
+        Assert.assertEquals(queue.receive(selector).getPayload(), "SecondMessage");
+        Assert.assertNull(queue.receive(selector));
+        Assert.assertEquals(queue.receive().getPayload(), "OtherMessage");
+    }
+
+    @Test
+    public void testPurgeWithHeaderIndex() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("BarMessage").setHeader("foo", "other"));
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        queue.purge(new HeaderMatchingMessageSelector("foo", "bar", context));
+
+        Assert.assertEquals(queue.receive().getPayload(), "BarMessage");
+        Assert.assertNull(queue.receive());
+    }
 }
@@ -19,6 +19,9 @@
 
 package org.citrusframework.message;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import org.citrusframework.UnitTestSupport;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -110,4 +113,48 @@ public class DefaultMessageTest extends UnitTestSupport {
                     "citrus_message_id=%s, citrus_message_timestamp=%s, operation=getCredentials, password=****, secretKey=****" +
                 "}]", message.getId(), message.getId(), message.getTimestamp()));
     }
+
+    @Test
+    public void testParsedPayloadCache() throws Exception {
+        DefaultMessage message = new DefaultMessage("foo");
+        AtomicInteger parseCount = new AtomicInteger();
+        Function<Message, String> parser = m -> {
+            parseCount.incrementAndGet();
+            return m.getPayload(String.class).toUpperCase();
+        };
+
+        // no cache scope opened
+        Assert.assertEquals(message.getParsedPayload(String.class, parser), "FOO");
+        Assert.assertEquals(message.getParsedPayload(String.class, parser), "FOO");
+        Assert.assertEquals(parseCount.get(), 2);
+
+        try (ParsedPayloadCache ignored = ParsedPayloadCache.open()) {
+            Assert.assertEquals(message.getParsedPayload(String.class, parser), "FOO");
+            Assert.assertEquals(message.getParsedPayload(String.class, parser), "FOO");
+            Assert.assertEquals(parseCount.get(), 3);
+
+            try (ParsedPayloadCache nested = ParsedPayloadCache.open()) {
+                Assert.assertEquals(message.getParsedPayload(Integer.class, m -> m.getPayload(String.class).length()), 3);
+                Assert.assertEquals(message.getParsedPayload(String.class, parser), "FOO");
+                Assert.assertEquals(parseCount.get(), 3);
+            }
+
+            // other threads do not share the cache
+            Thread thread = new Thread(() -> message.getParsedPayload(String.class, parser));
+            thread.start();
+            thread.join();
+            Assert.assertEquals(parseCount.get(), 4);
+
+            message.setPayload("bar");
+            Assert.assertEquals(message.getParsedPayload(String.class, parser), "BAR");
+            Assert.assertEquals(parseCount.get(), 5);
+
+            Assert.assertEquals(new DefaultMessage(message).getParsedPayload(String.class, parser), "BAR");
+            Assert.assertEquals(parseCount.get(), 6);
+        }
+
+        // cache released when scope is closed
+        Assert.assertEquals(message.getParsedPayload(String.class, parser), "BAR");
+        Assert.assertEquals(parseCount.get(), 7);
+    }
 }
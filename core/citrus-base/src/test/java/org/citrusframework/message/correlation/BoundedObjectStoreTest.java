@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.correlation;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BoundedObjectStoreTest {
+
+    @Test
+    public void testAddAndRemove() {
+        BoundedObjectStore<String> store = new BoundedObjectStore<>(10, 10000L);
+
+        store.add("foo", "bar");
+        Assert.assertEquals(store.getSize(), 1);
+        Assert.assertEquals(store.remove("foo"), "bar");
+        Assert.assertNull(store.remove("foo"));
+        Assert.assertEquals(store.getSize(), 0);
+        Assert.assertEquals(store.getEvictionCount(), 0L);
+    }
+
+    @Test
+    public void testMaxSizeEviction() {
+        BoundedObjectStore<String> store = new BoundedObjectStore<>(3, 10000L);
+
+        for (String key : new String[]{"1", "2", "3", "4", "5"}) {
+            store.add(key, "value" + key);
+        }
+
+        Assert.assertEquals(store.getSize(), 3);
+        Assert.assertEquals(store.getEvictionCount(), 2L);
+        Assert.assertNull(store.remove("1"));
+        Assert.assertNull(store.remove("2"));
+        Assert.assertEquals(store.remove("3"), "value3");
+        Assert.assertEquals(store.remove("5"), "value5");
+    }
+
+    @Test
+    public void testTimeToLiveEviction() throws InterruptedException {
+        BoundedObjectStore<String> store = new BoundedObjectStore<>(10, 100L);
+
+        store.add("foo", "bar");
+        store.add("bar", "foo");
+        Thread.sleep(200L);
+
+        store.evictExpired();
+        Assert.assertEquals(store.getEvictionCount(), 2L);
+        Assert.assertEquals(store.getSize(), 0);
+        Assert.assertNull(store.remove("foo"));
+    }
+
+    @Test
+    public void testExpiredObjectsEvictedOnRemove() throws InterruptedException {
+        BoundedObjectStore<String> store = new BoundedObjectStore<>(10, 100L);
+
+        store.add("foo", "bar");
+        store.add("bar", "foo");
+        Thread.sleep(200L);
+
+        // remove of unknown key evicts all expired objects
+        Assert.assertNull(store.remove("unknown"));
+        Assert.assertEquals(store.getEvictionCount(), 2L);
+        Assert.assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testSizeEvictsExpiredObjects() throws InterruptedException {
+        BoundedObjectStore<String> store = new BoundedObjectStore<>(10, 100L);
+
+        store.add("foo", "bar");
+        Assert.assertEquals(store.size(), 1);
+        Thread.sleep(200L);
+
+        Assert.assertEquals(store.size(), 0);
+        Assert.assertEquals(store.getEvictionCount(), 1L);
+    }
+
+    @Test
+    public void testCorrelationManager() {
+        DefaultCorrelationManager<String> correlationManager = new DefaultCorrelationManager<>();
+        correlationManager.setObjectStore(new BoundedObjectStore<>(1, 10000L));
+
+        correlationManager.store("foo", "bar");
+        correlationManager.store("bar", "foo");
+
+        Assert.assertNull(correlationManager.find("foo", 0L));
+        Assert.assertEquals(correlationManager.find("bar", 0L), "foo");
+    }
+}
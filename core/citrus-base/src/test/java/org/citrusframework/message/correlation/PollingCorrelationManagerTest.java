@@ -16,6 +16,14 @@
 
 package org.citrusframework.message.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.AbstractPollableEndpointConfiguration;
 import org.citrusframework.endpoint.direct.DirectSyncEndpointConfiguration;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -84,4 +92,142 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
+
+    @Test
+    public void testFindNotifiedOnStore() throws Exception {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(10000L);
+        pollableEndpointConfiguration.setTimeout(20000L);
+
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> found = executor.submit(() -> correlationManager.find("foo"));
+
+        Thread.sleep(100L);
+        correlationManager.store("foo", "bar");
+
+        Assert.assertEquals(found.get(5000L, TimeUnit.MILLISECONDS), "bar");
+        Assert.assertEquals(correlationManager.getCorrelationMetrics().getFindCount(), 1L);
+        Assert.assertEquals(correlationManager.getCorrelationMetrics().getTimeoutCount(), 0L);
+        Assert.assertTrue(correlationManager.getCorrelationMetrics().getMaxWaitTime() < 5000L);
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testGetCorrelationKeyNotifiedOnSave() throws Exception {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        TestContext context = new TestContext();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> found = executor.submit(() -> correlationManager.getCorrelationKey("correlationKey", context));
+
+        Thread.sleep(100L);
+        correlationManager.saveCorrelationKey("correlationKey", "foo", context);
+
+        Assert.assertEquals(found.get(5000L, TimeUnit.MILLISECONDS), "foo");
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testGetCorrelationKeyRemovesPendingFuture() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        TestContext context = new TestContext();
+        context.setVariable("correlationKey", "foo");
+
+        Assert.assertEquals(correlationManager.getCorrelationKey("correlationKey", context), "foo");
+        Assert.assertFalse(correlationManager.hasPendingOperations());
+    }
+
+    @Test
+    public void testStatistics() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(200L);
+
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        correlationManager.store("foo", "bar");
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertNull(correlationManager.find("foo"));
+
+        CorrelationMetrics metrics = correlationManager.getCorrelationMetrics();
+        Assert.assertEquals(metrics.getFindCount(), 2L);
+        Assert.assertEquals(metrics.getTimeoutCount(), 1L);
+        Assert.assertTrue(metrics.getMaxWaitTime() >= 200L);
+        Assert.assertTrue(metrics.getTotalWaitTime() >= metrics.getMaxWaitTime());
+        Assert.assertFalse(correlationManager.hasPendingOperations());
+    }
+
+    @Test
+    public void testEndpointMetrics() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(200L);
+
+        PollingCorrelationManager<String> producerCorrelationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        PollingCorrelationManager<String> consumerCorrelationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        producerCorrelationManager.store("foo", "bar");
+        Assert.assertEquals(producerCorrelationManager.find("foo"), "bar");
+        Assert.assertNull(consumerCorrelationManager.find("foo"));
+
+        CorrelationMetrics metrics = pollableEndpointConfiguration.getCorrelationMetrics();
+        Assert.assertSame(producerCorrelationManager.getCorrelationMetrics(), metrics);
+        Assert.assertSame(consumerCorrelationManager.getCorrelationMetrics(), metrics);
+        Assert.assertEquals(metrics.getFindCount(), 2L);
+        Assert.assertEquals(metrics.getTimeoutCount(), 1L);
+        Assert.assertTrue(metrics.getMaxWaitTime() >= 200L);
+    }
+
+    @Test
+    public void testConfiguredBoundedObjectStore() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        Assert.assertTrue(new PollingCorrelationManager<String>(pollableEndpointConfiguration, "Try again").getObjectStore() instanceof DefaultObjectStore);
+
+        AbstractPollableEndpointConfiguration endpointConfiguration = new AbstractPollableEndpointConfiguration();
+        endpointConfiguration.setTimeout(0L);
+        endpointConfiguration.setCorrelationStoreMaxSize(2);
+        endpointConfiguration.setCorrelationStoreTimeToLive(10000L);
+
+        AtomicReference<String> name = new AtomicReference<>("fooEndpoint");
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(name::get, endpointConfiguration, "Try again");
+        Assert.assertTrue(correlationManager.getObjectStore() instanceof BoundedObjectStore);
+        Assert.assertEquals(((BoundedObjectStore<String>) correlationManager.getObjectStore()).getName(), "fooEndpoint");
+        name.set("barEndpoint");
+        Assert.assertEquals(((BoundedObjectStore<String>) correlationManager.getObjectStore()).getName(), "barEndpoint");
+        Assert.assertEquals(((BoundedObjectStore<String>) correlationManager.getObjectStore()).getMaxSize(), 2);
+        Assert.assertEquals(((BoundedObjectStore<String>) correlationManager.getObjectStore()).getTimeToLive(), 10000L);
+
+        correlationManager.store("1", "value1");
+        correlationManager.store("2", "value2");
+        correlationManager.store("3", "value3");
+        Assert.assertEquals(endpointConfiguration.getCorrelationMetrics().getStoredObjectCount(), 2L);
+
+        Assert.assertNull(correlationManager.find("1"));
+        Assert.assertEquals(correlationManager.find("3"), "value3");
+        Assert.assertEquals(endpointConfiguration.getCorrelationMetrics().getStoredObjectCount(), 1L);
+    }
+
+    @Test
+    public void testStoredObjectGauge() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setTimeout(0L);
+
+        PollingCorrelationManager<String> producerCorrelationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        PollingCorrelationManager<String> consumerCorrelationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        producerCorrelationManager.store("foo", "bar");
+        consumerCorrelationManager.store("bar", "foo");
+        Assert.assertEquals(pollableEndpointConfiguration.getCorrelationMetrics().getStoredObjectCount(), 2L);
+
+        consumerCorrelationManager.setObjectStore(new BoundedObjectStore<>());
+        Assert.assertEquals(pollableEndpointConfiguration.getCorrelationMetrics().getStoredObjectCount(), 1L);
+    }
 }
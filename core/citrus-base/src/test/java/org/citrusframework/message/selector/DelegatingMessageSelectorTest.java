@@ -66,6 +66,15 @@ public class DelegatingMessageSelectorTest extends UnitTestSupport {
         Assert.assertFalse(messageSelector.accept(declineMessage));
     }
 
+    @Test
+    public void testHeaderEqualityConditions() {
+        DelegatingMessageSelector messageSelector = new DelegatingMessageSelector("foo = 'bar' AND operation = '@startsWith(foo)@' AND payload = 'FooTest'", context);
+
+        Map<String, String> conditions = messageSelector.getHeaderEqualityConditions();
+        Assert.assertEquals(conditions.size(), 1L);
+        Assert.assertEquals(conditions.get("foo"), "bar");
+    }
+
     @Test
     public void testPayloadMatchingDelegation() {
         DelegatingMessageSelector messageSelector = new DelegatingMessageSelector("foo = 'bar' AND payload = 'FooTest'", context);
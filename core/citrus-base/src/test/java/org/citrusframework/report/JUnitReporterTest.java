@@ -16,9 +16,11 @@
 
 package org.citrusframework.report;
 
+import org.citrusframework.TestCase;
 import org.citrusframework.TestResult;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.TestUtils;
+import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -169,4 +171,61 @@ public class JUnitReporterTest {
         assertTrue(testSuiteFile.contains("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\""));
         assertTrue(testSuiteFile.contains("<failure type=\"\" message=\"Something went wrong!\">"));
     }
+
+    @Test
+    public void testGenerateStreamedTestResults() throws Exception {
+        JUnitReporter streamingReporter = new JUnitReporter();
+        streamingReporter.setSuiteName("streaming-suite");
+
+        TestCase fooTest = Mockito.mock(TestCase.class);
+        Mockito.when(fooTest.getName()).thenReturn("fooTest");
+        Mockito.when(fooTest.getTestClass()).thenReturn((Class) StreamingTest.class);
+        TestCase barTest = Mockito.mock(TestCase.class);
+        Mockito.when(barTest.getName()).thenReturn("barTest");
+        Mockito.when(barTest.getTestClass()).thenReturn((Class) StreamingTest.class);
+
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("fooTest", StreamingTest.class.getName()));
+        streamingReporter.onTestSuccess(fooTest);
+        testResults.addResult(TestResult.failed("barTest", StreamingTest.class.getName(), new NullPointerException("Something went wrong!")));
+        streamingReporter.onTestFailure(barTest, new NullPointerException("Something went wrong!"));
+
+        streamingReporter.generate(testResults);
+
+        String reportFile = FileUtils.readToString(new File(streamingReporter.getReportDirectory() + File.separator + streamingReporter.getOutputDirectory() + File.separator + String.format(streamingReporter.getReportFileNamePattern(), StreamingTest.class.getName())));
+        String testSuiteFile = FileUtils.readToString(new File(streamingReporter.getReportDirectory() + File.separator + String.format(streamingReporter.getReportFileNamePattern(), "streaming-suite")));
+
+        Assert.assertTrue(reportFile.contains("<testsuite name=\"" + StreamingTest.class.getName() + "\" time=\"0.0\" tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\">"));
+        Assert.assertTrue(reportFile.contains("<testcase name=\"fooTest\" classname=\"" + StreamingTest.class.getName() + "\" time=\"0.0\"/>"));
+        Assert.assertTrue(reportFile.contains("<failure type=\"java.lang.NullPointerException\" message=\"Something went wrong!\">"));
+        Assert.assertTrue(TestUtils.normalizeLineEndings(reportFile).endsWith("</testcase>\n</testsuite>"));
+        Assert.assertTrue(testSuiteFile.contains("<testsuite name=\"streaming-suite\" time=\"0.0\" tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\">"));
+    }
+
+    @Test
+    public void testGenerateWhenStreamedTestResultsDoNotMatch() throws Exception {
+        JUnitReporter streamingReporter = new JUnitReporter();
+        streamingReporter.setSuiteName("mismatch-suite");
+
+        TestCase fooTest = Mockito.mock(TestCase.class);
+        Mockito.when(fooTest.getName()).thenReturn("fooTest");
+        Mockito.when(fooTest.getTestClass()).thenReturn((Class) StreamingTest.class);
+        streamingReporter.onTestSuccess(fooTest);
+
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("bazTest", StreamingTest.class.getName()));
+        testResults.addResult(TestResult.skipped("quxTest", StreamingTest.class.getName()));
+        streamingReporter.generate(testResults);
+
+        String testSuiteFile = FileUtils.readToString(new File(streamingReporter.getReportDirectory() + File.separator + String.format(streamingReporter.getReportFileNamePattern(), "mismatch-suite")));
+
+        Assert.assertEquals(TestUtils.normalizeLineEndings(testSuiteFile), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<testsuite name=\"mismatch-suite\" time=\"0.0\" tests=\"2\" errors=\"0\" skipped=\"1\" failures=\"0\">\n" +
+                "    <testcase name=\"bazTest\" classname=\"" + StreamingTest.class.getName() + "\" time=\"0.0\"/>\n" +
+                "    <testcase name=\"quxTest\" classname=\"" + StreamingTest.class.getName() + "\" time=\"0.0\"/>\n" +
+                "</testsuite>");
+    }
+
+    private static class StreamingTest {
+    }
 }
@@ -19,9 +19,14 @@ package org.citrusframework.report;
 import java.io.File;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.citrusframework.CitrusSettings;
 import org.citrusframework.TestCase;
 import org.citrusframework.UnitTestSupport;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.message.RawMessage;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -68,6 +73,119 @@ public class MessageTracingTestListenerTest extends UnitTestSupport {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldSeparateParallelTestTraces() {
+        TestCase testCase1 = setupTestCaseMock("ParallelDummyTest1");
+        TestCase testCase2 = setupTestCaseMock("ParallelDummyTest2");
+
+        TestContext context1 = testContextFactory.getObject();
+        context1.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "ParallelDummyTest1");
+        TestContext context2 = testContextFactory.getObject();
+        context2.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "ParallelDummyTest2");
+
+        testling.onTestStart(testCase1);
+        testling.onTestStart(testCase2);
+        testling.onOutboundMessage(setupRawMessageMock("Message 1", context1), context1);
+        testling.onOutboundMessage(setupRawMessageMock("Message 2", context2), context2);
+        testling.onInboundMessage(setupRawMessageMock("Reply 1", context1), context1);
+        testling.onTestFinish(testCase1);
+        testling.onInboundMessage(setupRawMessageMock("Reply 2", context2), context2);
+        testling.onTestFinish(testCase2);
+
+        assertFileExistsWithContent("ParallelDummyTest1", "Message 1");
+        assertFileExistsWithContent("ParallelDummyTest1", "Reply 1");
+        assertFileNotContains("ParallelDummyTest1", "Message 2");
+        assertFileExistsWithContent("ParallelDummyTest2", "Message 2");
+        assertFileExistsWithContent("ParallelDummyTest2", "Reply 2");
+        assertFileNotContains("ParallelDummyTest2", "Reply 1");
+    }
+
+    @Test
+    public void shouldReleaseTraceOfTestFinishedOnOtherThread() throws Exception {
+        TestCase testCase1 = setupTestCaseMock("ThreadDummyTest1");
+        TestCase testCase2 = setupTestCaseMock("ThreadDummyTest2");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> testling.onTestStart(testCase1)).get();
+            testling.onTestFinish(testCase1);
+
+            testling.onTestStart(testCase2);
+            executor.submit(() -> testling.onOutboundMessage(setupRawMessageMock("Message 2"), context)).get();
+            testling.onTestFinish(testCase2);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFileExistsWithContent("ThreadDummyTest2", "Message 2");
+    }
+
+    @Test
+    public void shouldTruncatePayload() {
+        MessageTracingTestListener listener = new MessageTracingTestListener();
+        listener.setOutputDirectory("target/citrus-logs/trace/messages");
+        listener.setMaxPayloadSize(10);
+
+        TestCase testCaseMock = setupTestCaseMock("TruncatedDummyTest");
+        listener.onTestStart(testCaseMock);
+        listener.onOutboundMessage(new RawMessage("0123456789ABCDEF"), context);
+        listener.onTestFinish(testCaseMock);
+
+        assertFileExistsWithContent("TruncatedDummyTest", "0123456789... [truncated 6 characters]");
+        assertFileNotContains("TruncatedDummyTest", "ABCDEF");
+    }
+
+    @Test
+    public void shouldKeepWritingAfterUnexpectedError() {
+        MessageTraceWriter traceWriter = new MessageTraceWriter();
+
+        traceWriter.open("failing", () -> {
+            throw new IllegalStateException("Unexpected error");
+        }, "");
+        traceWriter.append("failing", "Lost entry");
+        Assert.assertThrows(CitrusRuntimeException.class, () -> traceWriter.close("failing"));
+
+        traceWriter.open("erroneous", () -> {
+            throw new AssertionError("Unexpected error");
+        }, "");
+        traceWriter.append("erroneous", "Lost entry");
+        traceWriter.close("erroneous");
+
+        File traceFile = testling.getTraceFile("WriterDummyTest");
+        traceWriter.open("working", () -> traceFile, "");
+        traceWriter.append("working", "Written entry");
+        traceWriter.close("working");
+
+        assertFileExistsWithContent("WriterDummyTest", "Written entry");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = ".*timeout after 100 milliseconds.*")
+    public void shouldTimeoutOnStalledWriter() {
+        MessageTraceWriter traceWriter = new MessageTraceWriter(10, 100L);
+
+        traceWriter.open("stalled", () -> {
+            try {
+                Thread.sleep(1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return testling.getTraceFile("StalledDummyTest");
+        }, "");
+        traceWriter.append("stalled", "Slow entry");
+        traceWriter.close("stalled");
+    }
+
+    @Test
+    public void shouldNotWriteEmptyTraceFile() {
+        String testname = "EmptyDummyTest";
+        TestCase testCaseMock = setupTestCaseMock(testname);
+
+        testling.onTestStart(testCaseMock);
+        testling.onTestFinish(testCaseMock);
+
+        Assert.assertFalse(testling.getTraceFile(testname).exists());
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
@@ -75,6 +193,10 @@ public class MessageTracingTestListenerTest extends UnitTestSupport {
     }
 
     private RawMessage setupRawMessageMock(String payload) {
+        return setupRawMessageMock(payload, context);
+    }
+
+    private RawMessage setupRawMessageMock(String payload, TestContext context) {
         RawMessage mock = mock(RawMessage.class);
         when(mock.print(context)).thenReturn(payload);
         return mock;
@@ -91,4 +213,15 @@ public class MessageTracingTestListenerTest extends UnitTestSupport {
             throw new RuntimeException(e);
         }
     }
+
+    private void assertFileNotContains(String testname, String content) {
+        File traceFile = testling.getTraceFile(testname);
+        try (Scanner scanner = new Scanner(traceFile)) {
+            String fileContent = scanner.useDelimiter("\\Z").next();
+            Assert.assertFalse(fileContent.contains(content));
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.report;
+
+import java.io.StringWriter;
+
+import org.citrusframework.TestResult;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ReportSpoolTest {
+
+    @Test
+    public void testAppendAndTransfer() throws Exception {
+        ReportSpool spool = new ReportSpool();
+
+        try {
+            spool.append(TestResult.success("OkTest", ReportSpoolTest.class.getName()), "<ok/>");
+            spool.append(TestResult.failed("FailedTest", ReportSpoolTest.class.getName(), new CitrusRuntimeException("Failed!")), "<failed/>");
+
+            StringWriter writer = new StringWriter();
+            spool.transferTo(writer);
+            Assert.assertEquals(writer.toString(), "<ok/><failed/>");
+
+            spool.append(TestResult.skipped("SkippedTest", ReportSpoolTest.class.getName()), "<skipped/>");
+
+            writer = new StringWriter();
+            spool.transferTo(writer);
+            Assert.assertEquals(writer.toString(), "<ok/><failed/><skipped/>");
+
+            Assert.assertEquals(spool.getCount(), 3);
+            Assert.assertEquals(spool.getSuccess(), 1);
+            Assert.assertEquals(spool.getFailed(), 1);
+            Assert.assertEquals(spool.getSkipped(), 1);
+        } finally {
+            spool.delete();
+        }
+
+        StringWriter writer = new StringWriter();
+        spool.transferTo(writer);
+        Assert.assertEquals(writer.toString(), "");
+    }
+}
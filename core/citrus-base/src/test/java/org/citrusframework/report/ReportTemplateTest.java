@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.util.Properties;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.PropertyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ReportTemplateTest {
+
+    @Test
+    public void testRender() {
+        String template = "<h1>@title@</h1><p>@content@ \\@ @title@</p>";
+
+        Properties properties = new Properties();
+        properties.put("title", "Hello");
+        properties.put("content", "Citrus");
+
+        Assert.assertEquals(ReportTemplate.compile(template).render(properties), "<h1>Hello</h1><p>Citrus @ Hello</p>");
+        Assert.assertEquals(ReportTemplate.compile(template).render(properties), PropertyUtils.replacePropertiesInString(template, properties));
+    }
+
+    @Test
+    public void testSplit() {
+        ReportTemplate template = ReportTemplate.compile("<table>@rows@</table>@count@");
+
+        Properties properties = new Properties();
+        properties.put("count", "2");
+
+        Assert.assertEquals(template.before("rows").render(properties), "<table>");
+        Assert.assertEquals(template.after("rows").render(properties), "</table>2");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No such property '@unknown@'")
+    public void testUnknownProperty() {
+        ReportTemplate.compile("Hello @unknown@").render(new Properties());
+    }
+}
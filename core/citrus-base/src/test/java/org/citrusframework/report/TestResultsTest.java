@@ -16,6 +16,13 @@
 
 package org.citrusframework.report;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.citrusframework.TestResult;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.testng.Assert;
@@ -72,4 +79,118 @@ public class TestResultsTest {
         Assert.assertEquals(results.getSkipped(), 1);
         Assert.assertEquals(results.getSkippedPercentage(), "33.3");
     }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        TestResults results = new TestResults();
+
+        results.addResult(TestResult.success("OkTest", TestResultsTest.class.getName()));
+        results.addResult(TestResult.failed("FailedTest", TestResultsTest.class.getName(), new CitrusRuntimeException("This went wrong")));
+
+        TestResults.Snapshot snapshot = results.snapshot();
+        results.addResult(TestResult.skipped("SkippedTest", TestResultsTest.class.getName()));
+
+        Assert.assertEquals(snapshot.getSize(), 2);
+        Assert.assertEquals(snapshot.getSuccess(), 1);
+        Assert.assertEquals(snapshot.getSuccessPercentage(), "50.0");
+        Assert.assertEquals(snapshot.getFailed(), 1);
+        Assert.assertEquals(snapshot.getFailedPercentage(), "50.0");
+        Assert.assertEquals(snapshot.getSkipped(), 0);
+        Assert.assertEquals(snapshot.getSkippedPercentage(), "0.0");
+
+        Assert.assertEquals(results.snapshot().getSize(), 3);
+        Assert.assertEquals(results.snapshot().getSkipped(), 1);
+    }
+
+    @Test
+    public void testDuplicateResult() throws Exception {
+        TestResults results = new TestResults();
+        TestResult result = TestResult.success("OkTest", TestResultsTest.class.getName());
+
+        Assert.assertTrue(results.addResult(result));
+        Assert.assertFalse(results.addResult(result));
+
+        Assert.assertEquals(results.getSize(), 1);
+        Assert.assertEquals(results.getSuccess(), 1);
+        Assert.assertEquals(results.asList().size(), 1);
+    }
+
+    @Test
+    public void testInsertionOrder() throws Exception {
+        TestResults results = new TestResults();
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("Test" + i);
+            results.addResult(TestResult.success("Test" + i, TestResultsTest.class.getName()));
+        }
+
+        List<String> recorded = new ArrayList<>();
+        results.doWithResults(result -> recorded.add(result.getTestName()));
+
+        Assert.assertEquals(recorded, names);
+        Assert.assertEquals(results.asList().get(99).getTestName(), "Test99");
+    }
+
+    @Test
+    public void testConcurrentSnapshot() throws Exception {
+        TestResults results = new TestResults();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> results.addResult(index % 2 == 0 ?
+                        TestResult.success("OkTest" + index, TestResultsTest.class.getName()) :
+                        TestResult.skipped("SkippedTest" + index, TestResultsTest.class.getName()))));
+            }
+
+            // total always matches the category counts while results are recorded
+            for (int i = 0; i < 100; i++) {
+                TestResults.Snapshot snapshot = results.snapshot();
+                Assert.assertEquals(snapshot.getSize(), snapshot.getSuccess() + snapshot.getFailed() + snapshot.getSkipped());
+            }
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(results.getSize(), 1000);
+    }
+
+    @Test
+    public void testConcurrentResults() throws Exception {
+        TestResults results = new TestResults();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    if (index % 10 == 0) {
+                        results.addResult(TestResult.failed("FailedTest" + index, TestResultsTest.class.getName(), "This went wrong"));
+                    } else {
+                        results.addResult(TestResult.success("OkTest" + index, TestResultsTest.class.getName()));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(results.getSize(), 1000);
+        Assert.assertEquals(results.getSuccess(), 900);
+        Assert.assertEquals(results.getFailed(), 100);
+        Assert.assertEquals(results.getFailedPercentage(), "10.0");
+        Assert.assertEquals(results.asList().size(), 1000);
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.variable;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.UnitTestSupport;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.InvalidFunctionUsageException;
+import org.citrusframework.functions.DefaultFunctionLibrary;
+import org.citrusframework.functions.FunctionLibrary;
+import org.citrusframework.functions.FunctionRegistry;
+import org.citrusframework.functions.FunctionUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class CompiledTemplateTest extends UnitTestSupport {
+
+    @BeforeMethod
+    public void setupVariables() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "Citrus");
+        context.setVariable("url", "http://localhost:8080");
+        context.setVariable("function", "citrus:upperCase('foo')");
+        context.setVariable("prefix", "citrus");
+        context.setVariable("brace", "(x)");
+    }
+
+    @DataProvider
+    public Object[][] templates() {
+        return new Object[][] {
+            new Object[] { "Static text", false, "Static text", "Static text" },
+            new Object[] { "Static text", true, "Static text", "Static text" },
+            new Object[] { "Static text with colon: and (parentheses)", false, "Static text with colon: and (parentheses)", "Static text with colon: and (parentheses)" },
+            new Object[] { "Static text with colon: and (parentheses)", true, "Static text with colon: and (parentheses)", "Static text with colon: and (parentheses)" },
+            new Object[] { "${greeting} ${name}!", false, "Hello Citrus!", "${greeting} ${name}!" },
+            new Object[] { "${greeting} ${name}!", true, "'Hello' 'Citrus'!", "${greeting} ${name}!" },
+            new Object[] { "<message><text>${greeting}</text><url>${url}</url></message>", false, "<message><text>Hello</text><url>http://localhost:8080</url></message>", "<message><text>${greeting}</text><url>${url}</url></message>" },
+            new Object[] { "<message><text>${greeting}</text><url>${url}</url></message>", true, "<message><text>'Hello'</text><url>'http://localhost:8080'</url></message>", "<message><text>${greeting}</text><url>${url}</url></message>" },
+            new Object[] { "citrus:concat('Hello', ' ', 'Citrus')", false, "Hello Citrus", "Hello Citrus" },
+            new Object[] { "citrus:concat('Hello', ' ', 'Citrus')", true, "'Hello Citrus'", "'Hello Citrus'" },
+            new Object[] { "Text citrus:upperCase('foo') and citrus:lowerCase('BAR') end", false, "Text FOO and bar end", "Text FOO and bar end" },
+            new Object[] { "Text citrus:upperCase('foo') and citrus:lowerCase('BAR') end", true, "Text 'FOO' and 'bar' end", "Text 'FOO' and 'bar' end" },
+            new Object[] { "citrus:concat(citrus:upperCase(${greeting}), ' ', ${name})", false, "HELLO Citrus", "HELLO Citrus" },
+            new Object[] { "citrus:concat(citrus:upperCase(${greeting}), ' ', ${name})", true, "'HELLO Citrus'", "'HELLO Citrus'" },
+            new Object[] { "citrus:concat('${greeting}', ' ', citrus:lowerCase('${name}'))!", false, "Hello citrus!", "Hello citrus!" },
+            new Object[] { "citrus:concat('${greeting}', ' ', citrus:lowerCase('${name}'))!", true, "'Hello citrus'!", "'Hello citrus'!" },
+            new Object[] { "Value of ${function}", false, "Value of FOO", "Value of ${function}" },
+            new Object[] { "Value of ${function}", true, "Value of ''FOO''", "Value of ${function}" },
+            new Object[] { "${prefix}:upperCase('foo')", false, "FOO", "${prefix}:upperCase('foo')" },
+            new Object[] { "${prefix}:upperCase('foo')", true, "'citrus':upperCase('foo')", "${prefix}:upperCase('foo')" },
+            new Object[] { "citrus:concat(${brace}, 'foo')", false, "(x)foo", "(x)foo" },
+            new Object[] { "citrus:concat(${brace}, 'foo')", true, "'(x)foo'", "'(x)foo'" },
+            new Object[] { "${url} and citrus:upperCase('${name}')", false, "http://localhost:8080 and CITRUS", "${url} and CITRUS" },
+            new Object[] { "${url} and citrus:upperCase('${name}')", true, "'http://localhost:8080' and 'CITRUS'", "${url} and 'CITRUS'" },
+            new Object[] { "${//escaped//} ${name}", false, "${escaped} Citrus", "${//escaped//} ${name}" },
+            new Object[] { "${//escaped//} ${name}", true, "'${escaped}' 'Citrus'", "${//escaped//} ${name}" },
+            new Object[] { "citrus:concat(citrus:concat(citrus:upperCase('${greeting}'), ' '), citrus:lowerCase(citrus:concat(${name}, '!')))", false, "HELLOcitrus!", "HELLOcitrus!" },
+            new Object[] { "citrus:concat(citrus:concat(citrus:upperCase('${greeting}'), ' '), citrus:lowerCase(citrus:concat(${name}, '!')))", true, "'HELLOcitrus!'", "'HELLOcitrus!'" },
+            new Object[] { "Functions only citrus:upperCase('${greeting}') and ${name}", false, "Functions only HELLO and Citrus", "Functions only HELLO and ${name}" },
+            new Object[] { "Functions only citrus:upperCase('${greeting}') and ${name}", true, "Functions only 'HELLO' and 'Citrus'", "Functions only 'HELLO' and ${name}" }
+        };
+    }
+
+    @Test(dataProvider = "templates")
+    public void testResolve(String template, boolean enableQuoting, String expected, String expectedFunctionsOnly) {
+        Assert.assertEquals(CompiledTemplate.compile(template).resolve(context, enableQuoting), expected);
+        // second resolution uses the cached template
+        Assert.assertEquals(CompiledTemplate.compile(template).resolve(context, enableQuoting), expected);
+
+        Assert.assertEquals(context.replaceDynamicContentInString(template, enableQuoting), expected);
+        Assert.assertEquals(FunctionUtils.replaceFunctionsInString(
+                VariableUtils.replaceVariablesInString(template, context, enableQuoting), context, enableQuoting), expected);
+        Assert.assertEquals(FunctionUtils.replaceFunctionsInString(template, context, enableQuoting), expectedFunctionsOnly);
+    }
+
+    @Test
+    public void testCache() {
+        CompiledTemplate template = CompiledTemplate.compile("Hello ${name}");
+        Assert.assertSame(CompiledTemplate.compile("Hello ${name}"), template);
+        Assert.assertEquals(template.getTemplate(), "Hello ${name}");
+
+        context.setVariable("name", "World");
+        Assert.assertEquals(template.resolve(context, false), "Hello World");
+    }
+
+    @Test
+    public void testCacheIgnoresStaticTemplates() {
+        Assert.assertNotSame(CompiledTemplate.compile("Time is 10:15"), CompiledTemplate.compile("Time is 10:15"));
+        Assert.assertNotSame(CompiledTemplate.compile("Static (text)"), CompiledTemplate.compile("Static (text)"));
+        Assert.assertSame(CompiledTemplate.compile("citrus:upperCase('foo')"), CompiledTemplate.compile("citrus:upperCase('foo')"));
+    }
+
+    @Test
+    public void testCacheLargeTemplates() {
+        String template = "<payload>" + "<item>${name}</item>".repeat(10000) + "</payload>";
+
+        CompiledTemplate compiled = CompiledTemplate.compile(template);
+        for (int i = 0; i < 10; i++) {
+            // large payload template resolved in an iteration is compiled only once
+            Assert.assertSame(CompiledTemplate.compile(template), compiled);
+            Assert.assertTrue(context.replaceDynamicContentInString(template).endsWith("<item>Citrus</item></payload>"));
+        }
+    }
+
+    @Test
+    public void testCacheIgnoresTemplatesExceedingMaxWeight() {
+        String template = "x".repeat((int) CitrusSettings.getTemplateCacheMaxWeight()) + "${name}";
+
+        CompiledTemplate compiled = CompiledTemplate.compile(template);
+        Assert.assertNotSame(CompiledTemplate.compile(template), compiled);
+        Assert.assertTrue(compiled.resolve(context, false).endsWith("xCitrus"));
+    }
+
+    @Test
+    public void testCacheEvictsLeastRecentlyUsed() {
+        CompiledTemplate.clearCache();
+
+        CompiledTemplate first = CompiledTemplate.compile("First ${name}");
+        CompiledTemplate second = CompiledTemplate.compile("Second ${name}");
+
+        for (int i = 0; i < CitrusSettings.getTemplateCacheSize() - 1; i++) {
+            // keep first template in use
+            Assert.assertSame(CompiledTemplate.compile("First ${name}"), first);
+            CompiledTemplate.compile("Template " + i + " ${name}");
+        }
+
+        Assert.assertSame(CompiledTemplate.compile("First ${name}"), first);
+        Assert.assertNotSame(CompiledTemplate.compile("Second ${name}"), second);
+    }
+
+    @Test
+    public void testResolveMultipleFunctionLibraries() {
+        FunctionLibrary custom = new FunctionLibrary();
+        custom.setPrefix("custom:");
+        custom.getMembers().put("greet", (parameters, context) -> "Hi " + parameters.get(0));
+
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(new DefaultFunctionLibrary());
+        functionRegistry.addFunctionLibrary(custom);
+        context.setFunctionRegistry(functionRegistry);
+
+        String template = "custom:greet('${name}') and citrus:upperCase(custom:greet('you')) and custom:greet(citrus:lowerCase('ALL'))";
+        Assert.assertEquals(CompiledTemplate.compile(template).resolve(context, false), "Hi Citrus and HI YOU and Hi all");
+        Assert.assertEquals(context.replaceDynamicContentInString(template), "Hi Citrus and HI YOU and Hi all");
+
+        context.setVariable("call", "custom:greet('${name}')");
+        Assert.assertEquals(CompiledTemplate.compile("Value of ${call} and citrus:upperCase('x')").resolve(context, false), "Value of Hi Citrus and X");
+    }
+
+    @Test
+    public void testResolveAmbiguousFunctionLibraryPrefixes() {
+        FunctionLibrary custom = new FunctionLibrary();
+        custom.setPrefix("us:");
+        custom.getMembers().put("greet", (parameters, context) -> "Hi " + parameters.get(0));
+
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(new DefaultFunctionLibrary());
+        functionRegistry.addFunctionLibrary(custom);
+        context.setFunctionRegistry(functionRegistry);
+
+        String template = "citrus:upperCase('${name}') and us:greet('you')";
+        Assert.assertEquals(CompiledTemplate.compile(template).resolve(context, false), "CITRUS and Hi you");
+        Assert.assertEquals(context.replaceDynamicContentInString(template), "CITRUS and Hi you");
+    }
+
+    @Test
+    public void testResolveAmbiguousFunctionLibraryPrefixesInReverseOrder() {
+        FunctionLibrary custom = new FunctionLibrary();
+        custom.setPrefix("us:");
+        custom.getMembers().put("greet", (parameters, context) -> "Hi " + parameters.get(0));
+
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(custom);
+        functionRegistry.addFunctionLibrary(new DefaultFunctionLibrary());
+        context.setFunctionRegistry(functionRegistry);
+
+        Assert.assertEquals(CompiledTemplate.compile("us:greet(citrus:upperCase('${name}')) and citrus:lowerCase('YOU')").resolve(context, false),
+                "Hi CITRUS and you");
+    }
+
+    @Test
+    public void testResolveEscapedVariableInFunctionParameters() {
+        // function call parameters are resolved once more, so escaped variables need to be escaped twice
+        Assert.assertEquals(CompiledTemplate.compile("citrus:concat('${////escaped////}', ' ', ${name})").resolve(context, false), "${escaped} Citrus");
+        Assert.assertEquals(CompiledTemplate.compile("citrus:upperCase('${////escaped////}')").resolve(context, true), "'${ESCAPED}'");
+        Assert.assertEquals(CompiledTemplate.compile("${//escaped//} and citrus:upperCase('${////escaped////}')").resolve(context, false), "${escaped} and ${ESCAPED}");
+    }
+
+    @Test
+    public void testResolveFunctionResultHoldingFunctionCall() {
+        FunctionLibrary custom = new FunctionLibrary();
+        custom.setPrefix("custom:");
+        custom.getMembers().put("call", (parameters, context) -> "citrus:upperCase('" + parameters.get(0) + "')");
+
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(new DefaultFunctionLibrary());
+        functionRegistry.addFunctionLibrary(custom);
+        context.setFunctionRegistry(functionRegistry);
+
+        Assert.assertEquals(CompiledTemplate.compile("Result custom:call('${name}')").resolve(context, false), "Result CITRUS");
+        Assert.assertEquals(CompiledTemplate.compile("Result custom:call('${name}')").resolve(context, true), "Result 'CITRUS'");
+    }
+
+    @Test(expectedExceptions = InvalidFunctionUsageException.class)
+    public void testInvalidFunctionCall() {
+        CompiledTemplate.compile("citrus:upperCase)('foo'").resolve(context, false);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        CompiledTemplate.compile("Hello ${unknown}").resolve(context, false);
+    }
+}
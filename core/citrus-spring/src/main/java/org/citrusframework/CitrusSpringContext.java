@@ -15,6 +15,7 @@ import org.citrusframework.report.TestListeners;
 import org.citrusframework.report.TestReporters;
 import org.citrusframework.report.TestSuiteListeners;
 import org.citrusframework.spi.ReferenceResolver;
+import org.citrusframework.util.ManagedExecutorService;
 import org.citrusframework.util.TypeConverter;
 import org.citrusframework.validation.MessageValidatorRegistry;
 import org.citrusframework.validation.matcher.ValidationMatcherRegistry;
@@ -58,6 +59,8 @@ public class CitrusSpringContext extends CitrusContext {
                 ((ConfigurableApplicationContext) applicationContext).close();
             }
         }
+
+        super.close();
     }
 
     /**
@@ -112,6 +115,7 @@ public class CitrusSpringContext extends CitrusContext {
             findBean(ReferenceResolver.class).ifPresent(this::referenceResolver);
             findBean(TypeConverter.class).ifPresent(this::typeConverter);
             findBean(LogModifier.class).ifPresent(this::logModifier);
+            findBean(ManagedExecutorService.class).ifPresent(this::executorService);
             beforeSuite(new ArrayList<>(applicationContext.getBeansOfType(BeforeSuite.class).values()));
             afterSuite(new ArrayList<>(applicationContext.getBeansOfType(AfterSuite.class).values()));
 
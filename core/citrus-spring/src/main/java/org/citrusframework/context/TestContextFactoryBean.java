@@ -18,6 +18,7 @@ package org.citrusframework.context;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.citrusframework.container.AfterTest;
 import org.citrusframework.container.BeforeTest;
@@ -349,6 +350,16 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         return delegate.getLogModifier();
     }
 
+    @Override
+    public ExecutorService getExecutorService() {
+        return delegate.getExecutorService();
+    }
+
+    @Override
+    public void setExecutorService(ExecutorService executorService) {
+        delegate.setExecutorService(executorService);
+    }
+
     @Override
     public NamespaceContextBuilder getNamespaceContextBuilder() {
         return delegate.getNamespaceContextBuilder();
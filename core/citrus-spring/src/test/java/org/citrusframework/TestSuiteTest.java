@@ -36,6 +36,7 @@ import org.citrusframework.report.TestSuiteListener;
 import org.citrusframework.report.TestSuiteListeners;
 import org.citrusframework.spi.ReferenceResolver;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
+import org.citrusframework.util.ManagedExecutorService;
 import org.citrusframework.util.TypeConverter;
 import org.citrusframework.validation.MessageValidatorRegistry;
 import org.citrusframework.validation.matcher.ValidationMatcherRegistry;
@@ -94,6 +95,7 @@ public class TestSuiteTest extends AbstractTestNGUnitTest {
         when(applicationContextMock.getBean(ReferenceResolver.class)).thenThrow(NoSuchBeanDefinitionException.class);
         when(applicationContextMock.getBean(TypeConverter.class)).thenThrow(NoSuchBeanDefinitionException.class);
         when(applicationContextMock.getBean(LogModifier.class)).thenThrow(NoSuchBeanDefinitionException.class);
+        when(applicationContextMock.getBean(ManagedExecutorService.class)).thenThrow(NoSuchBeanDefinitionException.class);
 
         when(applicationContextMock.getBean(TestContextFactoryBean.class)).thenReturn(testContextFactory);
         when(applicationContextMock.getBeansOfType(AfterSuite.class)).thenReturn(Collections.singletonMap("afterActions", afterActions));
@@ -56,7 +56,7 @@ public class CamelSyncConsumer extends CamelConsumer implements ReplyProducer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Camel exchange not set up yet");
+        this.correlationManager = new PollingCorrelationManager<>(this::getName, endpointConfiguration, "Camel exchange not set up yet");
     }
 
     @Override
@@ -19,6 +19,7 @@ package org.citrusframework.camel.endpoint;
 import org.citrusframework.endpoint.PollableEndpointConfiguration;
 import org.citrusframework.message.DefaultMessageCorrelator;
 import org.citrusframework.message.MessageCorrelator;
+import org.citrusframework.message.correlation.CorrelationMetrics;
 
 /**
  * @author Christoph Deppisch
@@ -32,6 +33,9 @@ public class CamelSyncEndpointConfiguration extends CamelEndpointConfiguration i
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Wait time statistics of correlated find operations on this endpoint */
+    private final CorrelationMetrics correlationMetrics = new CorrelationMetrics();
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -63,4 +67,9 @@ public class CamelSyncEndpointConfiguration extends CamelEndpointConfiguration i
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    @Override
+    public CorrelationMetrics getCorrelationMetrics() {
+        return correlationMetrics;
+    }
 }
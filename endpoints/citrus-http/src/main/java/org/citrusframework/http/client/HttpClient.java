@@ -19,6 +19,8 @@ package org.citrusframework.http.client;
 import java.net.URI;
 import java.util.Optional;
 
+import org.apache.hc.core5.pool.PoolStats;
+import org.citrusframework.common.ShutdownPhase;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.AbstractEndpoint;
 import org.citrusframework.exceptions.MessageTimeoutException;
@@ -47,7 +49,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
 
@@ -68,7 +70,7 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     public HttpClient(HttpEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new PollingCorrelationManager<>(this::getName, endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -76,6 +78,20 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         return (HttpEndpointConfiguration) super.getEndpointConfiguration();
     }
 
+    /**
+     * Gets the current connection pool statistics with number of leased, pending and available connections.
+     * Returns null in case the client does not use a connection pool known to the endpoint configuration.
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        return getEndpointConfiguration().getConnectionPoolStats();
+    }
+
+    @Override
+    public void destroy() {
+        getEndpointConfiguration().close();
+    }
+
     @Override
     public void send(Message message, TestContext context) {
         getEndpointConfiguration().getClientInterceptors()
@@ -237,6 +237,46 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         return this;
     }
 
+    /**
+     * Sets the max number of pooled connections in total.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the max number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive time in milliseconds for pooled connections.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(long keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the time in milliseconds after that idle pooled connections get evicted.
+     * @param idleConnectionTimeout
+     * @return
+     */
+    public HttpClientBuilder idleConnectionTimeout(long idleConnectionTimeout) {
+        endpoint.getEndpointConfiguration().setIdleConnectionTimeout(idleConnectionTimeout);
+        return this;
+    }
+
     /**
      * Sets the user authentication.
      * @param auth
@@ -252,9 +292,7 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
      * @return
      */
     public HttpClientBuilder secured(HttpSecureConnection conn) {
-        endpoint.getEndpointConfiguration()
-                .getHttpClient()
-                .setConnectionManager(conn.getClientConnectionManager());
+        endpoint.getEndpointConfiguration().setConnectionManager(conn.getClientConnectionManager());
         return this;
     }
 }
@@ -16,14 +16,23 @@
 
 package org.citrusframework.http.client;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.citrusframework.endpoint.AbstractPollableEndpointConfiguration;
 import org.citrusframework.endpoint.resolver.DynamicEndpointUriResolver;
 import org.citrusframework.endpoint.resolver.EndpointUriResolver;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.interceptor.LoggingClientInterceptor;
 import org.citrusframework.http.message.HttpMessageConverter;
 import org.citrusframework.message.DefaultMessageCorrelator;
@@ -69,6 +78,26 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Request factory */
     private ClientHttpRequestFactory requestFactory;
 
+    /** Connection manager used by the http client builder */
+    private HttpClientConnectionManager connectionManager;
+
+    /** Http client created by this configuration when building the default request factory */
+    private CloseableHttpClient pooledHttpClient;
+
+    /** Whether http client builder and rest template have been created by this configuration */
+    private boolean defaultHttpClient = false;
+    private boolean defaultRestTemplate = false;
+
+    /** Max number of pooled connections in total and per route, library defaults when not set */
+    private int maxConnections = -1;
+    private int maxConnectionsPerRoute = -1;
+
+    /** Keep alive time in milliseconds for pooled connections, server provided keep alive when not set */
+    private long keepAlive = -1L;
+
+    /** Time in milliseconds after that idle pooled connections get evicted, no eviction when not set */
+    private long idleConnectionTimeout = -1L;
+
     /** Resolves dynamic endpoint uri */
     private EndpointUriResolver endpointUriResolver = new DynamicEndpointUriResolver();
 
@@ -149,6 +178,7 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         clientInterceptors.addAll(restTemplate.getInterceptors());
         restTemplate.setInterceptors(clientInterceptors);
         this.restTemplate = restTemplate;
+        this.defaultRestTemplate = false;
     }
 
     /**
@@ -231,6 +261,7 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         if (restTemplate == null) {
             restTemplate = new RestTemplate();
             restTemplate.setInterceptors(clientInterceptors);
+            defaultRestTemplate = true;
         }
 
         restTemplate.setRequestFactory(getRequestFactory());
@@ -276,7 +307,11 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public void setClientInterceptors(List<ClientHttpRequestInterceptor> clientInterceptors) {
         this.clientInterceptors = clientInterceptors;
-        getRestTemplate().setInterceptors(clientInterceptors);
+
+        // rest template is created lazily with these interceptors, so the request factory is not built before all settings are applied
+        if (restTemplate != null) {
+            restTemplate.setInterceptors(clientInterceptors);
+        }
     }
 
     /**
@@ -301,12 +336,105 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory(getHttpClient().build());
+            pooledHttpClient = buildHttpClient();
+            requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
         }
 
         return requestFactory;
     }
 
+    /**
+     * Builds the http client applying the connection pool settings on the connection manager.
+     * @return
+     */
+    private CloseableHttpClient buildHttpClient() {
+        HttpClientBuilder builder = getHttpClient();
+
+        applyConnectionLimits();
+
+        if (keepAlive > 0) {
+            builder.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive));
+        }
+
+        if (idleConnectionTimeout > 0) {
+            builder.evictExpiredConnections();
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(idleConnectionTimeout));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Applies the max connection settings on the pooling connection manager. Connection limits may also be changed
+     * on the connection manager after the http client has been created.
+     */
+    private void applyConnectionLimits() {
+        if (connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+            if (maxConnections > 0) {
+                pool.setMaxTotal(maxConnections);
+            }
+
+            if (maxConnectionsPerRoute > 0) {
+                pool.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            }
+        }
+    }
+
+    /**
+     * Makes sure that the http client has not been created yet, because given setting is applied when building the client.
+     * @param setting
+     */
+    private void assertHttpClientNotCreated(String setting) {
+        if (pooledHttpClient != null) {
+            throw new CitrusRuntimeException(String.format("Unable to set %s - http client has already been created, " +
+                    "set connection pool settings before the client is used", setting));
+        }
+    }
+
+    /**
+     * Gets the total statistics of the connection pool used by this configuration. Statistics provide the number of
+     * leased, pending and available connections. Returns null in case the connection manager is not pooling connections or
+     * is not known to this configuration (e.g. when using a custom http client builder or request factory).
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        if (connectionManager instanceof ConnPoolControl<?> pool) {
+            return pool.getTotalStats();
+        }
+
+        return null;
+    }
+
+    /**
+     * Closes the http client that has been created by this configuration along with its connection pool. The request factory
+     * using the closed client is reset, so a new http client is created on next use.
+     * Custom request factories and rest templates are not closed as they may be shared with other components.
+     */
+    public void close() {
+        if (pooledHttpClient != null) {
+            try {
+                pooledHttpClient.close();
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to close http client", e);
+            } finally {
+                pooledHttpClient = null;
+                requestFactory = null;
+
+                if (defaultRestTemplate) {
+                    restTemplate = null;
+                    defaultRestTemplate = false;
+                }
+
+                if (defaultHttpClient) {
+                    // connection manager has been closed along with the http client
+                    httpClient = null;
+                    connectionManager = null;
+                    defaultHttpClient = false;
+                }
+            }
+        }
+    }
+
     /**
      * Sets the client request factory.
      * @param requestFactory
@@ -317,7 +445,16 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
 
     public HttpClientBuilder getHttpClient() {
         if (httpClient == null) {
-            httpClient = HttpClientBuilder.create().useSystemProperties();
+            if (connectionManager == null) {
+                connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                        .useSystemProperties()
+                        .build();
+            }
+
+            httpClient = HttpClientBuilder.create()
+                    .useSystemProperties()
+                    .setConnectionManager(connectionManager);
+            defaultHttpClient = true;
         }
 
         return httpClient;
@@ -325,6 +462,92 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
 
     public void setHttpClient(HttpClientBuilder httpClient) {
         this.httpClient = httpClient;
+        this.defaultHttpClient = false;
+    }
+
+    /**
+     * Gets the connection manager.
+     * @return
+     */
+    public HttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Sets the connection manager and applies it to the http client builder.
+     * @param connectionManager
+     */
+    public void setConnectionManager(HttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        getHttpClient().setConnectionManager(connectionManager);
+    }
+
+    /**
+     * Gets the maxConnections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the max number of pooled connections in total.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        applyConnectionLimits();
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the max number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        applyConnectionLimits();
+    }
+
+    /**
+     * Gets the keepAlive.
+     * @return
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keep alive time in milliseconds for pooled connections. Must be set before the http client is created.
+     * @param keepAlive
+     */
+    public void setKeepAlive(long keepAlive) {
+        assertHttpClientNotCreated("keep alive");
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the idleConnectionTimeout.
+     * @return
+     */
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds after that idle pooled connections get evicted. Must be set before the http client is created.
+     * @param idleConnectionTimeout
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        assertHttpClientNotCreated("idle connection timeout");
+        this.idleConnectionTimeout = idleConnectionTimeout;
     }
 
     /**
@@ -153,4 +153,28 @@ public @interface HttpClientConfig {
      * @return
      */
     String secured() default "";
+
+    /**
+     * Max number of pooled connections in total.
+     * @return
+     */
+    int maxConnections() default -1;
+
+    /**
+     * Max number of pooled connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default -1;
+
+    /**
+     * Keep alive time in milliseconds for pooled connections.
+     * @return
+     */
+    long keepAlive() default -1L;
+
+    /**
+     * Time in milliseconds after that idle pooled connections get evicted.
+     * @return
+     */
+    long idleConnectionTimeout() default -1L;
 }
@@ -110,6 +110,11 @@ public class HttpClientConfigParser implements AnnotationConfigParser<HttpClient
 
         builder.timeout(annotation.timeout());
 
+        builder.maxConnections(annotation.maxConnections());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.keepAlive(annotation.keepAlive());
+        builder.idleConnectionTimeout(annotation.idleConnectionTimeout());
+
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(referenceResolver.resolve(annotation.actor(), TestActor.class));
         }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Random;
 
 import org.citrusframework.endpoint.resolver.EndpointUriResolver;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.message.HttpMessage;
 import org.citrusframework.http.message.HttpMessageHeaders;
 import org.citrusframework.message.DefaultMessage;
@@ -29,7 +30,10 @@ import org.citrusframework.message.ErrorHandlingStrategy;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageCorrelator;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.pool.PoolStats;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -40,6 +44,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -556,4 +561,82 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+
+    @Test
+    public void testConnectionPoolSettings() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        endpointConfiguration.setRequestUrl("http://localhost:8088/test");
+        endpointConfiguration.setMaxConnections(50);
+        endpointConfiguration.setMaxConnectionsPerRoute(10);
+        endpointConfiguration.setKeepAlive(30000L);
+        endpointConfiguration.setIdleConnectionTimeout(60000L);
+
+        Assert.assertNotNull(endpointConfiguration.getRestTemplate());
+        Assert.assertTrue(endpointConfiguration.getConnectionManager() instanceof PoolingHttpClientConnectionManager);
+        Assert.assertEquals(((PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager()).getDefaultMaxPerRoute(), 10);
+
+        PoolStats poolStats = httpClient.getConnectionPoolStats();
+        Assert.assertNotNull(poolStats);
+        Assert.assertEquals(poolStats.getMax(), 50);
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getPending(), 0);
+        Assert.assertEquals(poolStats.getAvailable(), 0);
+
+        httpClient.destroy();
+    }
+
+    @Test
+    public void testConnectionPoolSettingsAfterClientCreated() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setRequestUrl("http://localhost:8088/test");
+
+        ClientHttpRequestFactory requestFactory = endpointConfiguration.getRequestFactory();
+
+        // connection limits are applied on the existing connection pool
+        endpointConfiguration.setMaxConnections(20);
+        endpointConfiguration.setMaxConnectionsPerRoute(5);
+        Assert.assertEquals(((PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager()).getMaxTotal(), 20);
+        Assert.assertEquals(((PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager()).getDefaultMaxPerRoute(), 5);
+
+        Assert.assertThrows(CitrusRuntimeException.class, () -> endpointConfiguration.setKeepAlive(30000L));
+        Assert.assertThrows(CitrusRuntimeException.class, () -> endpointConfiguration.setIdleConnectionTimeout(60000L));
+
+        Assert.assertSame(endpointConfiguration.getRequestFactory(), requestFactory);
+        endpointConfiguration.close();
+    }
+
+    @Test
+    public void testCloseResetsRequestFactory() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setRequestUrl("http://localhost:8088/test");
+        endpointConfiguration.setMaxConnections(50);
+
+        RestTemplate defaultRestTemplate = endpointConfiguration.getRestTemplate();
+        ClientHttpRequestFactory requestFactory = endpointConfiguration.getRequestFactory();
+        HttpClientConnectionManager connectionManager = endpointConfiguration.getConnectionManager();
+
+        endpointConfiguration.close();
+
+        // settings may be changed again before the new client is created
+        endpointConfiguration.setKeepAlive(30000L);
+
+        Assert.assertNotSame(endpointConfiguration.getRestTemplate(), defaultRestTemplate);
+        Assert.assertNotSame(endpointConfiguration.getRequestFactory(), requestFactory);
+        Assert.assertNotSame(endpointConfiguration.getConnectionManager(), connectionManager);
+        Assert.assertEquals(((PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager()).getMaxTotal(), 50);
+
+        endpointConfiguration.close();
+    }
+
+    @Test
+    public void testConnectionPoolStatsCustomRequestFactory() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        endpointConfiguration.setRequestUrl("http://localhost:8088/test");
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+        httpClient.destroy();
+    }
 }
@@ -90,6 +90,10 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
     @HttpClientConfig(requestUrl = "http://localhost:8080/test",
             interceptors={ "clientInterceptor" },
             pollingInterval=250,
+            maxConnections=50,
+            maxConnectionsPerRoute=10,
+            keepAlive=30000L,
+            idleConnectionTimeout=60000L,
             actor="testActor")
     private HttpClient httpClient4;
 
@@ -150,6 +154,10 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getErrorHandler().getClass(), HttpResponseErrorHandler.class);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getBinaryMediaTypes().size(), 6L);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnections(), -1);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnectionsPerRoute(), -1);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getKeepAlive(), -1L);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getIdleConnectionTimeout(), -1L);
 
         // 2nd message sender
         Assert.assertNotNull(httpClient2.getEndpointConfiguration().getRestTemplate());
@@ -183,6 +191,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().size(), 1L);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().get(0), clientInterceptor);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnectionsPerRoute(), 10);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getIdleConnectionTimeout(), 60000L);
+        Assert.assertEquals(httpClient4.getConnectionPoolStats().getMax(), 50);
     }
 
     @Test
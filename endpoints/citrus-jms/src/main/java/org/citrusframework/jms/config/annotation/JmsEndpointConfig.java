@@ -86,6 +86,12 @@ public @interface JmsEndpointConfig {
      */
     boolean autoStart() default false;
 
+    /**
+     * Use message listener mode.
+     * @return
+     */
+    boolean listenerMode() default false;
+
     /**
      * Use durable subscription.
      * @return
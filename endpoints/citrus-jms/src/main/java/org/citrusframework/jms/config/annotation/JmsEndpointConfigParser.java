@@ -89,6 +89,7 @@ public class JmsEndpointConfigParser implements AnnotationConfigParser<JmsEndpoi
 
         builder.pubSubDomain(annotation.pubSubDomain());
         builder.autoStart(annotation.autoStart());
+        builder.listenerMode(annotation.listenerMode());
         builder.durableSubscription(annotation.durableSubscription());
         if (StringUtils.hasText(annotation.durableSubscriberName())) {
             builder.durableSubscriberName(annotation.durableSubscriberName());
@@ -56,6 +56,12 @@ public @interface JmsSyncEndpointConfig {
      */
     String replyDestination() default "";
 
+    /**
+     * Use shared temporary reply destination and reply consumer for all requests.
+     * @return
+     */
+    boolean sharedReplyConsumer() default false;
+
     /**
      * Connection factory reference.
      * @return
@@ -105,6 +105,8 @@ public class JmsSyncEndpointConfigParser implements AnnotationConfigParser<JmsSy
             builder.replyDestination(annotation.replyDestinationName());
         }
 
+        builder.sharedReplyConsumer(annotation.sharedReplyConsumer());
+
         if (StringUtils.hasText(annotation.correlator())) {
             builder.correlator(referenceResolver.resolve(annotation.correlator(), MessageCorrelator.class));
         }
@@ -38,6 +38,7 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
         super.parseEndpointConfiguration(endpointConfiguration, element, parserContext);
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-start"), "autoStart");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("listener-mode"), "listenerMode");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscription"), "durableSubscription");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscriber-name"), "durableSubscriberName");
     }
@@ -53,6 +53,9 @@ public class JmsSyncEndpointParser extends AbstractJmsEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
                 element.getAttribute("reply-destination-name"), "replyDestinationName");
 
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
+                element.getAttribute("shared-reply-consumer"), "sharedReplyConsumer");
+
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration,
                 element.getAttribute("message-correlator"), "correlator");
     }
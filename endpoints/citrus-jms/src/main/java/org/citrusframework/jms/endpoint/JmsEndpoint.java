@@ -60,7 +60,12 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingPhase,
     @Override
     public SelectiveConsumer createConsumer() {
         if (jmsConsumer == null) {
-            if (getEndpointConfiguration().isAutoStart()) {
+            if (getEndpointConfiguration().isListenerMode()) {
+                JmsListenerConsumer jmsListenerConsumer = new JmsListenerConsumer(getConsumerName(), getEndpointConfiguration(), getTestContextFactory());
+                jmsConsumer = jmsListenerConsumer;
+
+                jmsListenerConsumer.start();
+            } else if (getEndpointConfiguration().isAutoStart()) {
                 TestContextFactory testContextFactory = getTestContextFactory();
 
                 JmsTopicSubscriber jmsTopicSubscriber = new JmsTopicSubscriber(getSubscriberName(), getEndpointConfiguration(), testContextFactory);
@@ -108,6 +113,8 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingPhase,
     public void destroy() {
         if (this.jmsConsumer instanceof JmsTopicSubscriber) {
             ((JmsTopicSubscriber) this.jmsConsumer).stop();
+        } else if (this.jmsConsumer instanceof JmsListenerConsumer) {
+            ((JmsListenerConsumer) this.jmsConsumer).stop();
         }
     }
 
@@ -119,6 +126,8 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingPhase,
                             "caching subscriber enabled but pubSubDomain is set to false - please enable pubSubDomain");
             }
 
+            createConsumer();
+        } else if (getEndpointConfiguration().isListenerMode()) {
             createConsumer();
         }
     }
@@ -129,6 +129,16 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the listenerMode property.
+     * @param listenerMode
+     * @return
+     */
+    public JmsEndpointBuilder listenerMode(boolean listenerMode) {
+        endpoint.getEndpointConfiguration().setListenerMode(listenerMode);
+        return this;
+    }
+
     /**
      * Sets the durableSubscription property.
      * @param durableSubscription
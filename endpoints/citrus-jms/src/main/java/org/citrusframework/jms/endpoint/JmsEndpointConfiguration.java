@@ -73,6 +73,9 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Start topic subscription immediately at startup and cache all incoming message events in local channel */
     private boolean autoStart = false;
 
+    /** Consume messages with a message listener and cache all incoming messages in local channel */
+    private boolean listenerMode = false;
+
     /** Durable subscriber settings */
     private boolean durableSubscription = false;
     private String durableSubscriberName;
@@ -333,6 +336,24 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoStart = autoStart;
     }
 
+    /**
+     * Gets the listenerMode.
+     *
+     * @return
+     */
+    public boolean isListenerMode() {
+        return listenerMode;
+    }
+
+    /**
+     * Sets the listenerMode.
+     *
+     * @param listenerMode
+     */
+    public void setListenerMode(boolean listenerMode) {
+        this.listenerMode = listenerMode;
+    }
+
     /**
      * Gets the durableSubscription.
      *
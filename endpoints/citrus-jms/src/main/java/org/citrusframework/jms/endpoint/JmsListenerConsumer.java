@@ -0,0 +1,277 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.jms.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.MessageListener;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.endpoint.direct.DirectEndpoint;
+import org.citrusframework.endpoint.direct.DirectEndpointConfiguration;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.jms.message.JmsMessageHeaders;
+import org.citrusframework.message.DefaultMessageQueue;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageQueue;
+import org.citrusframework.message.MessageSelectorBuilder;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * Push based JMS consumer. A message listener container keeps a cached connection, session and message consumer open on the
+ * endpoint destination and feeds all inbound messages into an in-memory message queue. Receive operations are served from
+ * that queue, so message selectors are evaluated in memory rather than creating a new selective consumer on the broker for each
+ * receive operation.
+ *
+ * In-memory message selectors support a subset of the JMS selector syntax only: comparisons of a header name with a literal
+ * value (<code>key = 'value'</code>) combined with <code>AND</code>. JMS header names such as JMSCorrelationID or JMSType
+ * are translated to the respective Citrus message header names. Other selector expressions are rejected.
+ *
+ * Note that the listener consumes and acknowledges all messages on the destination as soon as the consumer has been started.
+ * Messages that are not received by a test are lost when the consumer is stopped.
+ *
+ * @since 4.2
+ */
+public class JmsListenerConsumer extends JmsConsumer implements MessageListener {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(JmsListenerConsumer.class);
+
+    /** Test context factory for send operation on message queue */
+    private final TestContextFactory testContextFactory;
+
+    /** Delegate in-memory message queue caching all inbound messages */
+    private final DirectEndpoint messageQueue;
+
+    /** Listener container consuming messages on the endpoint destination */
+    private DefaultMessageListenerContainer container;
+
+    /** Single selector comparison: header name followed by a quoted, numeric or boolean literal */
+    private static final Pattern SELECTOR_EXPRESSION = Pattern.compile("^\\s*(.+?)\\s*=\\s*('(?:[^']|'')*'|-?\\d+(?:\\.\\d+)?|(?i:true|false))\\s*$");
+
+    /** Header name is either a JMS identifier or a prefixed Citrus selector key such as xpath: or jsonPath: */
+    private static final Pattern SELECTOR_KEY = Pattern.compile("^[A-Za-z_$][\\w$.-]*$|^\\w+:.+$");
+
+    /** JMS header names and their Citrus message header names */
+    private static final Map<String, String> JMS_HEADERS = Map.of(
+            "JMSMessageID", JmsMessageHeaders.MESSAGE_ID,
+            "JMSCorrelationID", JmsMessageHeaders.CORRELATION_ID,
+            "JMSType", JmsMessageHeaders.TYPE,
+            "JMSTimestamp", JmsMessageHeaders.TIMESTAMP,
+            "JMSRedelivered", JmsMessageHeaders.REDELIVERED,
+            "JMSPriority", JmsMessageHeaders.PRIORITY,
+            "JMSDeliveryMode", JmsMessageHeaders.DELIVERY_MODE,
+            "JMSExpiration", JmsMessageHeaders.EXPIRATION,
+            "JMSReplyTo", JmsMessageHeaders.REPLY_TO,
+            "JMSDestination", JmsMessageHeaders.DESTINATION);
+
+    /** Number of messages received from the destination and time the listener has been started */
+    private final LongAdder messageCount = new LongAdder();
+    private volatile long startTime;
+
+    /**
+     * Default constructor using endpoint.
+     *
+     * @param name
+     * @param endpointConfiguration
+     * @param testContextFactory
+     */
+    public JmsListenerConsumer(String name, JmsEndpointConfiguration endpointConfiguration, TestContextFactory testContextFactory) {
+        super(name, endpointConfiguration);
+
+        this.testContextFactory = testContextFactory;
+
+        DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
+
+        MessageQueue inboundQueue = new DefaultMessageQueue(name + ".inbound");
+        directEndpointConfiguration.setQueue(inboundQueue);
+
+        this.messageQueue = new DirectEndpoint(directEndpointConfiguration);
+    }
+
+    /**
+     * Starts the listener container and waits for the message consumer to be registered on the destination.
+     */
+    public synchronized void start() {
+        if (container != null) {
+            return;
+        }
+
+        ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
+                                                      .orElseGet(() -> endpointConfiguration.getJmsTemplate().getConnectionFactory());
+
+        if (connectionFactory == null) {
+            throw new CitrusRuntimeException("Failed to create JMS message listener - connection factory not set");
+        }
+
+        DefaultMessageListenerContainer listenerContainer = new DefaultMessageListenerContainer();
+        listenerContainer.setBeanName(getName());
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.setPubSubDomain(endpointConfiguration.isPubSubDomain());
+        listenerContainer.setCacheLevel(DefaultMessageListenerContainer.CACHE_CONSUMER);
+        listenerContainer.setMessageListener(this);
+
+        if (endpointConfiguration.getDestinationResolver() != null) {
+            listenerContainer.setDestinationResolver(endpointConfiguration.getDestinationResolver());
+        }
+
+        if (endpointConfiguration.getDestination() != null) {
+            listenerContainer.setDestination(endpointConfiguration.getDestination());
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            listenerContainer.setDestinationName(endpointConfiguration.getDestinationName());
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            listenerContainer.setDestination(endpointConfiguration.getJmsTemplate().getDefaultDestination());
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            listenerContainer.setDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
+        }
+
+        if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.isDurableSubscription()) {
+            listenerContainer.setSubscriptionDurable(true);
+            listenerContainer.setClientId(getName());
+            listenerContainer.setDurableSubscriptionName(Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElseGet(this::getName));
+        }
+
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        startTime = System.currentTimeMillis();
+        container = listenerContainer;
+
+        long timeout = System.currentTimeMillis() + endpointConfiguration.getTimeout();
+        while (!listenerContainer.isRegisteredWithDestination() && System.currentTimeMillis() < timeout) {
+            try {
+                Thread.sleep(Math.min(endpointConfiguration.getPollingInterval(), 50L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        String destinationName = listenerContainer.getDestination() != null ?
+                endpointConfiguration.getDestinationName(listenerContainer.getDestination()) : listenerContainer.getDestinationName();
+        if (listenerContainer.isRegisteredWithDestination()) {
+            logger.info("Started JMS message listener on destination: '" + destinationName + "'");
+        } else {
+            logger.warn("Timeout while waiting for JMS message listener to register on destination: '" + destinationName + "'");
+        }
+    }
+
+    /**
+     * Stops the listener container and releases the cached connection.
+     */
+    public synchronized void stop() {
+        if (container != null) {
+            container.shutdown();
+            container = null;
+
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Stopped JMS message listener after %d messages (%.2f messages/s)", getMessageCount(), getThroughput()));
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(jakarta.jms.Message event) {
+        TestContext context = testContextFactory.getObject();
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Received JMS message '%s'", message.getId()));
+        }
+
+        messageQueue.createProducer().send(message, context);
+        messageCount.increment();
+    }
+
+    @Override
+    public Message receive(TestContext context, long timeout) {
+        return receive(null, context, timeout);
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context, long timeout) {
+        Message message = messageQueue.createConsumer().receive(toMessageSelector(selector), context, timeout);
+        context.onInboundMessage(message);
+        return message;
+    }
+
+    /**
+     * Translates given JMS message selector to an in-memory message selector. JMS header names are translated to the
+     * respective Citrus message header names. Raises error for selector expressions that are not supported in memory.
+     * @param selector
+     * @return
+     */
+    static String toMessageSelector(String selector) {
+        if (!StringUtils.hasText(selector)) {
+            return selector;
+        }
+
+        Map<String, Object> expressions = new LinkedHashMap<>();
+        for (String expression : selector.split("(?i)\\s+AND\\s+")) {
+            Matcher matcher = SELECTOR_EXPRESSION.matcher(expression);
+            if (!matcher.matches() || !SELECTOR_KEY.matcher(matcher.group(1)).matches()) {
+                throw new CitrusRuntimeException(String.format("Unsupported message selector '%s' for JMS message listener - " +
+                        "only expressions of the form key = 'value' combined with AND are supported", selector));
+            }
+
+            String value = matcher.group(2);
+            if (value.startsWith("'")) {
+                value = value.substring(1, value.length() - 1).replace("''", "'");
+            }
+
+            expressions.put(JMS_HEADERS.getOrDefault(matcher.group(1), matcher.group(1)), value);
+        }
+
+        return MessageSelectorBuilder.fromKeyValueMap(expressions).build();
+    }
+
+    /**
+     * Gets the number of messages received from the destination since the listener has been started.
+     * @return
+     */
+    public long getMessageCount() {
+        return messageCount.sum();
+    }
+
+    /**
+     * Gets the average number of messages per second received from the destination since the listener has been started.
+     * @return
+     */
+    public double getThroughput() {
+        long elapsed = System.currentTimeMillis() - startTime;
+        return startTime > 0 && elapsed > 0 ? getMessageCount() * 1000.0 / elapsed : 0.0;
+    }
+
+    /**
+     * Gets the running state.
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return container != null && container.isRunning();
+    }
+}
@@ -170,6 +170,16 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the shared reply consumer mode.
+     * @param sharedReplyConsumer
+     * @return
+     */
+    public JmsSyncEndpointBuilder sharedReplyConsumer(boolean sharedReplyConsumer) {
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(sharedReplyConsumer);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
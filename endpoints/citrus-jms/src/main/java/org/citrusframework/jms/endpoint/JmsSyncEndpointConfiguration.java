@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use one long-lived reply destination and consumer for all requests instead of a consumer per request */
+    private boolean sharedReplyConsumer = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,21 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyConsumer.
+     * @return the sharedReplyConsumer
+     */
+    public boolean isSharedReplyConsumer() {
+        return sharedReplyConsumer;
+    }
+
+    /**
+     * Enables one long-lived temporary reply destination and reply consumer that is shared by all requests of the producer.
+     * Replies are correlated to the requests by their JMS correlation id. Has no effect when a reply destination is set,
+     * because requests with a named reply destination always use a selector based reply consumer.
+     * @param sharedReplyConsumer the sharedReplyConsumer to set
+     */
+    public void setSharedReplyConsumer(boolean sharedReplyConsumer) {
+        this.sharedReplyConsumer = sharedReplyConsumer;
+    }
 }
@@ -16,7 +16,13 @@
 
 package org.citrusframework.jms.endpoint;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.jms.*;
 import org.citrusframework.context.TestContext;
@@ -24,6 +30,7 @@ import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ReplyMessageTimeoutException;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageHeaders;
+import org.citrusframework.message.correlation.BoundedObjectStore;
 import org.citrusframework.message.correlation.CorrelationManager;
 import org.citrusframework.message.correlation.PollingCorrelationManager;
 import org.citrusframework.messaging.ReplyConsumer;
@@ -36,6 +43,13 @@ import org.springframework.jms.support.JmsUtils;
 import org.springframework.jms.support.destination.DynamicDestinationResolver;
 
 /**
+ * Synchronous JMS producer sends request messages and waits for the respective reply message. By default each request
+ * creates a reply consumer on a temporary or selector based reply destination. When shared reply consumer mode is enabled
+ * on the endpoint configuration a single long-lived temporary reply destination and message listener is used for all requests and
+ * replies are correlated to requests by their JMS correlation id. Shared mode is limited to temporary reply destinations, because
+ * a consumer without message selector on a named reply destination would also take replies addressed to other clients. Requests
+ * with a named reply destination keep using a selector based reply consumer per request.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -50,6 +64,9 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Long-lived reply consumer shared by all requests */
+    private SharedReplyConsumer sharedReplyConsumer;
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -65,7 +82,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new PollingCorrelationManager<>(this::getName, endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -81,6 +98,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
+        SharedReplyConsumer replyConsumer = null;
 
         try {
             createConnection();
@@ -116,23 +134,34 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
             messageProducer = session.createProducer(destination);
 
-            replyToDestination = getReplyDestination(session, message);
-            context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
-            if (replyToDestination instanceof TemporaryQueue || replyToDestination instanceof TemporaryTopic) {
-                messageConsumer = session.createConsumer(replyToDestination);
+            if (isSharedReplyConsumer(message)) {
+                replyConsumer = getSharedReplyConsumer();
+                replyToDestination = replyConsumer.getDestination();
+            } else {
+                replyToDestination = getReplyDestination(session, message);
+                if (replyToDestination instanceof TemporaryQueue || replyToDestination instanceof TemporaryTopic) {
+                    messageConsumer = session.createConsumer(replyToDestination);
+                }
             }
 
+            context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
+
             jmsRequest.setJMSReplyTo(replyToDestination);
             messageProducer.send(jmsRequest);
 
-            if (messageConsumer == null) {
+            if (replyConsumer == null && messageConsumer == null) {
                 messageConsumer = createMessageConsumer(replyToDestination, jmsRequest.getJMSMessageID());
             }
 
             logger.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
             logger.debug("Receiving reply message on destination: '{}'", replyToDestination);
 
-            jakarta.jms.Message jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? messageConsumer.receive(endpointConfiguration.getTimeout()) : messageConsumer.receive();
+            jakarta.jms.Message jmsReplyMessage;
+            if (replyConsumer != null) {
+                jmsReplyMessage = replyConsumer.receive(jmsRequest.getJMSMessageID(), endpointConfiguration.getTimeout());
+            } else {
+                jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? messageConsumer.receive(endpointConfiguration.getTimeout()) : messageConsumer.receive();
+            }
 
             if (jmsReplyMessage == null) {
                 throw new ReplyMessageTimeoutException(endpointConfiguration.getTimeout(), Objects.toString(replyToDestination));
@@ -150,7 +179,10 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         } finally {
             JmsUtils.closeMessageProducer(messageProducer);
             JmsUtils.closeMessageConsumer(messageConsumer);
-            deleteTemporaryDestination(replyToDestination);
+
+            if (replyConsumer == null) {
+                deleteTemporaryDestination(replyToDestination);
+            }
         }
     }
 
@@ -233,6 +265,55 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Checks whether given request uses the shared reply consumer. Shared reply consumer is only used with temporary
+     * reply destinations, so requests with a reply destination set on the message or the endpoint configuration
+     * use a selector based reply consumer instead.
+     * @param message
+     * @return
+     */
+    private boolean isSharedReplyConsumer(Message message) {
+        if (!endpointConfiguration.isSharedReplyConsumer()
+                || message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) != null) {
+            return false;
+        }
+
+        if (endpointConfiguration.getReplyDestination() != null || StringUtils.hasText(endpointConfiguration.getReplyDestinationName())) {
+            logger.debug("Shared reply consumer is limited to temporary reply destinations - using selector based reply consumer on configured reply destination");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the shared reply consumer. Creates temporary reply destination and message listener on first access.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized SharedReplyConsumer getSharedReplyConsumer() throws JMSException {
+        if (sharedReplyConsumer == null) {
+            Session replySession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+
+            try {
+                Destination replyDestination;
+                if (endpointConfiguration.isPubSubDomain()) {
+                    replyDestination = replySession.createTemporaryTopic();
+                } else {
+                    replyDestination = replySession.createTemporaryQueue();
+                }
+
+                logger.debug("Created shared reply consumer on destination: '{}'", replyDestination);
+                sharedReplyConsumer = new SharedReplyConsumer(getName(), replySession, replyDestination);
+            } catch (JMSException | RuntimeException e) {
+                JmsUtils.closeSession(replySession);
+                throw e;
+            }
+        }
+
+        return sharedReplyConsumer;
+    }
+
     /**
      * Creates a message consumer on temporary/durable queue or topic. Durable queue/topic destinations
      * require a message selector to be set.
@@ -335,6 +416,14 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        synchronized (this) {
+            if (sharedReplyConsumer != null) {
+                sharedReplyConsumer.close();
+                deleteTemporaryDestination(sharedReplyConsumer.getDestination());
+                sharedReplyConsumer = null;
+            }
+        }
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -357,4 +446,101 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Long-lived reply consumer receiving all replies on the shared reply destination with a message listener.
+     * Replies are handed over to the waiting request by their JMS correlation id. Replies that arrive
+     * before the request is waiting for them are kept in a bounded store.
+     */
+    private static class SharedReplyConsumer implements MessageListener {
+
+        private final Session session;
+        private final Destination destination;
+        private final MessageConsumer consumer;
+
+        /** Requests waiting for reply by JMS message id */
+        private final Map<String, CompletableFuture<jakarta.jms.Message>> pending = new ConcurrentHashMap<>();
+
+        /** Replies without waiting request */
+        private final BoundedObjectStore<jakarta.jms.Message> unclaimed;
+
+        SharedReplyConsumer(String name, Session session, Destination destination) throws JMSException {
+            this.session = session;
+            this.destination = destination;
+            this.unclaimed = new BoundedObjectStore<>(name, BoundedObjectStore.DEFAULT_MAX_SIZE, BoundedObjectStore.DEFAULT_TIME_TO_LIVE);
+            this.consumer = session.createConsumer(destination);
+            this.consumer.setMessageListener(this);
+        }
+
+        @Override
+        public void onMessage(jakarta.jms.Message reply) {
+            String correlationId;
+            try {
+                correlationId = reply.getJMSCorrelationID();
+            } catch (JMSException e) {
+                logger.warn("Failed to read JMS correlation id of reply message", e);
+                return;
+            }
+
+            if (!StringUtils.hasText(correlationId)) {
+                logger.warn("Ignoring reply message without JMS correlation id on destination: '{}'", destination);
+                return;
+            }
+
+            CompletableFuture<jakarta.jms.Message> request = pending.get(correlationId);
+            if (request != null) {
+                request.complete(reply);
+                return;
+            }
+
+            unclaimed.add(correlationId, reply);
+
+            // request may have started waiting in the meantime
+            request = pending.get(correlationId);
+            if (request != null) {
+                jakarta.jms.Message claimed = unclaimed.remove(correlationId);
+                if (claimed != null) {
+                    request.complete(claimed);
+                }
+            }
+        }
+
+        /**
+         * Waits for reply message with given correlation id.
+         * @param correlationId
+         * @param timeout negative value waits forever
+         * @return the reply message or null in case of timeout
+         */
+        jakarta.jms.Message receive(String correlationId, long timeout) {
+            CompletableFuture<jakarta.jms.Message> request = new CompletableFuture<>();
+            pending.put(correlationId, request);
+
+            try {
+                jakarta.jms.Message reply = unclaimed.remove(correlationId);
+                if (reply != null) {
+                    return reply;
+                }
+
+                return timeout >= 0 ? request.get(timeout, TimeUnit.MILLISECONDS) : request.get();
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException(e.getCause());
+            } finally {
+                pending.remove(correlationId);
+            }
+        }
+
+        Destination getDestination() {
+            return destination;
+        }
+
+        void close() {
+            JmsUtils.closeMessageConsumer(consumer);
+            JmsUtils.closeSession(session);
+        }
+    }
 }
@@ -18,12 +18,14 @@ package org.citrusframework.jms.endpoint;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
 import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
 import jakarta.jms.MessageProducer;
 import jakarta.jms.Queue;
 import jakarta.jms.Session;
@@ -162,6 +164,112 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessageWithSharedReplyConsumer() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        AtomicReference<MessageListener> listener = new AtomicReference<>();
+        doAnswer(invocation -> {
+            listener.set(invocation.getArgument(0));
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<>()));
+
+        // reply arrives before the producer is waiting for it
+        doAnswer(invocation -> {
+            listener.get().onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        endpoint.createProducer().send(message, context);
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+
+        // reply arrives while the producer is waiting for it
+        doAnswer(invocation -> {
+            new Thread(() -> {
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                listener.get().onMessage(jmsResponse);
+            }).start();
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        endpoint.createProducer().send(message, context);
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createConsumer(tempReplyQueue);
+        verify(messageConsumer, never()).receive(anyLong());
+        verify(tempReplyQueue, never()).delete();
+
+        endpoint.destroy();
+
+        verify(messageConsumer).close();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSharedReplyConsumerWithReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReplyDestination(replyDestinationQueue);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<>());
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createConsumer(replyDestinationQueue, "JMSCorrelationID = '123456789'")).thenReturn(messageConsumer);
+        when(messageConsumer.receive(anyLong())).thenReturn(jmsResponse);
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<>()));
+
+        endpoint.createProducer().send(message, context);
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+
+        // named reply destination is never consumed without message selector
+        verify(session, never()).createConsumer(replyDestinationQueue);
+        verify(messageConsumer, never()).setMessageListener(any(MessageListener.class));
+        verify(session, never()).createTemporaryQueue();
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.jms.endpoint;
+
+import java.util.Collections;
+
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.ActionTimeoutException;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.jms.message.JmsMessageHeaders;
+import org.citrusframework.message.Message;
+import org.citrusframework.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class JmsListenerConsumerTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testReceiveBufferedMessages() {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        JmsListenerConsumer consumer = new JmsListenerConsumer("listener", endpointConfiguration, TestContextFactory.newInstance());
+
+        consumer.onMessage(new TextMessageImpl("Hello", Collections.singletonMap("Operation", "sayHello")));
+        consumer.onMessage(new TextMessageImpl("Goodbye", Collections.singletonMap("Operation", "sayGoodbye")));
+
+        Assert.assertEquals(consumer.getMessageCount(), 2L);
+
+        Message received = consumer.receive("Operation = 'sayGoodbye'", context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Goodbye");
+        Assert.assertEquals(received.getHeader("Operation"), "sayGoodbye");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello");
+
+        try {
+            consumer.receive(context, 100L);
+            Assert.fail("Missing timeout exception");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("listener.inbound"));
+        }
+
+        Assert.assertFalse(consumer.isRunning());
+    }
+
+    @Test
+    public void testReceiveSelectedByJmsHeaders() {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        JmsListenerConsumer consumer = new JmsListenerConsumer("listener", endpointConfiguration, TestContextFactory.newInstance());
+
+        consumer.onMessage(new TextMessageImpl("Hello", Collections.singletonMap("Operation", "sayHello")) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "hello-1";
+            }
+        });
+        consumer.onMessage(new TextMessageImpl("Goodbye", Collections.singletonMap("Operation", "sayGoodbye")) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "goodbye-1";
+            }
+
+            @Override
+            public String getJMSType() {
+                return "farewell";
+            }
+        });
+
+        Message received = consumer.receive("JMSCorrelationID = 'goodbye-1' and JMSType = 'farewell'", context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Goodbye");
+
+        received = consumer.receive("JMSCorrelationID = 'hello-1' AND Operation = 'sayHello'", context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello");
+    }
+
+    @Test
+    public void testToMessageSelector() {
+        Assert.assertEquals(JmsListenerConsumer.toMessageSelector("Operation = 'sayHello'"), "Operation = 'sayHello'");
+        Assert.assertEquals(JmsListenerConsumer.toMessageSelector("JMSCorrelationID='1' and JMSPriority = 4"),
+                JmsMessageHeaders.CORRELATION_ID + " = '1' AND " + JmsMessageHeaders.PRIORITY + " = '4'");
+        Assert.assertEquals(JmsListenerConsumer.toMessageSelector("Text = 'It''s me'"), "Text = 'It's me'");
+        Assert.assertEquals(JmsListenerConsumer.toMessageSelector("xpath://Operation[@type='test'] = 'sayHello'"), "xpath://Operation[@type='test'] = 'sayHello'");
+        Assert.assertNull(JmsListenerConsumer.toMessageSelector(null));
+    }
+
+    @DataProvider
+    public Object[][] unsupportedSelectors() {
+        return new Object[][] {
+            new Object[] { "Operation = 'sayHello' OR Operation = 'sayGoodbye'" },
+            new Object[] { "Operation <> 'sayHello'" },
+            new Object[] { "Operation LIKE 'say%'" },
+            new Object[] { "JMSPriority > 4" },
+            new Object[] { "Operation IN ('sayHello', 'sayGoodbye')" },
+            new Object[] { "NOT Operation = 'sayHello'" },
+            new Object[] { "Operation = sayHello" }
+        };
+    }
+
+    @Test(dataProvider = "unsupportedSelectors", expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unsupported message selector .* for JMS message listener.*")
+    public void testUnsupportedSelector(String selector) {
+        JmsListenerConsumer.toMessageSelector(selector);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.jms.integration;
+
+import org.citrusframework.annotations.CitrusTest;
+import org.citrusframework.testng.spring.TestNGCitrusSpringSupport;
+import org.testng.annotations.Test;
+
+import static org.citrusframework.actions.ReceiveMessageAction.Builder.receive;
+import static org.citrusframework.actions.SendMessageAction.Builder.send;
+
+@Test
+public class JmsListenerConsumerJavaIT extends TestNGCitrusSpringSupport {
+
+    @CitrusTest
+    public void jmsListenerConsumer() {
+        variable("correlationId", "citrus:randomNumber(10)");
+
+        when(send("listenerMessageSender")
+            .message()
+            .body("<Message>First</Message>")
+            .header("Operation", "first")
+            .header("CorrelationId", "${correlationId}"));
+
+        and(send("listenerMessageSender")
+            .message()
+            .body("<Message>Second</Message>")
+            .header("Operation", "second")
+            .header("CorrelationId", "${correlationId}"));
+
+        then(receive("listenerMessageReceiver")
+            .selector("Operation = 'second' AND CorrelationId = '${correlationId}'")
+            .message()
+            .body("<Message>Second</Message>"));
+
+        and(receive("listenerMessageReceiver")
+            .message()
+            .body("<Message>First</Message>")
+            .header("Operation", "first"));
+    }
+}
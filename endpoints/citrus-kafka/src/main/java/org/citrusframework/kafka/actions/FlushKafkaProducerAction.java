@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.kafka.actions;
+
+import org.citrusframework.AbstractTestActionBuilder;
+import org.citrusframework.actions.AbstractTestAction;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kafka.endpoint.KafkaEndpoint;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Action waits for all records sent by a Kafka endpoint to be acknowledged. Fails in case records sent in asynchronous
+ * mode have not been acknowledged by the broker.
+ *
+ * @since 4.2
+ */
+public class FlushKafkaProducerAction extends AbstractTestAction {
+
+    /** Kafka endpoint to flush */
+    private final KafkaEndpoint endpoint;
+
+    /** Kafka endpoint name resolved from the test context */
+    private final String endpointName;
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(FlushKafkaProducerAction.class);
+
+    /**
+     * Default constructor.
+     */
+    public FlushKafkaProducerAction(Builder builder) {
+        super("flush-kafka-producer", builder);
+
+        this.endpoint = builder.endpoint;
+        this.endpointName = builder.endpointName;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        KafkaEndpoint kafkaEndpoint = getEndpoint(context);
+
+        logger.debug("Flushing Kafka producer of endpoint: '" + kafkaEndpoint.getName() + "'");
+        kafkaEndpoint.createProducer().flush();
+        logger.info("Flushed Kafka producer of endpoint: '" + kafkaEndpoint.getName() + "'");
+    }
+
+    /**
+     * Gets the Kafka endpoint either directly set or resolved by its name.
+     * @param context
+     * @return
+     */
+    private KafkaEndpoint getEndpoint(TestContext context) {
+        if (endpoint != null) {
+            return endpoint;
+        }
+
+        if (StringUtils.hasText(endpointName)) {
+            return context.getReferenceResolver().resolve(context.replaceDynamicContentInString(endpointName), KafkaEndpoint.class);
+        }
+
+        throw new CitrusRuntimeException("Missing Kafka endpoint to flush - set endpoint or endpoint name");
+    }
+
+    /**
+     * Gets the endpoint.
+     * @return
+     */
+    public KafkaEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Gets the endpoint name.
+     * @return
+     */
+    public String getEndpointName() {
+        return endpointName;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<FlushKafkaProducerAction, Builder> {
+
+        private KafkaEndpoint endpoint;
+        private String endpointName;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @return
+         */
+        public static Builder flushProducer() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the Kafka endpoint to flush.
+         * @param endpoint
+         * @return
+         */
+        public Builder endpoint(KafkaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Sets the name of the Kafka endpoint to flush.
+         * @param endpointName
+         * @return
+         */
+        public Builder endpoint(String endpointName) {
+            this.endpointName = endpointName;
+            return this;
+        }
+
+        @Override
+        public FlushKafkaProducerAction build() {
+            return new FlushKafkaProducerAction(this);
+        }
+    }
+}
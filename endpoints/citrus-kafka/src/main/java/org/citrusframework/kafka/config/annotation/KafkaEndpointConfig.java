@@ -67,6 +67,30 @@ public @interface KafkaEndpointConfig {
      */
     int autoCommitInterval() default 1000;
 
+    /**
+     * Max number of records per consumer poll.
+     * @return
+     */
+    int maxPollRecords() default 1;
+
+    /**
+     * Max number of records buffered by the consumer.
+     * @return
+     */
+    int maxBufferedRecords() default 1000;
+
+    /**
+     * Asynchronous producer mode.
+     * @return
+     */
+    boolean asynchronous() default false;
+
+    /**
+     * Max number of unacknowledged records in asynchronous producer mode.
+     * @return
+     */
+    int maxInFlight() default 100;
+
     /**
      * Topic partition.
      * @return
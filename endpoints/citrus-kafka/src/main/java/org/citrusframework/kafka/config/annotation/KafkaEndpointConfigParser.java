@@ -50,8 +50,13 @@ public class KafkaEndpointConfigParser implements AnnotationConfigParser<KafkaEn
 
         builder.autoCommit(annotation.autoCommit());
         builder.autoCommitInterval(annotation.autoCommitInterval());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.maxBufferedRecords(annotation.maxBufferedRecords());
         builder.offsetReset(annotation.offsetReset());
 
+        builder.asynchronous(annotation.asynchronous());
+        builder.maxInFlight(annotation.maxInFlight());
+
         if (StringUtils.hasText(annotation.clientId())) {
             builder.clientId(annotation.clientId());
         }
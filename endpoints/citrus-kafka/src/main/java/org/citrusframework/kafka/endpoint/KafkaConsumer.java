@@ -17,29 +17,50 @@
 package org.citrusframework.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.MessageTimeoutException;
 import org.citrusframework.kafka.message.KafkaMessageHeaders;
 import org.citrusframework.message.Message;
-import org.citrusframework.messaging.AbstractMessageConsumer;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
+import org.citrusframework.messaging.AbstractSelectiveMessageConsumer;
+import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Kafka consumer keeps all records of a poll result in a local buffer. Subsequent receive operations are served
+ * from that buffer before the next poll is performed. Selective receive operations search the buffered records first and
+ * keep unmatched records in the buffer for later receive operations. Buffered records are converted to messages only once.
+ * <p>
+ * Kafka auto commit is disabled so buffered records are never committed before they have been received. Instead, the consumer
+ * commits the offsets of received records in batches once the buffer has been drained, the auto commit interval has elapsed
+ * or the consumer is stopped. The auto commit setting of the endpoint decides whether these batches are committed asynchronously
+ * or synchronously. The number of buffered records is limited - the consumer pauses fetching when the limit is reached.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaConsumer extends AbstractMessageConsumer {
+public class KafkaConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(KafkaConsumer.class);
@@ -50,6 +71,17 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Records polled but not yet received */
+    private final Deque<BufferedRecord> buffer = new ArrayDeque<>();
+
+    /** Next offset to commit per partition and the offsets committed so far */
+    private final Map<TopicPartition, Long> consumedOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> committedOffsets = new HashMap<>();
+    private long lastCommit = System.currentTimeMillis();
+
+    /** Whether fetching is paused because the buffer limit has been reached */
+    private boolean paused = false;
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -62,43 +94,168 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public synchronized Message receive(String selector, TestContext context, long timeout) {
         String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
                                                                      .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
 
         if (logger.isDebugEnabled()) {
-            logger.debug("Receiving Kafka message on topic: '" + topic);
+            logger.debug("Receiving Kafka message on topic: '" + topic + (StringUtils.hasText(selector) ? "(" + selector + ")" : ""));
         }
 
         if (consumer.subscription() == null || consumer.subscription().isEmpty()) {
             consumer.subscribe(Arrays.stream(topic.split(",")).collect(Collectors.toList()));
         }
 
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+        MessageSelector messageSelector = StringUtils.hasText(selector) ? new DelegatingMessageSelector(selector, context) : null;
+        long timeLeft = timeout;
+        long deadline = System.currentTimeMillis() + timeout;
+
+        Message received = takeFromBuffer(messageSelector, context);
+        while (received == null) {
+            updateFetchState();
+            ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeLeft));
+
+            if (records.isEmpty()) {
+                throw new MessageTimeoutException(timeout, topic);
+            }
+
+            records.forEach(record -> {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+                }
 
-        if (records.isEmpty()) {
-            throw new MessageTimeoutException(timeout, topic);
+                buffer.add(new BufferedRecord(record));
+            });
+
+            received = takeFromBuffer(messageSelector, context);
+            timeLeft = deadline - System.currentTimeMillis();
+
+            if (received == null && timeLeft <= 0) {
+                throw new MessageTimeoutException(timeout, topic);
+            }
         }
 
-        if (logger.isDebugEnabled()) {
-            records.forEach(record -> logger.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+        if (buffer.isEmpty() || System.currentTimeMillis() - lastCommit >= endpointConfiguration.getAutoCommitInterval()) {
+            commit(!endpointConfiguration.isAutoCommit());
         }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
         context.onInboundMessage(received);
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
-
         logger.info("Received Kafka message on topic: '" + topic);
         return received;
     }
 
     /**
-     * Stop message listener container.
+     * Removes first buffered record accepted by given message selector and marks its offset as consumed. Returns null in case
+     * no buffered record is accepted.
+     * @param messageSelector optional message selector, first buffered record is taken when not set
+     * @param context
+     * @return
+     */
+    private Message takeFromBuffer(MessageSelector messageSelector, TestContext context) {
+        Iterator<BufferedRecord> records = buffer.iterator();
+        while (records.hasNext()) {
+            BufferedRecord buffered = records.next();
+            Message message = buffered.getMessage(context);
+
+            if (messageSelector == null || messageSelector.accept(message)) {
+                records.remove();
+                consumedOffsets.merge(new TopicPartition(buffered.record.topic(), buffered.record.partition()),
+                        buffered.record.offset() + 1, Math::max);
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Pauses fetching of new records when the buffer limit has been reached and resumes fetching as soon as buffered
+     * records have been received.
+     */
+    private void updateFetchState() {
+        boolean bufferFull = buffer.size() >= endpointConfiguration.getMaxBufferedRecords();
+        if (bufferFull == paused) {
+            return;
+        }
+
+        Set<TopicPartition> assignment = Optional.ofNullable(consumer.assignment()).orElseGet(Collections::emptySet);
+        if (bufferFull) {
+            logger.warn(String.format("Kafka consumer buffer limit of %s records reached - pause fetching until buffered records are received",
+                    endpointConfiguration.getMaxBufferedRecords()));
+            consumer.pause(assignment);
+        } else {
+            consumer.resume(assignment);
+        }
+
+        paused = bufferFull;
+    }
+
+    /**
+     * Commits offsets of consumed records. In case there are buffered records on the same partition with a lower offset
+     * (e.g. skipped by a message selector) the offset of the first of these records is committed instead.
+     * @param sync
+     */
+    private void commit(boolean sync) {
+        lastCommit = System.currentTimeMillis();
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        consumedOffsets.forEach((partition, consumed) -> {
+            long offset = consumed;
+            for (BufferedRecord buffered : buffer) {
+                if (buffered.record.topic().equals(partition.topic()) && buffered.record.partition() == partition.partition()) {
+                    offset = Math.min(offset, buffered.record.offset());
+                    break;
+                }
+            }
+
+            if (offset > committedOffsets.getOrDefault(partition, -1L)) {
+                offsets.put(partition, new OffsetAndMetadata(offset));
+            }
+        });
+
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        offsets.forEach((partition, offset) -> committedOffsets.put(partition, offset.offset()));
+
+        if (sync) {
+            consumer.commitSync(offsets, Duration.ofMillis(endpointConfiguration.getTimeout()));
+        } else {
+            consumer.commitAsync(offsets, (committed, e) -> {
+                if (e != null) {
+                    logger.warn("Failed to commit Kafka consumer offsets: " + committed, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the number of records polled but not yet received.
+     * @return
+     */
+    public synchronized int getBufferSize() {
+        return buffer.size();
+    }
+
+    /**
+     * Stop message listener container. Commits offsets of all received records before the consumer is closed.
      */
     public void stop() {
         try {
+            synchronized (this) {
+                try {
+                    commit(true);
+                } catch (KafkaException e) {
+                    logger.warn("Failed to commit Kafka consumer offsets on stop", e);
+                }
+
+                buffer.clear();
+                consumedOffsets.clear();
+                committedOffsets.clear();
+            }
+
             if (consumer.subscription() != null && !consumer.subscription().isEmpty()) {
                 consumer.unsubscribe();
             }
@@ -116,9 +273,9 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElseGet(()  -> KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
-        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
-        consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.getMaxPollRecords());
+        // offsets are committed by this consumer once the buffered records have been received
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
         consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, endpointConfiguration.getKeyDeserializer());
         consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, endpointConfiguration.getValueDeserializer());
@@ -136,4 +293,24 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     public void setConsumer(org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer) {
         this.consumer = consumer;
     }
+
+    /**
+     * Buffered consumer record with its converted message. The record is converted once on first access.
+     */
+    private class BufferedRecord {
+        private final ConsumerRecord<Object, Object> record;
+        private Message message;
+
+        BufferedRecord(ConsumerRecord<Object, Object> record) {
+            this.record = record;
+        }
+
+        Message getMessage(TestContext context) {
+            if (message == null) {
+                message = endpointConfiguration.getMessageConverter().convertInbound(record, endpointConfiguration, context);
+            }
+
+            return message;
+        }
+    }
 }
@@ -72,8 +72,14 @@ public class KafkaEndpoint extends AbstractEndpoint implements ShutdownPhase {
 
     @Override
     public void destroy() {
-        if (kafkaConsumer != null) {
-            kafkaConsumer.stop();
+        try {
+            if (kafkaProducer != null) {
+                kafkaProducer.stop();
+            }
+        } finally {
+            if (kafkaConsumer != null) {
+                kafkaConsumer.stop();
+            }
         }
     }
 }
@@ -68,6 +68,26 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Sets the asynchronous producer mode.
+     * @param asynchronous
+     * @return
+     */
+    public KafkaEndpointBuilder asynchronous(boolean asynchronous) {
+        endpoint.getEndpointConfiguration().setAsynchronous(asynchronous);
+        return this;
+    }
+
+    /**
+     * Sets the max number of unacknowledged records in asynchronous producer mode.
+     * @param maxInFlight
+     * @return
+     */
+    public KafkaEndpointBuilder maxInFlight(int maxInFlight) {
+        endpoint.getEndpointConfiguration().setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Sets the autoCommit property.
      * @param autoCommit
@@ -78,6 +98,26 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Sets the max number of records per consumer poll.
+     * @param maxPollRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPollRecords(int maxPollRecords) {
+        endpoint.getEndpointConfiguration().setMaxPollRecords(maxPollRecords);
+        return this;
+    }
+
+    /**
+     * Sets the max number of records buffered by the consumer.
+     * @param maxBufferedRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxBufferedRecords(int maxBufferedRecords) {
+        endpoint.getEndpointConfiguration().setMaxBufferedRecords(maxBufferedRecords);
+        return this;
+    }
+
     /**
      * Sets the autoCommitInterval property.
      * @param autoCommitInterval
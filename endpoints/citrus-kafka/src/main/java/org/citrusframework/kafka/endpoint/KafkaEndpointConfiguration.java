@@ -59,16 +59,24 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     private Map<String, Object> consumerProperties = new HashMap<>();
     private Map<String, Object> producerProperties = new HashMap<>();
 
-    /** Auto commit setting for consumer */
+    /** Auto commit setting for consumer - selects asynchronous (true) or synchronous (false) batch commits of received records */
     private boolean autoCommit = true;
     private int autoCommitInterval = 1000;
 
+    /** Max number of records per consumer poll and max number of records buffered by the consumer */
+    private int maxPollRecords = 1;
+    private int maxBufferedRecords = 1000;
+
     /** Offset reset setting for consumer  */
     private String offsetReset = "earliest";
 
     /** Topic partition */
     private int partition = 0;
 
+    /** Asynchronous producer mode and max number of unacknowledged records in this mode */
+    private boolean asynchronous = false;
+    private int maxInFlight = 100;
+
     /**
      * Gets the topic name.
      * @return the topic
@@ -335,6 +343,43 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
         this.autoCommitInterval = autoCommitInterval;
     }
 
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the max number of records returned by a single consumer poll.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the maxBufferedRecords.
+     *
+     * @return
+     */
+    public int getMaxBufferedRecords() {
+        return maxBufferedRecords;
+    }
+
+    /**
+     * Sets the max number of polled records the consumer keeps for later receive operations. Consumer stops fetching
+     * records when the limit is reached until buffered records have been received.
+     *
+     * @param maxBufferedRecords
+     */
+    public void setMaxBufferedRecords(int maxBufferedRecords) {
+        this.maxBufferedRecords = maxBufferedRecords;
+    }
+
     /**
      * Gets the partition.
      *
@@ -352,4 +397,40 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the asynchronous producer mode.
+     *
+     * @return
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Sets the asynchronous producer mode. Producer does not wait for the acknowledgement of sent records in this mode.
+     *
+     * @param asynchronous
+     */
+    public void setAsynchronous(boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Gets the maxInFlight.
+     *
+     * @return
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the max number of sent records that have not been acknowledged yet in asynchronous producer mode.
+     *
+     * @param maxInFlight
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
 }
@@ -16,26 +16,46 @@
 
 package org.citrusframework.kafka.endpoint;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.citrusframework.TestCase;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.kafka.message.KafkaMessageHeaders;
 import org.citrusframework.message.Message;
 import org.citrusframework.messaging.Producer;
+import org.citrusframework.report.AbstractTestListener;
+import org.citrusframework.report.TestListener;
+import org.citrusframework.report.TestListeners;
 import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Kafka producer sends records and waits for the acknowledgement of each record by default. In asynchronous mode
+ * records are pipelined instead: the producer only blocks when the configured max number of unacknowledged records
+ * is reached, so Kafka client batching and linger settings apply. Failed acknowledgements are collected and raised on the
+ * next {@link #flush()}. The producer flushes automatically when a test that has sent asynchronous records finishes and fails
+ * each test with the failed acknowledgements of the records that this test has sent. Send latencies are recorded per topic in both modes.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -53,6 +73,29 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Permits for unacknowledged records in asynchronous mode */
+    private Semaphore inFlight;
+
+    /** Failed acknowledgements in asynchronous mode not yet raised, along with the test context that has sent the record */
+    private final Queue<SendFailure> failures = new ConcurrentLinkedQueue<>();
+
+    /** Send latencies per topic */
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    /** Test contexts that have sent asynchronous records since the last flush on test finish */
+    private final Set<TestContext> pendingContexts = ConcurrentHashMap.newKeySet();
+
+    /** Test listeners the flush listener has been added to */
+    private final Set<TestListeners> registeredListeners = ConcurrentHashMap.newKeySet();
+
+    /** Flushes pending records when a test finishes */
+    private final TestListener flushListener = new AbstractTestListener() {
+        @Override
+        public void onTestFinish(TestCase test) {
+            flushPendingContexts();
+        }
+    };
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -61,7 +104,7 @@ public class KafkaProducer implements Producer {
     public KafkaProducer(String name, KafkaEndpointConfiguration endpointConfiguration) {
         this.name = name;
         this.endpointConfiguration = endpointConfiguration;
-        this. producer = createKafkaProducer();
+        this.producer = createKafkaProducer();
     }
 
     @Override
@@ -83,9 +126,18 @@ public class KafkaProducer implements Producer {
             logger.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+        if (endpointConfiguration.isAsynchronous()) {
+            registerFlushListener(context);
+            sendAsync(producerRecord, topic, context);
+            context.onOutboundMessage(message);
+            return;
+        }
+
         try {
-            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+            long start = System.nanoTime();
             producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+            getLatencyHistogram(topic).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             logger.info("Message was sent to Kafka stream topic: '" + topic + "'");
         } catch (InterruptedException | ExecutionException e) {
             throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
@@ -96,6 +148,158 @@ public class KafkaProducer implements Producer {
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Sends record without waiting for the acknowledgement. Blocks in case max number of unacknowledged records is reached.
+     * @param producerRecord
+     * @param topic
+     * @param context
+     */
+    private void sendAsync(ProducerRecord<Object, Object> producerRecord, String topic, TestContext context) {
+        Semaphore inFlight = getInFlight();
+        try {
+            if (!inFlight.tryAcquire(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds " +
+                        "waiting for %s in-flight records to be acknowledged", topic, endpointConfiguration.getTimeout(), endpointConfiguration.getMaxInFlight()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+        }
+
+        long start = System.nanoTime();
+        try {
+            producer.send(producerRecord, (metadata, e) -> {
+                inFlight.release();
+                getLatencyHistogram(topic).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                if (e != null) {
+                    logger.warn(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+                    failures.add(new SendFailure(context, e));
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+        }
+
+        logger.info("Message was sent asynchronously to Kafka stream topic: '" + topic + "'");
+    }
+
+    /**
+     * Registers given test context for a flush when the test finishes. Failed acknowledgements are added as
+     * exceptions to the test context so the test fails.
+     * @param context
+     */
+    private void registerFlushListener(TestContext context) {
+        pendingContexts.add(context);
+
+        TestListeners testListeners = context.getTestListeners();
+        if (testListeners != null && registeredListeners.add(testListeners)) {
+            testListeners.addTestListener(flushListener);
+        }
+    }
+
+    /**
+     * Flushes pending records of all test contexts that have sent asynchronous records. Failed acknowledgements are
+     * added as exceptions to the test context that has sent the record.
+     */
+    private void flushPendingContexts() {
+        if (pendingContexts.isEmpty()) {
+            return;
+        }
+
+        pendingContexts.clear();
+        producer.flush();
+
+        Map<TestContext, List<Exception>> failedByContext = new IdentityHashMap<>();
+        SendFailure failure;
+        while ((failure = failures.poll()) != null) {
+            failedByContext.computeIfAbsent(failure.context(), context -> new ArrayList<>()).add(failure.cause());
+        }
+
+        failedByContext.forEach((context, failed) -> context.addException(toException(failed)));
+    }
+
+    /**
+     * Gets permits for unacknowledged records. Permits are created on first use with the max in-flight setting
+     * from the endpoint configuration.
+     * @return
+     */
+    private synchronized Semaphore getInFlight() {
+        if (inFlight == null) {
+            inFlight = new Semaphore(endpointConfiguration.getMaxInFlight());
+        }
+
+        return inFlight;
+    }
+
+    /**
+     * Waits for all sent records to be acknowledged. Raises failed acknowledgements of records sent in asynchronous mode
+     * since the last flush.
+     */
+    public void flush() {
+        producer.flush();
+
+        List<Exception> failed = new ArrayList<>();
+        SendFailure failure;
+        while ((failure = failures.poll()) != null) {
+            failed.add(failure.cause());
+        }
+
+        if (!failed.isEmpty()) {
+            throw toException(failed);
+        }
+    }
+
+    /**
+     * Combines failed acknowledgements to a single exception.
+     * @param failed
+     * @return
+     */
+    private static CitrusRuntimeException toException(List<Exception> failed) {
+        CitrusRuntimeException e = new CitrusRuntimeException(String.format("Failed to send %s message(s) to Kafka", failed.size()), failed.get(0));
+        failed.stream().skip(1).forEach(e::addSuppressed);
+        return e;
+    }
+
+    /**
+     * Flushes pending records and closes the Kafka producer.
+     */
+    public void stop() {
+        registeredListeners.forEach(testListeners -> testListeners.getTestListeners().remove(flushListener));
+        registeredListeners.clear();
+        pendingContexts.clear();
+
+        try {
+            flush();
+        } catch (CitrusRuntimeException e) {
+            logger.warn("Unacknowledged Kafka records on producer shutdown", e);
+        } finally {
+            producer.close(Duration.ofMillis(10 * 1000L));
+        }
+
+        if (logger.isDebugEnabled()) {
+            latencies.forEach((topic, histogram) -> logger.debug("Kafka send latencies for topic '" + topic + "': " + histogram));
+        }
+    }
+
+    /**
+     * Gets the send latency histogram for given topic.
+     * @param topic
+     * @return
+     */
+    public LatencyHistogram getLatencyHistogram(String topic) {
+        return latencies.computeIfAbsent(topic, t -> new LatencyHistogram());
+    }
+
+    /**
+     * Gets the send latency histograms per topic.
+     * @return
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -127,4 +331,10 @@ public class KafkaProducer implements Producer {
     public void setProducer(org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer) {
         this.producer = producer;
     }
+
+    /**
+     * Failed acknowledgement of a record sent by the given test context.
+     */
+    private record SendFailure(TestContext context, Exception cause) {
+    }
 }
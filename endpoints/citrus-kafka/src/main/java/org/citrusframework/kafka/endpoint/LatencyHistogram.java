@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kafka.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of send latencies with exponential buckets. Bucket bounds are powers of two in microseconds so percentiles
+ * are approximated by the upper bound of the bucket. Recording is thread safe and does not block.
+ *
+ * @since 4.2
+ */
+public class LatencyHistogram {
+
+    /** Number of buckets, last bucket holds all latencies above 2^30 microseconds */
+    private static final int BUCKETS = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records given latency.
+     * @param latency
+     * @param unit
+     */
+    public void record(long latency, TimeUnit unit) {
+        long micros = Math.max(unit.toMicros(latency), 0L);
+
+        buckets[Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1)].increment();
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     * @return
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean latency in microseconds.
+     * @return
+     */
+    public long getMean() {
+        long recorded = count.sum();
+        return recorded > 0 ? sum.sum() / recorded : 0L;
+    }
+
+    /**
+     * Gets the max latency in microseconds.
+     * @return
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets approximated latency in microseconds that given percentage of all recorded latencies does not exceed.
+     * @param percentile value between 0 and 100
+     * @return
+     */
+    public long getPercentile(double percentile) {
+        long recorded = count.sum();
+        if (recorded == 0) {
+            return 0L;
+        }
+
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(i == 0 ? 0L : 1L << i, getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%dus, p50=%dus, p99=%dus, max=%dus",
+                getCount(), getMean(), getPercentile(50), getPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.kafka.actions;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kafka.endpoint.KafkaEndpoint;
+import org.citrusframework.kafka.message.KafkaMessage;
+import org.citrusframework.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.citrusframework.kafka.actions.FlushKafkaProducerAction.Builder.flushProducer;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FlushKafkaProducerActionTest extends AbstractTestNGUnitTest {
+
+    private final KafkaProducer kafkaProducer = Mockito.mock(KafkaProducer.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        reset(kafkaProducer);
+
+        flushProducer().endpoint(endpoint).build().execute(context);
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushFailedAcknowledgement() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new IllegalStateException("Broker unavailable"));
+            return null;
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("fail"), context);
+
+        try {
+            flushProducer().endpoint(endpoint).build().execute(context);
+            Assert.fail("Missing " + CitrusRuntimeException.class + " because of failed acknowledgement");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send 1 message(s) to Kafka");
+            Assert.assertEquals(e.getCause().getMessage(), "Broker unavailable");
+        }
+
+        endpoint.createProducer().stop();
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Missing Kafka endpoint to flush.*")
+    public void testMissingEndpoint() {
+        flushProducer().build().execute(context);
+    }
+}
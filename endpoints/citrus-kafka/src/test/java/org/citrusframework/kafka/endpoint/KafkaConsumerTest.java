@@ -21,23 +21,32 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
+import org.citrusframework.kafka.message.KafkaMessageConverter;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -159,4 +168,165 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveBufferedRecords() {
+        String topic = "buffered";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, List.of(
+                new ConsumerRecord<>(topic, 0, 0, 1, "Hello"),
+                new ConsumerRecord<>(topic, 0, 1, 2, "Hello again"))));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello");
+        Assert.assertEquals(endpoint.createConsumer().getBufferSize(), 1);
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello again");
+        Assert.assertEquals(endpoint.createConsumer().getBufferSize(), 0);
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        // offsets are committed in a single batch once the buffer has been drained
+        verify(kafkaConsumer, never()).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testReceiveSelected() {
+        String topic = "selective";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecord<Object, Object> hello = new ConsumerRecord<>(topic, 0, 0, 1, "Hello");
+        hello.headers().add(new RecordHeader("Operation", "sayHello".getBytes()));
+        ConsumerRecord<Object, Object> bye = new ConsumerRecord<>(topic, 0, 1, 2, "Goodbye");
+        bye.headers().add(new RecordHeader("Operation", "sayGoodbye".getBytes()));
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, List.of(hello, bye)));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Message receivedMessage = endpoint.createConsumer().receive("Operation = 'sayGoodbye'", context);
+        Assert.assertEquals(receivedMessage.getPayload(), "Goodbye");
+        Assert.assertEquals(endpoint.createConsumer().getBufferSize(), 1);
+
+        receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello");
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        // offset of skipped record is not committed before the record has been received
+        verify(kafkaConsumer, times(1)).commitSync(anyMap(), any(Duration.class));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testCommitSkippedRecordOnStop() {
+        String topic = "skipped";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setAutoCommit(true);
+        endpoint.getEndpointConfiguration().setAutoCommitInterval(60000);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecord<Object, Object> hello = new ConsumerRecord<>(topic, 0, 0, 1, "Hello");
+        hello.headers().add(new RecordHeader("Operation", "sayHello".getBytes()));
+        ConsumerRecord<Object, Object> bye = new ConsumerRecord<>(topic, 0, 1, 2, "Goodbye");
+        bye.headers().add(new RecordHeader("Operation", "sayGoodbye".getBytes()));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, List.of(hello, bye))));
+
+        Assert.assertEquals(endpoint.createConsumer().receive("Operation = 'sayGoodbye'", context).getPayload(), "Goodbye");
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any());
+
+        endpoint.createConsumer().stop();
+
+        // skipped record has not been received so its offset must not be committed
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(0L)), Duration.ofMillis(5000L));
+        Assert.assertEquals(endpoint.createConsumer().getBufferSize(), 0);
+    }
+
+    @Test
+    public void testConvertBufferedRecordsOnce() {
+        String topic = "converted";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        KafkaMessageConverter messageConverter = Mockito.spy(new KafkaMessageConverter());
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMessageConverter(messageConverter);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecord<Object, Object> hello = new ConsumerRecord<>(topic, 0, 0, 1, "Hello");
+        hello.headers().add(new RecordHeader("Operation", "sayHello".getBytes()));
+        ConsumerRecord<Object, Object> bye = new ConsumerRecord<>(topic, 0, 1, 2, "Goodbye");
+        bye.headers().add(new RecordHeader("Operation", "sayGoodbye".getBytes()));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, List.of(hello, bye))));
+
+        Assert.assertEquals(endpoint.createConsumer().receive("Operation = 'sayGoodbye'", context).getPayload(), "Goodbye");
+        Assert.assertEquals(endpoint.createConsumer().receive("Operation = 'sayHello'", context).getPayload(), "Hello");
+
+        verify(messageConverter, times(2)).convertInbound(any(ConsumerRecord.class), any(KafkaEndpointConfiguration.class), any(TestContext.class));
+    }
+
+    @Test
+    public void testPauseFetchingOnBufferLimit() {
+        String topic = "limited";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxBufferedRecords(2);
+        endpoint.getEndpointConfiguration().setTimeout(100L);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+        Set<TopicPartition> assignment = Collections.singleton(partition);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+        when(kafkaConsumer.assignment()).thenReturn(assignment);
+
+        when(kafkaConsumer.poll(any(Duration.class)))
+                .thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, List.of(
+                        new ConsumerRecord<>(topic, 0, 0, 1, "Hello"),
+                        new ConsumerRecord<>(topic, 0, 1, 2, "Hello again")))))
+                .thenReturn(ConsumerRecords.empty());
+
+        Assert.assertThrows(ActionTimeoutException.class, () -> endpoint.createConsumer().receive("Operation = 'sayGoodbye'", context));
+        verify(kafkaConsumer).pause(assignment);
+        verify(kafkaConsumer, times(2)).poll(any(Duration.class));
+        Assert.assertEquals(endpoint.createConsumer().getBufferSize(), 2);
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello");
+        Assert.assertThrows(ActionTimeoutException.class, () -> endpoint.createConsumer().receive("Operation = 'sayGoodbye'", context));
+        verify(kafkaConsumer).resume(assignment);
+        verify(kafkaConsumer, times(3)).poll(any(Duration.class));
+    }
 }
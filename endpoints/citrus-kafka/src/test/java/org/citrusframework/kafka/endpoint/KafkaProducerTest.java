@@ -18,12 +18,17 @@ package org.citrusframework.kafka.endpoint;
 
 import java.util.Collections;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.citrusframework.TestCase;
+import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.kafka.message.KafkaMessage;
 import org.citrusframework.message.Message;
+import org.citrusframework.report.TestListeners;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.citrusframework.util.SocketUtils;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -38,6 +43,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -112,6 +118,164 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         verify(kafkaProducer).send(any(ProducerRecord.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsync() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            ProducerRecord producerRecord = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+
+            if (producerRecord.value().equals("fail")) {
+                callback.onCompletion(null, new IllegalStateException("Broker unavailable"));
+            } else {
+                callback.onCompletion(new RecordMetadata(new TopicPartition("async", 0), 0, 0, 0, 0, 0), null);
+            }
+            return null;
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("Hello"), context);
+        endpoint.createProducer().send(new KafkaMessage("fail"), context);
+
+        verify(kafkaProducer, never()).send(any(ProducerRecord.class));
+        Assert.assertEquals(endpoint.createProducer().getLatencyHistogram("async").getCount(), 2L);
+
+        try {
+            endpoint.createProducer().flush();
+            Assert.fail("Missing " + CitrusRuntimeException.class + " because of failed acknowledgement");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send 1 message(s) to Kafka");
+            Assert.assertEquals(e.getCause().getMessage(), "Broker unavailable");
+        }
+
+        // failures are raised only once
+        endpoint.createProducer().flush();
+        verify(kafkaProducer, Mockito.times(2)).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushOnTestFinish() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new IllegalStateException("Broker unavailable"));
+            return null;
+        });
+
+        TestContext testContext = testContextFactory.getObject();
+        TestListeners testListeners = new TestListeners();
+        testContext.setTestListeners(testListeners);
+
+        endpoint.createProducer().send(new KafkaMessage("fail"), testContext);
+        Assert.assertFalse(testContext.hasExceptions());
+
+        testListeners.onTestFinish(Mockito.mock(TestCase.class));
+
+        verify(kafkaProducer).flush();
+        Assert.assertTrue(testContext.hasExceptions());
+        Assert.assertEquals(testContext.getExceptions().get(0).getMessage(), "Failed to send 1 message(s) to Kafka");
+        Assert.assertEquals(testContext.getExceptions().get(0).getCause().getMessage(), "Broker unavailable");
+
+        // no pending records left for the next test
+        testListeners.onTestFinish(Mockito.mock(TestCase.class));
+        verify(kafkaProducer).flush();
+
+        endpoint.createProducer().stop();
+        Assert.assertTrue(testListeners.getTestListeners().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushOnTestFinishFailsSendingTestOnly() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            ProducerRecord producerRecord = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+
+            if (producerRecord.value().equals("fail")) {
+                callback.onCompletion(null, new IllegalStateException("Broker unavailable"));
+            } else {
+                callback.onCompletion(new RecordMetadata(new TopicPartition("async", 0), 0, 0, 0, 0, 0), null);
+            }
+            return null;
+        });
+
+        TestListeners testListeners = new TestListeners();
+        TestContext failingContext = testContextFactory.getObject();
+        failingContext.setTestListeners(testListeners);
+        TestContext successContext = testContextFactory.getObject();
+        successContext.setTestListeners(testListeners);
+
+        endpoint.createProducer().send(new KafkaMessage("fail"), failingContext);
+        endpoint.createProducer().send(new KafkaMessage("Hello"), successContext);
+
+        testListeners.onTestFinish(Mockito.mock(TestCase.class));
+
+        Assert.assertTrue(failingContext.hasExceptions());
+        Assert.assertEquals(failingContext.getExceptions().size(), 1L);
+        Assert.assertEquals(failingContext.getExceptions().get(0).getCause().getMessage(), "Broker unavailable");
+        Assert.assertFalse(successContext.hasExceptions());
+
+        endpoint.createProducer().stop();
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Failed to send message to Kafka topic 'async' - timeout after 100 milliseconds waiting for 1 in-flight records to be acknowledged")
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncMaxInFlight() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+        endpoint.getEndpointConfiguration().setMaxInFlight(1);
+        endpoint.getEndpointConfiguration().setTimeout(100L);
+
+        reset(kafkaProducer);
+
+        // acknowledgements never arrive
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(null);
+
+        endpoint.createProducer().send(new KafkaMessage("Hello"), context);
+        endpoint.createProducer().send(new KafkaMessage("Hello again"), context);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100L);
+        Assert.assertEquals(histogram.getMax(), 100000L);
+        Assert.assertEquals(histogram.getMean(), 50500L);
+        Assert.assertEquals(histogram.getPercentile(50), 65536L);
+        Assert.assertEquals(histogram.getPercentile(100), 100000L);
+    }
+
     @Test
     public void testSendMessageTimeout() {
         KafkaEndpoint endpoint = new KafkaEndpoint();
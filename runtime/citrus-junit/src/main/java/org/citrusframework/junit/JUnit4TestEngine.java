@@ -74,7 +74,7 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                 }
 
                 if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(),
+                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), Test.class,
                             getConfiguration().getIncludes()).findTestsInPackage(packageName));
                 } else {
                     classesToRun.addAll(new ClassPathTestScanner(Test.class,
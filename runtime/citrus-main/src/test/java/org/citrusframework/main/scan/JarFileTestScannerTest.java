@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.main.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.citrusframework.TestClass;
+import org.citrusframework.junit.scan.SampleJUnit4Test;
+import org.citrusframework.testng.scan.SampleTestNGTest;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class JarFileTestScannerTest {
+
+    private File testJar;
+
+    @BeforeClass
+    public void createTestJar() throws IOException {
+        testJar = Files.createTempFile("citrus-tests", ".jar").toFile();
+        testJar.deleteOnExit();
+
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(testJar.toPath()))) {
+            addClass(jar, SampleJUnit4Test.class);
+            addClass(jar, SampleTestNGTest.class);
+        }
+    }
+
+    @Test(dataProvider = "scannerDataProvider")
+    public void testFindTestsInPackage(String pattern, Class<?> testClass, Class<? extends Annotation> annotationType, long expectedFindings) {
+        List<TestClass> findings = new JarFileTestScanner(testJar, annotationType, pattern).findTestsInPackage(testClass.getPackage().getName());
+        Assert.assertEquals(findings.size(), expectedFindings);
+
+        if (expectedFindings > 0) {
+            Assert.assertEquals(findings.get(0).getName(), testClass.getName());
+        }
+    }
+
+    @Test
+    public void testFindTestsWithoutAnnotationType() {
+        List<TestClass> findings = new JarFileTestScanner(testJar, ".*Test").findTestsInPackage("org.citrusframework");
+        Assert.assertEquals(findings.size(), 2L);
+
+        findings = new JarFileTestScanner(testJar, ".*Test").findTestsInPackage("org.citrusframework.testng");
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleTestNGTest.class.getName());
+
+        Assert.assertTrue(new JarFileTestScanner(testJar, ".*Test").findTestsInPackage("org.citrusframework.test").isEmpty());
+    }
+
+    @DataProvider
+    public Object[][] scannerDataProvider() {
+        return new Object[][] {
+                new Object[] { ".*Test", SampleJUnit4Test.class, org.junit.Test.class, 1L},
+                new Object[] { ".*Test", SampleJUnit4Test.class, org.testng.annotations.Test.class, 0L},
+                new Object[] { ".*IT", SampleJUnit4Test.class, org.junit.Test.class, 0L},
+                new Object[] { ".*Test", SampleTestNGTest.class, org.testng.annotations.Test.class, 1L},
+                new Object[] { ".*Test", SampleTestNGTest.class, org.junit.Test.class, 0L},
+                new Object[] { ".*IT", SampleTestNGTest.class, org.testng.annotations.Test.class, 0L},
+        };
+    }
+
+    private static void addClass(JarOutputStream jar, Class<?> type) throws IOException {
+        String resourceName = type.getName().replace('.', '/') + ".class";
+        jar.putNextEntry(new JarEntry(resourceName));
+        try (InputStream in = type.getClassLoader().getResourceAsStream(resourceName)) {
+            in.transferTo(jar);
+        }
+        jar.closeEntry();
+    }
+}
@@ -120,7 +120,7 @@ public class TestNGEngine extends AbstractTestEngine {
 
             List<TestClass> classesToRun;
             if (configuration.getTestJar() != null) {
-                classesToRun = new JarFileTestScanner(configuration.getTestJar(),
+                classesToRun = new JarFileTestScanner(configuration.getTestJar(), Test.class,
                         configuration.getIncludes()).findTestsInPackage(packageName);
             } else {
                 classesToRun = new ClassPathTestScanner(Test.class, configuration.getIncludes()).findTestsInPackage(packageName);
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.mvn.plugin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.citrusframework.spi.ResourcePathTypeIndex;
+
+/**
+ * Generates the aggregated type resolver index for all Citrus resource files (e.g. META-INF/citrus/function/*)
+ * in the project output directory. At runtime the type resolver loads the index instead of scanning the classpath.
+ * <p>
+ * Archives bundling several modules (e.g. a shaded jar) need a merged index for the final artifact, because the
+ * module index files overwrite each other in the archive. Set the archive parameter and bind the goal to the package
+ * phase after the shade plugin in order to generate the merged index in the final artifact.
+ *
+ * @since 4.2
+ */
+@Mojo(name = "index-types", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class IndexTypesMojo extends AbstractCitrusMojo {
+
+    @Parameter(property = "citrus.skip.index.types", defaultValue = "false")
+    protected boolean skipIndexTypes;
+
+    @Parameter(property = "citrus.output.directory", defaultValue = "${project.build.outputDirectory}")
+    protected String outputDirectory = "target/classes";
+
+    /**
+     * Archive to generate the merged index for (e.g. ${project.build.directory}/${project.build.finalName}.jar).
+     * When set the index is generated in the archive instead of the output directory.
+     */
+    @Parameter(property = "citrus.index.archive")
+    protected String archive;
+
+    /**
+     * Resource paths to include in the index. Defaults to "META-INF/citrus".
+     */
+    @Parameter
+    protected String[] includes = { ResourcePathTypeIndex.DEFAULT_INCLUDE_PATH };
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        if (skipIndexTypes) {
+            return;
+        }
+
+        if (archive != null && !archive.isBlank()) {
+            indexArchive(Paths.get(archive));
+            return;
+        }
+
+        Path output = Paths.get(outputDirectory);
+        if (!Files.isDirectory(output)) {
+            getLog().info("Skip type index generation - missing output directory: " + outputDirectory);
+            return;
+        }
+
+        try {
+            Path indexFile = ResourcePathTypeIndex.generate(output, includes);
+            getLog().info("Successfully created type index: " + indexFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to generate type index in " + outputDirectory, e);
+        }
+    }
+
+    /**
+     * Generates the merged index for all resources in the given archive.
+     * @param archiveFile
+     * @throws MojoExecutionException
+     */
+    private void indexArchive(Path archiveFile) throws MojoExecutionException {
+        if (!Files.isRegularFile(archiveFile)) {
+            throw new MojoExecutionException("Failed to generate type index - missing archive: " + archiveFile);
+        }
+
+        try {
+            ResourcePathTypeIndex.generateArchive(archiveFile, includes);
+            getLog().info("Successfully created merged type index in archive: " + archiveFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to generate type index in " + archiveFile, e);
+        }
+    }
+
+    /**
+     * Sets the outputDirectory.
+     *
+     * @param outputDirectory
+     */
+    public void setOutputDirectory(String outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Sets the archive.
+     *
+     * @param archive
+     */
+    public void setArchive(String archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Sets the includes.
+     *
+     * @param includes
+     */
+    public void setIncludes(String[] includes) {
+        this.includes = includes;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.mvn.plugin;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.citrusframework.spi.ResourcePathTypeIndex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IndexTypesMojoTest {
+
+    @Test
+    public void testIndexTypes() throws Exception {
+        Path outputDirectory = Files.createTempDirectory("citrus-classes");
+        Files.createDirectories(outputDirectory.resolve("META-INF/citrus/function"));
+        Files.writeString(outputDirectory.resolve("META-INF/citrus/function/std"), "type=org.citrusframework.functions.DefaultFunctionLibrary");
+
+        IndexTypesMojo mojo = new IndexTypesMojo();
+        mojo.setOutputDirectory(outputDirectory.toString());
+        mojo.execute();
+
+        Path indexFile = outputDirectory.resolve(ResourcePathTypeIndex.INDEX_RESOURCE_PATH);
+        Assert.assertTrue(Files.exists(indexFile));
+
+        List<String> lines = Files.readAllLines(indexFile);
+        Assert.assertEquals(lines.get(lines.size() - 1), "META-INF/citrus/function/std\\#type=org.citrusframework.functions.DefaultFunctionLibrary");
+    }
+
+    @Test
+    public void testIndexArchive() throws Exception {
+        Path archive = Files.createTempFile("citrus-shaded", ".jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(archive))) {
+            jar.putNextEntry(new JarEntry("META-INF/citrus/function/std"));
+            jar.write("type=org.citrusframework.functions.DefaultFunctionLibrary".getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+
+        IndexTypesMojo mojo = new IndexTypesMojo();
+        mojo.setArchive(archive.toString());
+        mojo.execute();
+
+        try (FileSystem fileSystem = FileSystems.newFileSystem(archive)) {
+            List<String> lines = Files.readAllLines(fileSystem.getPath(ResourcePathTypeIndex.INDEX_RESOURCE_PATH));
+            Assert.assertTrue(lines.contains(ResourcePathTypeIndex.MERGED_INDEX_PROPERTY + "=true"));
+            Assert.assertEquals(lines.get(lines.size() - 1), "META-INF/citrus/function/std\\#type=org.citrusframework.functions.DefaultFunctionLibrary");
+        }
+    }
+
+    @Test(expectedExceptions = MojoExecutionException.class)
+    public void testMissingArchive() throws Exception {
+        IndexTypesMojo mojo = new IndexTypesMojo();
+        mojo.setArchive("target/unknown.jar");
+        mojo.execute();
+    }
+
+    @Test
+    public void testMissingOutputDirectory() throws Exception {
+        IndexTypesMojo mojo = new IndexTypesMojo();
+        mojo.setOutputDirectory("target/unknown-classes");
+        mojo.execute();
+
+        Assert.assertFalse(Files.exists(Path.of("target/unknown-classes")));
+    }
+}
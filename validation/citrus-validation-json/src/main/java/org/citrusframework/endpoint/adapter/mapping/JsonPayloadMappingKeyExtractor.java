@@ -30,7 +30,7 @@ public class JsonPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor
 
     @Override
     public String getMappingKey(Message request) {
-        return JsonPathUtils.evaluateAsString(request.getPayload(String.class), jsonPathExpression);
+        return JsonPathUtils.evaluateAsString(JsonPathUtils.parseMessagePayload(request), jsonPathExpression);
     }
 
     /**
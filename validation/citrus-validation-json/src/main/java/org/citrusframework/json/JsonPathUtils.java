@@ -26,6 +26,8 @@ import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.ParsedPayloadCache;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.validation.json.JsonPathFunctions;
 
@@ -35,6 +37,25 @@ import org.citrusframework.validation.json.JsonPathFunctions;
  */
 public class JsonPathUtils {
 
+    /**
+     * Parse payload of given message to a JsonPath read context. Within a {@link ParsedPayloadCache} scope opened on the
+     * current thread, e.g. while a receive action validates the message, the read context is cached for the message so the
+     * payload is parsed only once as long as it is not changed. Outside of such a scope the payload is parsed on each call.
+     * The read context may be shared within the scope and must not be modified.
+     * @param message
+     * @return
+     */
+    public static ReadContext parseMessagePayload(Message message) {
+        return message.getParsedPayload(ReadContext.class, m -> {
+            try {
+                JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+                return JsonPath.parse(parser.parse(m.getPayload(String.class)));
+            } catch (ParseException e) {
+                throw new CitrusRuntimeException("Failed to parse JSON text", e);
+            }
+        });
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -34,6 +34,10 @@ public final class JsonSettings {
     private static final String PERMISSIVE_MODE_ENV = "CITRUS_JSON_PERMISSIVE_MODE";
     private static final String PERMISSIVE_MODE_DEFAULT = String.valueOf(JSONParser.MODE_JSON_SIMPLE);
 
+    private static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_PROPERTY = "citrus.json.message.validation.streaming.threshold";
+    private static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV = "CITRUS_JSON_MESSAGE_VALIDATION_STREAMING_THRESHOLD";
+    private static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT = "-1";
+
     /**
      * Private constructor prevent instantiation of utility class
      */
@@ -72,4 +76,14 @@ public final class JsonSettings {
                 System.getProperty(MESSAGE_VALIDATION_STRICT_PROPERTY, System.getenv(MESSAGE_VALIDATION_STRICT_ENV) != null ?
                         System.getenv(MESSAGE_VALIDATION_STRICT_ENV) : MESSAGE_VALIDATION_STRICT_DEFAULT));
     }
+
+    /**
+     * Gets the min length of received Json text that gets validated in streaming mode. Negative value disables streaming mode.
+     * @return
+     */
+    public static int getStreamingValidationThreshold() {
+        return Integer.parseInt(
+                System.getProperty(MESSAGE_VALIDATION_STREAMING_THRESHOLD_PROPERTY, System.getenv(MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV) != null ?
+                        System.getenv(MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV) : MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT));
+    }
 }
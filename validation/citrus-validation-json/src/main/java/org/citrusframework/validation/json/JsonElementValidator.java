@@ -21,8 +21,14 @@ import net.minidev.json.JSONObject;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.citrusframework.CitrusSettings.IGNORE_PLACEHOLDER;
@@ -47,43 +53,69 @@ public class JsonElementValidator {
     }
 
     public void validate(JsonElementValidatorItem<?> control) {
-        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, control))
-            return;
+        String mismatch = compare(control);
+        if (mismatch != null) {
+            throw new ValidationException(mismatch);
+        }
+    }
+
+    /**
+     * Same as {@link #validate(JsonElementValidatorItem)} but returns the validation result instead of raising
+     * exceptions. Used to find matching items in non-ordered arrays.
+     */
+    boolean isValid(JsonElementValidatorItem<?> control) {
+        return compare(control) == null;
+    }
+
+    /**
+     * Compares the expected value of the given item with the actual value.
+     * @return description of the first mismatch or null if the actual value is valid
+     */
+    private String compare(JsonElementValidatorItem<?> control) {
+        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, control)) {
+            return null;
+        }
+
         if (isValidationMatcherExpression(requireNonNullElse(control.expectedAsStringOrNull(), ""))) {
-            resolveValidationMatcher(control.getJsonPath(), control.actualAsStringOrNull(), control.expectedAsStringOrNull(), context);
+            try {
+                resolveValidationMatcher(control.getJsonPath(), control.actualAsStringOrNull(), control.expectedAsStringOrNull(), context);
+                return null;
+            } catch (ValidationException e) {
+                return requireNonNullElse(e.getMessage(), "Validation matcher failed for entry: '" + control.getJsonPath() + "'");
+            }
         } else if (control.expected instanceof JSONObject) {
-            validateJSONObject(this, control);
+            return compareJSONObject(control);
         } else if (control.expected instanceof JSONArray) {
-            validateJSONArray(this, control);
-        } else {
-            validateNativeType(control);
+            return compareJSONArray(control);
         }
-    }
 
-    private void validateJSONObject(JsonElementValidator validator, JsonElementValidatorItem<?> control) {
-        var objectControl = control.ensureType(JSONObject.class);
+        return compareNativeType(control);
+    }
 
-        if (strict) {
-            validateSameSize(objectControl.getJsonPath(), objectControl.expected.keySet(), objectControl.actual.keySet());
+    private String compareJSONObject(JsonElementValidatorItem<?> control) {
+        String typeMismatch = control.getTypeMismatch(JSONObject.class);
+        if (typeMismatch != null) {
+            return typeMismatch;
         }
 
-        var controlEntries = objectControl.expected
-                .entrySet()
-                .stream()
-                .map(entry -> new JsonElementValidatorItem<>(
-                        entry.getKey(), objectControl.actual.get(entry.getKey()), entry.getValue()
-                ).parent(objectControl))
-                .toList();
+        var objectControl = control.ensureType(JSONObject.class);
+        if (strict && objectControl.expected.size() != objectControl.actual.size()) {
+            return buildSizeMismatchErrorMessage(objectControl.getJsonPath(), objectControl.expected.keySet(), objectControl.actual.keySet());
+        }
 
-        for (var entryControl : controlEntries) {
-            if (!objectControl.actual.containsKey(entryControl.getName())) {
-                throw new ValidationException(buildValueToBeInCollectionErrorMessage(
-                        "Missing JSON entry", entryControl.getName(), objectControl.actual.keySet()
-                ));
+        for (var entry : objectControl.expected.entrySet()) {
+            if (!objectControl.actual.containsKey(entry.getKey())) {
+                return buildValueToBeInCollectionErrorMessage("Missing JSON entry", entry.getKey(), objectControl.actual.keySet());
             }
 
-            validator.validate(entryControl);
+            String mismatch = compare(new JsonElementValidatorItem<>(
+                    entry.getKey(), objectControl.actual.get(entry.getKey()), entry.getValue()).parent(objectControl));
+            if (mismatch != null) {
+                return mismatch;
+            }
         }
+
+        return null;
     }
 
     /**
@@ -104,49 +136,148 @@ public class JsonElementValidator {
     }
 
 
-    private void validateJSONArray(JsonElementValidator validator, JsonElementValidatorItem<?> control) {
+    private String compareJSONArray(JsonElementValidatorItem<?> control) {
+        String typeMismatch = control.getTypeMismatch(JSONArray.class);
+        if (typeMismatch != null) {
+            return typeMismatch;
+        }
+
         var arrayControl = control.ensureType(JSONArray.class);
-        if (strict) {
-            validateSameSize(control.getJsonPath(), arrayControl.expected, arrayControl.actual);
+        if (strict && arrayControl.expected.size() != arrayControl.actual.size()) {
+            return buildSizeMismatchErrorMessage(arrayControl.getJsonPath(), arrayControl.expected, arrayControl.actual);
         }
+
+        ActualArrayIndex actualIndex = new ActualArrayIndex(arrayControl.actual);
         for (int i = 0; i < arrayControl.expected.size(); i++) {
-            if (!isAnyValidItemInActualArray(validator, arrayControl, i)) {
-                throw new ValidationException(buildValueToBeInCollectionErrorMessage(
+            if (!isAnyValidItemInActualArray(arrayControl, actualIndex, i)) {
+                return buildValueToBeInCollectionErrorMessage(
                         "An item in '%s' is missing".formatted(arrayControl.getJsonPath()),
                         arrayControl.expected.get(i),
                         arrayControl.actual
-                ));
+                );
             }
         }
+
+        return null;
     }
 
-    private boolean isAnyValidItemInActualArray(JsonElementValidator validator, JsonElementValidatorItem<JSONArray> control, int index) {
+    /**
+     * Checks if any item in the actual array matches the expected item at given index. Only actual items that share
+     * the literal values of the expected item (e.g. plain field values in a JSON object) are candidates for
+     * full validation. Candidates are validated without raising exceptions for items that do not match.
+     */
+    private boolean isAnyValidItemInActualArray(JsonElementValidatorItem<JSONArray> control, ActualArrayIndex actualIndex, int index) {
         Object expectedItem = control.expected.get(index);
-        return control.actual.stream().map(recivedItem -> {
-            try {
-                var itemControl = new JsonElementValidatorItem<>(index, recivedItem, expectedItem).parent(control);
-                validator.validate(itemControl);
-                return null;
-            } catch (ValidationException e) {
-                return e;
+        for (int candidate : getCandidates(control, actualIndex, index)) {
+            var itemControl = new JsonElementValidatorItem<>(index, control.actual.get(candidate), expectedItem).parent(control);
+            if (isValid(itemControl)) {
+                return true;
             }
-        }).anyMatch(Objects::isNull);
+        }
+
+        return false;
     }
 
-    private void validateSameSize(String path, Collection<?> expected, Collection<?> actual) {
-        if (expected.size() != actual.size()) {
-            throwValueMismatch("Number of entries is not equal in element: '" + path + "'", expected, actual);
+    /**
+     * Gets positions of actual array items that may match the expected item at given index.
+     */
+    private List<Integer> getCandidates(JsonElementValidatorItem<JSONArray> control, ActualArrayIndex actualIndex, int index) {
+        Object expectedItem = control.expected.get(index);
+        var itemControl = new JsonElementValidatorItem<>(index, null, expectedItem).parent(control);
+
+        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, itemControl)) {
+            return actualIndex.getAll();
+        }
+
+        if (isLiteral(expectedItem)) {
+            return actualIndex.getItems(expectedItem);
+        }
+
+        List<Integer> candidates = actualIndex.getAll();
+        if (expectedItem instanceof JSONObject expectedObject) {
+            for (var entry : expectedObject.entrySet()) {
+                if (!isLiteral(entry.getValue()) || isIgnoredByPlaceholderOrExpressionList(ignoreExpressions,
+                        new JsonElementValidatorItem<>(entry.getKey(), null, entry.getValue()).parent(itemControl))) {
+                    continue;
+                }
+
+                List<Integer> fieldCandidates = actualIndex.getFieldItems(entry.getKey(), entry.getValue());
+                if (fieldCandidates.size() < candidates.size()) {
+                    candidates = fieldCandidates;
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Checks if given expected value is a plain value that requires an equal actual value.
+     */
+    static boolean isLiteral(Object expected) {
+        if (expected instanceof JSONObject || expected instanceof JSONArray) {
+            return false;
+        }
+
+        if (expected == null) {
+            return true;
         }
+
+        String expectedValue = expected.toString();
+        return !isValidationMatcherExpression(expectedValue) && !expectedValue.trim().equals(IGNORE_PLACEHOLDER);
     }
 
-    private static void validateNativeType(JsonElementValidatorItem<?> control) {
+    private static String buildSizeMismatchErrorMessage(String path, Object expected, Object actual) {
+        return buildValueMismatchErrorMessage("Number of entries is not equal in element: '" + path + "'", expected, actual);
+    }
+
+    private static String compareNativeType(JsonElementValidatorItem<?> control) {
         if (!Objects.equals(control.expected, control.actual)) {
-            throwValueMismatch("Values not equal for entry: '" + control.getJsonPath() + "'", control.expected, control.actual);
+            return buildValueMismatchErrorMessage("Values not equal for entry: '" + control.getJsonPath() + "'", control.expected, control.actual);
         }
+
+        return null;
     }
 
-    private static void throwValueMismatch(String baseMessage, Object expectedValue, Object actualValue) {
-        throw new ValidationException(buildValueMismatchErrorMessage(baseMessage, expectedValue, actualValue));
+    /**
+     * Index of actual array items by literal value. Plain items are indexed by their value, JSON object items by
+     * the plain values of their fields.
+     */
+    private static class ActualArrayIndex {
+        private final List<Integer> all;
+        private final Map<Object, List<Integer>> items = new HashMap<>();
+        private final Map<String, Map<Object, List<Integer>>> fields = new HashMap<>();
+
+        ActualArrayIndex(JSONArray actual) {
+            this.all = IntStream.range(0, actual.size()).boxed().toList();
+
+            for (int i = 0; i < actual.size(); i++) {
+                Object item = actual.get(i);
+                if (item instanceof JSONObject actualObject) {
+                    for (var entry : actualObject.entrySet()) {
+                        if (!(entry.getValue() instanceof JSONObject || entry.getValue() instanceof JSONArray)) {
+                            fields.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                                    .computeIfAbsent(entry.getValue(), value -> new ArrayList<>())
+                                    .add(i);
+                        }
+                    }
+                } else if (!(item instanceof JSONArray)) {
+                    items.computeIfAbsent(item, value -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        List<Integer> getAll() {
+            return all;
+        }
+
+        List<Integer> getItems(Object value) {
+            return items.getOrDefault(value, Collections.emptyList());
+        }
+
+        List<Integer> getFieldItems(String field, Object value) {
+            return fields.getOrDefault(field, Collections.emptyMap()).getOrDefault(value, Collections.emptyList());
+        }
     }
 
     @FunctionalInterface
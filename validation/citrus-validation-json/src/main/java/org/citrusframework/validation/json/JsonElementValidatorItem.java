@@ -60,6 +60,21 @@ public class JsonElementValidatorItem<T> {
         }
     }
 
+    /**
+     * Parses the given json.
+     *
+     * @param permissiveMode see {@code JSONParser#MODE_*} or {@link JSONParser#DEFAULT_PERMISSIVE_MODE}
+     * @param json as string
+     * @return the parsed json element
+     */
+    public static Object parseJson(int permissiveMode, String json) {
+        try {
+            return new JSONParser(permissiveMode).parse(json);
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
     /**
      * For array-items.
      *
@@ -107,15 +122,31 @@ public class JsonElementValidatorItem<T> {
     public <O> JsonElementValidatorItem<O> ensureType(Class<O> type) {
         JsonElementValidatorItem<?> self = this;
         if (((actual != null) && !type.isInstance(actual)) || ((expected != null) && !type.isInstance(expected))) {
-            throw new ValidationException(buildValueMismatchErrorMessage(
-                    "Type mismatch for JSON entry '" + name + "'",
-                    type.getSimpleName(),
-                    actual == null ? null : actual.getClass().getSimpleName()
-            ));
+            throw new ValidationException(buildTypeMismatchErrorMessage(type));
         }
         return (JsonElementValidatorItem<O>) self;
     }
 
+    /**
+     * @param type the type of the values
+     * @return description of the type mismatch if {@link JsonElementValidatorItem#actual} is missing or either value
+     *         is not of the given {@code type}, otherwise null
+     */
+    String getTypeMismatch(Class<?> type) {
+        if (!type.isInstance(actual) || ((expected != null) && !type.isInstance(expected))) {
+            return buildTypeMismatchErrorMessage(type);
+        }
+        return null;
+    }
+
+    private String buildTypeMismatchErrorMessage(Class<?> type) {
+        return buildValueMismatchErrorMessage(
+                "Type mismatch for JSON entry '" + name + "'",
+                type.getSimpleName(),
+                actual == null ? null : actual.getClass().getSimpleName()
+        );
+    }
+
     /**
      * Set the parent of this json-element.
      */
@@ -21,12 +21,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.citrusframework.context.TestContext;
-import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.json.JsonPathUtils;
 import org.citrusframework.message.Message;
@@ -59,32 +55,26 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
         logger.debug("Start JSONPath element validation ...");
 
         String jsonPathExpression;
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(receivedMessage.getPayload(String.class));
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
-                Object expectedValue = entry.getValue();
-                if (expectedValue instanceof String) {
-                    //check if expected value is variable or function (and resolve it, if yes)
-                    expectedValue = context.replaceDynamicContentInString(String.valueOf(expectedValue));
-                }
-
-                jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
-                Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
-                //do the validation of actual and expected value for element
-                ValidationUtils.validateValues(jsonPathResult, expectedValue, jsonPathExpression, context);
-
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Validating element: " + jsonPathExpression + "='" + expectedValue + "': OK.");
-                }
+        ReadContext readerContext = JsonPathUtils.parseMessagePayload(receivedMessage);
+
+        for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
+            Object expectedValue = entry.getValue();
+            if (expectedValue instanceof String) {
+                //check if expected value is variable or function (and resolve it, if yes)
+                expectedValue = context.replaceDynamicContentInString(String.valueOf(expectedValue));
             }
 
-            logger.info("JSONPath element validation successful: All values OK");
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+            jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
+            Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
+            //do the validation of actual and expected value for element
+            ValidationUtils.validateValues(jsonPathResult, expectedValue, jsonPathExpression, context);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Validating element: " + jsonPathExpression + "='" + expectedValue + "': OK.");
+            }
         }
+
+        logger.info("JSONPath element validation successful: All values OK");
     }
 
     @Override
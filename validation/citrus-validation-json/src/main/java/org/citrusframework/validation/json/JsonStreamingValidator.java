@@ -0,0 +1,307 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.util.StringUtils;
+
+import static org.citrusframework.validation.ValidationUtils.buildValueMismatchErrorMessage;
+import static org.citrusframework.validation.ValidationUtils.buildValueToBeInCollectionErrorMessage;
+import static org.citrusframework.validation.json.JsonElementValidator.isIgnoredByPlaceholderOrExpressionList;
+import static org.citrusframework.validation.json.JsonElementValidator.isLiteral;
+
+/**
+ * Validates received JSON text against a parsed control JSON element while reading the received document with a pull parser.
+ * Received JSON objects are validated field by field as they stream by so memory usage is proportional to the nesting depth
+ * rather than the size of the received document. Only values that are validated with validation matchers or plain values
+ * as well as single array items get parsed into JSON elements. Validation rules and error messages are the same as in
+ * {@link JsonElementValidator}.
+ *
+ * Received arrays are streamed item by item regardless of their size. Array items are matched in any order, so each
+ * received item is checked against the control items that are still unmatched. Control items are indexed by their plain
+ * value, or by a plain field value for JSON objects, so a received item is only validated against control items sharing
+ * these values. Control items without plain values, e.g. validation matchers, ignored items or objects that only hold
+ * nested elements, are validated against every received item, so the validation effort for arrays of such items grows with
+ * the number of control items times the number of received items.
+ *
+ * Ignore expressions are evaluated on the control document. Ignore expressions with filter predicates may depend on
+ * received values, in that case the received document is parsed as a whole and validated with the
+ * {@link JsonElementValidator}, so ignore expressions are evaluated on both documents.
+ *
+ * @since 4.2
+ */
+public class JsonStreamingValidator {
+
+    /** Pull parser factories per permissive mode */
+    private static final Map<Integer, JsonFactory> JSON_FACTORIES = new ConcurrentHashMap<>();
+
+    private final boolean strict;
+    private final Collection<String> ignoreExpressions;
+    private final JsonElementValidator elementValidator;
+    private final JSONParser valueParser;
+    private final JsonFactory jsonFactory;
+
+    public JsonStreamingValidator(boolean strict, TestContext context, Collection<String> ignoreExpressions, int permissiveMode) {
+        this.strict = strict;
+        this.ignoreExpressions = ignoreExpressions;
+        this.elementValidator = new JsonElementValidator(strict, context, ignoreExpressions);
+        this.valueParser = new JSONParser(permissiveMode);
+        this.jsonFactory = JSON_FACTORIES.computeIfAbsent(permissiveMode, JsonStreamingValidator::createJsonFactory);
+    }
+
+    /**
+     * Creates pull parser factory that accepts the same relaxed syntax as the Json parser in given permissive mode.
+     */
+    private static JsonFactory createJsonFactory(int permissiveMode) {
+        return JsonFactory.builder()
+                .configure(JsonReadFeature.ALLOW_TRAILING_COMMA, (permissiveMode & JSONParser.ACCEPT_USELESS_COMMA) > 0)
+                .configure(JsonReadFeature.ALLOW_SINGLE_QUOTES, (permissiveMode & JSONParser.ACCEPT_SIMPLE_QUOTE) > 0)
+                .configure(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES, (permissiveMode & JSONParser.ACCEPT_NON_QUOTE) > 0)
+                .build();
+    }
+
+    /**
+     * Validates received JSON text against the control JSON element.
+     * @param receivedJson the received JSON text
+     * @param control the parsed control JSON element
+     * @throws IOException in case the pull parser is not able to read the received JSON text
+     */
+    public void validate(String receivedJson, Object control) throws IOException {
+        if (ignoreExpressions.stream().anyMatch(JsonStreamingValidator::isFilterExpression)) {
+            if (!StringUtils.hasText(receivedJson)) {
+                throw new ValidationException("Validation failed - expected message contents, but received empty message!");
+            }
+
+            elementValidator.validate(new JsonElementValidatorItem<>(null, parse(receivedJson, 0, receivedJson.length()), control));
+            return;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(receivedJson)) {
+            if (parser.nextToken() == null) {
+                throw new ValidationException("Validation failed - expected message contents, but received empty message!");
+            }
+
+            validate(parser, receivedJson, null, null, -1, control);
+        }
+    }
+
+    private void validate(JsonParser parser, String receivedJson, JsonElementValidatorItem<?> parent,
+                          String name, int index, Object expected) throws IOException {
+        JsonElementValidatorItem<?> control = item(parent, name, index, parent == null ? expected : null, expected);
+        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, control)) {
+            parser.skipChildren();
+            return;
+        }
+
+        if (expected instanceof JSONObject expectedObject && parser.currentToken() == JsonToken.START_OBJECT) {
+            validateObject(parser, receivedJson, control, expectedObject);
+        } else if (expected instanceof JSONArray expectedArray && parser.currentToken() == JsonToken.START_ARRAY) {
+            validateArray(parser, receivedJson, control, expectedArray);
+        } else {
+            Object actual = readValue(parser, receivedJson);
+            elementValidator.validate(item(parent, name, index, actual, expected));
+        }
+    }
+
+    private void validateObject(JsonParser parser, String receivedJson, JsonElementValidatorItem<?> control,
+                                JSONObject expectedObject) throws IOException {
+        Set<String> actualKeys = new HashSet<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+            actualKeys.add(key);
+
+            if (expectedObject.containsKey(key)) {
+                validate(parser, receivedJson, control, key, -1, expectedObject.get(key));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (strict && expectedObject.size() != actualKeys.size()) {
+            throw new ValidationException(buildValueMismatchErrorMessage(
+                    "Number of entries is not equal in element: '" + control.getJsonPath() + "'", expectedObject.keySet(), actualKeys));
+        }
+
+        for (String key : expectedObject.keySet()) {
+            if (!actualKeys.contains(key)) {
+                throw new ValidationException(buildValueToBeInCollectionErrorMessage("Missing JSON entry", key, actualKeys));
+            }
+        }
+    }
+
+    private void validateArray(JsonParser parser, String receivedJson, JsonElementValidatorItem<?> control,
+                               JSONArray expectedArray) throws IOException {
+        int start = (int) parser.currentTokenLocation().getCharOffset();
+        ExpectedArrayIndex expectedIndex = new ExpectedArrayIndex(control, expectedArray);
+        boolean[] matched = new boolean[expectedArray.size()];
+        int unmatched = expectedArray.size();
+        int size = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            size++;
+
+            if (unmatched == 0) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Object actualItem = readValue(parser, receivedJson);
+            for (int i : expectedIndex.getCandidates(actualItem)) {
+                if (!matched[i] && elementValidator.isValid(
+                        new JsonElementValidatorItem<>(i, actualItem, expectedArray.get(i)).parent(control))) {
+                    matched[i] = true;
+                    unmatched--;
+                }
+            }
+        }
+
+        if (strict && expectedArray.size() != size) {
+            throw new ValidationException(buildValueMismatchErrorMessage(
+                    "Number of entries is not equal in element: '" + control.getJsonPath() + "'", expectedArray,
+                    parse(receivedJson, start, (int) parser.currentLocation().getCharOffset())));
+        }
+
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                throw new ValidationException(buildValueToBeInCollectionErrorMessage(
+                        "An item in '%s' is missing".formatted(control.getJsonPath()),
+                        expectedArray.get(i),
+                        (JSONArray) parse(receivedJson, start, (int) parser.currentLocation().getCharOffset())));
+            }
+        }
+    }
+
+    /**
+     * Reads the current value from the parser and parses it to a JSON element.
+     */
+    private Object readValue(JsonParser parser, String receivedJson) throws IOException {
+        int start = (int) parser.currentTokenLocation().getCharOffset();
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+        } else {
+            parser.finishToken();
+        }
+
+        return parse(receivedJson, start, (int) parser.currentLocation().getCharOffset());
+    }
+
+    private Object parse(String receivedJson, int start, int end) {
+        try {
+            return valueParser.parse(receivedJson.substring(start, end));
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Checks if given ignore expression holds filter predicates that may select elements depending on their values.
+     */
+    private static boolean isFilterExpression(String ignoreExpression) {
+        return ignoreExpression.contains("?(");
+    }
+
+    private static JsonElementValidatorItem<?> item(JsonElementValidatorItem<?> parent, String name, int index,
+                                                    Object actual, Object expected) {
+        if (index >= 0) {
+            return new JsonElementValidatorItem<>(index, actual, expected).parent(parent);
+        }
+
+        return new JsonElementValidatorItem<>(name, actual, expected).parent(parent);
+    }
+
+    /**
+     * Index of control array items by plain value. Plain items are indexed by their value, JSON object items by the plain
+     * value of their first field that is not ignored. All other items are candidates for any received item.
+     */
+    private class ExpectedArrayIndex {
+        private final List<Integer> others = new ArrayList<>();
+        private final Map<Object, List<Integer>> items = new HashMap<>();
+        private final Map<String, Map<Object, List<Integer>>> fields = new HashMap<>();
+
+        ExpectedArrayIndex(JsonElementValidatorItem<?> control, JSONArray expectedArray) {
+            for (int i = 0; i < expectedArray.size(); i++) {
+                Object expectedItem = expectedArray.get(i);
+                var itemControl = new JsonElementValidatorItem<>(i, null, expectedItem).parent(control);
+
+                if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, itemControl)) {
+                    others.add(i);
+                } else if (isLiteral(expectedItem)) {
+                    items.computeIfAbsent(expectedItem, value -> new ArrayList<>()).add(i);
+                } else if (!(expectedItem instanceof JSONObject expectedObject) || !addFieldItem(itemControl, expectedObject, i)) {
+                    others.add(i);
+                }
+            }
+        }
+
+        private boolean addFieldItem(JsonElementValidatorItem<?> itemControl, JSONObject expectedObject, int index) {
+            for (var entry : expectedObject.entrySet()) {
+                if (isLiteral(entry.getValue()) && !isIgnoredByPlaceholderOrExpressionList(ignoreExpressions,
+                        new JsonElementValidatorItem<>(entry.getKey(), null, entry.getValue()).parent(itemControl))) {
+                    fields.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                            .computeIfAbsent(entry.getValue(), value -> new ArrayList<>())
+                            .add(index);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Gets positions of control array items that may match the given received item.
+         */
+        List<Integer> getCandidates(Object actualItem) {
+            List<Integer> candidates = new ArrayList<>(others);
+
+            if (actualItem instanceof JSONObject actualObject) {
+                for (var entry : actualObject.entrySet()) {
+                    Map<Object, List<Integer>> fieldItems = fields.get(entry.getKey());
+                    if (fieldItems != null && !(entry.getValue() instanceof JSONObject || entry.getValue() instanceof JSONArray)) {
+                        candidates.addAll(fieldItems.getOrDefault(entry.getValue(), Collections.emptyList()));
+                    }
+                }
+            } else if (!(actualItem instanceof JSONArray)) {
+                candidates.addAll(items.getOrDefault(actualItem, Collections.emptyList()));
+            }
+
+            return candidates;
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.citrusframework.validation.json;
 
+import java.io.IOException;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.json.JsonSettings;
@@ -59,6 +61,11 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
     private JsonElementValidator.Provider elementValidatorProvider = JsonElementValidator.Provider.DEFAULT;
 
+    /**
+     * Min length of received Json text that gets validated in streaming mode, negative value disables streaming mode
+     */
+    private int streamingThreshold = JsonSettings.getStreamingValidationThreshold();
+
     @Override
     public void validateMessage(
             Message receivedMessage,
@@ -81,12 +88,32 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             throw new ValidationException("Validation failed - expected message contents, but received empty message!");
         }
 
+        if (isStreamingValidation(receivedJsonText)) {
+            try {
+                new JsonStreamingValidator(strict, context, validationContext.getIgnoreExpressions(), permissiveMode)
+                        .validate(receivedJsonText, parseJson(permissiveMode, controlJsonText));
+                logger.info("JSON message validation successful: All values OK");
+                return;
+            } catch (IOException e) {
+                logger.debug("Unable to stream received JSON text - fall back to default validation", e);
+            }
+        }
+
         elementValidatorProvider.getValidator(strict, context, validationContext).validate(
                 parseJson(permissiveMode, receivedJsonText, controlJsonText)
         );
         logger.info("JSON message validation successful: All values OK");
     }
 
+    /**
+     * Streaming mode is used for large received Json texts unless a custom element validator is set.
+     */
+    private boolean isStreamingValidation(String receivedJsonText) {
+        return streamingThreshold >= 0
+                && receivedJsonText.length() >= streamingThreshold
+                && elementValidatorProvider == JsonElementValidator.Provider.DEFAULT;
+    }
+
     @Override
     protected Class<JsonMessageValidationContext> getRequiredValidationContextType() {
         return JsonMessageValidationContext.class;
@@ -146,6 +173,27 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return this;
     }
 
+    /**
+     * Sets the min length of received Json text that gets validated in streaming mode.
+     * Negative value disables streaming mode.
+     *
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    /**
+     * Sets the min length of received Json text that gets validated in streaming mode.
+     *
+     * @param streamingThreshold
+     * @return this object for chaining
+     */
+    public JsonTextMessageValidator streamingThreshold(int streamingThreshold) {
+        setStreamingThreshold(streamingThreshold);
+        return this;
+    }
+
     /**
      * Sets the permissive mode.
      *
@@ -147,19 +147,18 @@ public class JsonSchemaValidation implements SchemaValidator<JsonMessageValidati
      * @return returns the report holding the result of the validation
      */
     private Set<ValidationMessage> validate(Message message, SimpleJsonSchema simpleJsonSchema) {
-        try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
-            if (receivedJson.isEmpty()) {
-                return Collections.emptySet();
-            } else {
-                return simpleJsonSchema.getSchema().validate(
-                        objectMapper.readTree(
-                                message.getPayload(String.class)
-                        )
-                );
+        JsonNode receivedJson = message.getParsedPayload(JsonNode.class, m -> {
+            try {
+                return objectMapper.readTree(m.getPayload(String.class));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to validate Json schema", e);
             }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to validate Json schema", e);
+        });
+
+        if (receivedJson.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            return simpleJsonSchema.getSchema().validate(receivedJson);
         }
     }
 
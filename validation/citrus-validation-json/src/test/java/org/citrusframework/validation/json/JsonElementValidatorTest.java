@@ -133,6 +133,18 @@ public class JsonElementValidatorTest extends UnitTestSupport {
                 new JsonAssertion(
                         "{ \"books\": [\"book-c\", \"book-b\", \"book-a\"] }",
                         "{ \"books\": [\"book-a\", \"book-b\", \"book-c\"] }"
+                ),
+                new JsonAssertion(
+                        "[{\"id\":1, \"text\":\"Hello\"}, {\"id\":2, \"text\":\"Hallo\"}]",
+                        "[{\"id\":2, \"text\":\"@equalsIgnoreCase('hallo')@\"}, {\"id\":\"@ignore@\", \"text\":\"Hello\"}]"
+                ),
+                new JsonAssertion(
+                        "[{\"id\":1, \"tags\":[\"a\", \"b\"]}, {\"id\":2, \"tags\":[\"c\", \"d\"]}]",
+                        "[{\"id\":2, \"tags\":[\"d\", \"c\"]}, {\"id\":1, \"tags\":[\"b\", \"a\"]}]"
+                ),
+                new JsonAssertion(
+                        "[null, 1, \"1\"]",
+                        "[\"1\", null, 1]"
                 )
         ).toArray(new JsonAssertion[0]);
     }
@@ -164,6 +176,16 @@ public class JsonElementValidatorTest extends UnitTestSupport {
                         "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}, {\"text\":\"Hola del mundo!\", \"index\":3}], \"id\":\"x123456789x\"}",
                         "An item in '$['greetings']' is missing, expected '{\"index\":2,\"text\":\"Hallo Welt!\"}' to be in '[{\"index\":1,\"text\":\"Hello World!\"},{\"index\":0,\"text\":\"Hallo Welt!\"},{\"index\":3,\"text\":\"Hola del mundo!\"}]'"
                 ),
+                new JsonAssertion(
+                        "[{\"id\":1, \"tags\":[\"a\", \"b\"]}, {\"id\":2, \"tags\":[\"c\", \"d\"]}]",
+                        "[{\"id\":1, \"tags\":[\"a\", \"b\"]}, {\"id\":2, \"tags\":[\"a\", \"d\"]}]",
+                        "An item in '$' is missing"
+                ),
+                new JsonAssertion(
+                        "[1, 2, 3]",
+                        "[1, 2, \"3\"]",
+                        "An item in '$' is missing"
+                ),
                 new JsonAssertion(
                         "{\"numbers\":[101, 42]}",
                         "{\"numbers\":[101, 42, 9000]}",
@@ -258,6 +280,21 @@ public class JsonElementValidatorTest extends UnitTestSupport {
         ).toArray(new JsonAssertion[0]);
     }
 
+    @Test
+    public void shouldValidateLargeNonOrderedArray() {
+        StringBuilder actual = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        int size = 5000;
+        for (int i = 0; i < size; i++) {
+            actual.append(i > 0 ? "," : "").append("{\"id\":%d, \"name\":\"item-%d\", \"tags\":[%d]}".formatted(i, i, i));
+            expected.append(i > 0 ? "," : "").append("{\"id\":%d, \"name\":\"@startsWith('item-')@\", \"tags\":[%d]}".formatted(size - i - 1, size - i - 1));
+        }
+
+        var validationItem = toValidationItem(new JsonAssertion(actual.append("]").toString(), expected.append("]").toString()));
+        fixture = new JsonElementValidator(STRICT, context, Set.of());
+        assertThatNoException().isThrownBy(() -> fixture.validate(validationItem));
+    }
+
     private static JsonElementValidatorItem<Object> toValidationItem(JsonAssertion jsonAssertion) {
         return JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, jsonAssertion.actual, jsonAssertion.expected);
     }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.json;
+
+import java.util.Set;
+
+import org.citrusframework.UnitTestSupport;
+import org.citrusframework.exceptions.ValidationException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static net.minidev.json.parser.JSONParser.DEFAULT_PERMISSIVE_MODE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonStreamingValidatorTest extends UnitTestSupport {
+
+    @DataProvider
+    public Object[][] jsonPairs() {
+        return new Object[][] {
+            { "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"id\":\"x123456789x\"}", Set.of() },
+            { "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"index\":5, \"id\":\"x123456789x\", \"text\":\"Hello World!\"}", Set.of() },
+            { "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"wrong\"}", "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", Set.of() },
+            { "{\"text\":\"Hello World!\", \"index\":5.50, \"big\":12345678901234567890}", "{\"text\":\"Hello World!\", \"index\":5.5, \"big\":12345678901234567890}", Set.of() },
+            { "{\"text\":\"Hello\\nWorld \\u00e4\", \"flag\":true, \"id\":null}", "{\"text\":\"Hello\\nWorld ä\", \"flag\":true, \"id\":null}", Set.of() },
+            { "{\"text\":\"Hello World!\", \"id\":null}", "{\"text\":\"Hello World!\", \"id\":\"x123456789x\"}", Set.of() },
+            { "{\"not-test\": \"lorem\"}", "{\"test\": \"lorem\"}", Set.of() },
+            { "{\"test\": \"Lorem\"}", "{\"test\": \"@equalsIgnoreCase('lorem')@\"}", Set.of() },
+            { "{\"test\": \"Lorem\"}", "{\"test\": \"@equalsIgnoreCase('lorem ipsum')@\"}", Set.of() },
+            { "{\"person\":{\"name\":\"John\",\"surname\":\"wrong\"}, \"id\":1}", "{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"id\":1}", Set.of() },
+            { "{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"id\":1}", "{\"person\":\"@ignore@\", \"id\":1}", Set.of() },
+            { "{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"id\":1}", "{\"person\":{\"name\":\"?\",\"surname\":\"Doe\"}, \"id\":1}", Set.of("$.person.name") },
+            { "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x\"}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":2}, {\"text\":\"Hello World!\", \"index\":1}], \"id\":\"x\"}", Set.of() },
+            { "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":0}], \"id\":\"x\"}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":2}, {\"text\":\"Hello World!\", \"index\":1}], \"id\":\"x\"}", Set.of() },
+            { "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}], \"id\":\"x\"}", "{\"greetings\":{\"text\":\"Hello World!\", \"index\":1}, \"id\":\"x\"}", Set.of() },
+            { "{\"greetings\":{\"text\":\"Hello World!\", \"index\":1}, \"id\":\"x\"}", "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}], \"id\":\"x\"}", Set.of() },
+            { "{\"numbers\":[101, 42]}", "{\"numbers\":[101, 42, 9000]}", Set.of() },
+            { "{\"numbers\":[101, 42, 9000]}", "{\"numbers\":[9000, 101, 42]}", Set.of() },
+            { "{\"index\": {\"anything\": [0]} }", "{\"index\": {\"anything\": [55, 66, 77]} }", Set.of("$.index['anything'][*]") },
+            { "[1, {\"text\":\"Hallo Welt!\", \"index\":2}, \"pizza\"]", "[\"pizza\", 1, {\"text\":\"Hallo Welt!\", \"index\":2}]", Set.of() },
+            { "[1, 2, 3]", "[1, 2, 4]", Set.of() },
+            { "{\"text\":\"Hello World!\", \"greetings\":[1, 2,],}", "{\"text\":\"Hello World!\", \"greetings\":[2, 1]}", Set.of() },
+            { "{\"items\":[{\"type\":\"dynamic\", \"value\":\"123\"}, {\"type\":\"static\", \"value\":\"abc\"}]}", "{\"items\":[{\"type\":\"@ignore@\", \"value\":\"xyz\"}, {\"type\":\"static\", \"value\":\"abc\"}]}", Set.of("$.items[?(@.type == 'dynamic')].value") },
+            { "{\"items\":[{\"type\":\"dynamic\", \"value\":\"123\"}, {\"type\":\"static\", \"value\":\"abc\"}]}", "{\"items\":[{\"type\":\"dynamic\", \"value\":\"123\"}, {\"type\":\"static\", \"value\":\"xyz\"}]}", Set.of("$.items[?(@.type == 'dynamic')].value") }
+        };
+    }
+
+    @Test(dataProvider = "jsonPairs")
+    public void shouldValidateSameAsElementValidator(String received, String control, Set<String> ignoreExpressions) throws Exception {
+        for (boolean strict : new boolean[] { true, false }) {
+            ValidationException expected = null;
+            try {
+                new JsonElementValidator(strict, context, ignoreExpressions)
+                        .validate(JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, received, control));
+            } catch (ValidationException e) {
+                expected = e;
+            }
+
+            ValidationException actual = null;
+            try {
+                new JsonStreamingValidator(strict, context, ignoreExpressions, DEFAULT_PERMISSIVE_MODE)
+                        .validate(received, JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, control));
+            } catch (ValidationException e) {
+                actual = e;
+            }
+
+            if (expected == null) {
+                Assert.assertNull(actual, "Unexpected validation error in strict=" + strict);
+            } else {
+                Assert.assertNotNull(actual, "Missing validation error in strict=" + strict + ": " + expected.getMessage());
+                Assert.assertEquals(actual.getMessage(), expected.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void shouldValidateLargeDocument() throws Exception {
+        StringBuilder received = new StringBuilder("{\"items\":{");
+        for (int i = 0; i < 10000; i++) {
+            received.append(i > 0 ? "," : "").append("\"item-%d\":{\"id\":%d, \"tags\":[\"a\", \"b\"]}".formatted(i, i));
+        }
+        received.append("}, \"total\":10000}");
+
+        JsonStreamingValidator validator = new JsonStreamingValidator(false, context, Set.of(), DEFAULT_PERMISSIVE_MODE);
+        validator.validate(received.toString(), JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE,
+                "{\"items\":{\"item-9999\":{\"id\":9999, \"tags\":[\"b\", \"a\"]}}, \"total\":\"@isNumber()@\"}"));
+
+        assertThatThrownBy(() -> validator.validate(received.toString(), JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE,
+                "{\"items\":{\"item-5000\":{\"id\":5001}}}")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Values not equal for entry: '$['items']['item-5000']['id']'");
+    }
+
+    @Test
+    public void shouldIgnoreElementsSelectedInReceivedDocument() throws Exception {
+        // filter only selects the value in the received document, because the control document ignores the type
+        new JsonStreamingValidator(true, context, Set.of("$.items[?(@.type == 'dynamic')].value"), DEFAULT_PERMISSIVE_MODE)
+                .validate("{\"items\":[{\"type\":\"dynamic\", \"value\":\"123\"}]}",
+                        JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, "{\"items\":[{\"type\":\"@ignore@\", \"value\":\"xyz\"}]}"));
+    }
+
+    @Test
+    public void shouldValidateLargeArray() throws Exception {
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 1000; i++) {
+            received.append(i > 0 ? "," : "").append("{\"id\":%d, \"name\":\"item-%d\"}".formatted(i, i));
+            control.append(i > 0 ? "," : "").append("{\"id\":%d, \"name\":\"@startsWith('item-')@\"}".formatted(999 - i));
+        }
+        received.append("]}");
+        control.append("]}");
+
+        JsonStreamingValidator validator = new JsonStreamingValidator(true, context, Set.of(), DEFAULT_PERMISSIVE_MODE);
+        validator.validate(received.toString(), JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, control.toString()));
+
+        assertThatThrownBy(() -> validator.validate(received.toString().replace("{\"id\":500,", "{\"id\":1000,"),
+                JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, control.toString())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("An item in '$['items']' is missing");
+    }
+}
@@ -20,6 +20,7 @@ import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.citrusframework.UnitTestSupport;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.json.JsonSchemaRepository;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.MessageType;
@@ -66,6 +67,24 @@ public class JsonTextMessageValidatorTest extends UnitTestSupport {
         assertThatNoException().isThrownBy(() -> fixture.validateMessage(actualMessage, expectedMessage, context, validationContext));
     }
 
+    @Test
+    public void testJsonStreamingValidation() {
+        fixture.setStreamingThreshold(0);
+
+        var actualMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\", \"items\":[1, 2, 3]}");
+        var expectedMessage = new DefaultMessage("{\"text\":\"Hello ${world}!\", \"index\":\"@ignore@\", \"id\":\"${id}\", \"items\":[3, 2, 1]}");
+
+        context.setVariable("world", "World");
+        context.setVariable("id", "x123456789x");
+
+        assertThatNoException().isThrownBy(() -> fixture.validateMessage(actualMessage, expectedMessage, context, validationContext));
+
+        var wrongMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"id\":\"wrong\", \"items\":[1, 2, 3]}");
+        assertThatThrownBy(() -> fixture.validateMessage(wrongMessage, expectedMessage, context, validationContext))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Values not equal for entry: '$['id']'");
+    }
+
     @Test
     public void testJsonValidationInvalidJsonText() {
         var actualMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"id\":\"wrong\"}");
@@ -40,7 +40,7 @@ public class XPathPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor
     @Override
     public String getMappingKey(Message request) {
         return XPathUtils.evaluateAsString(
-                XMLUtils.parseMessagePayload(request.getPayload(String.class)),
+                XMLUtils.parseMessagePayload(request),
                 xpathExpression,
                 namespaceContextBuilder.buildContext(request, Collections.emptyMap()));
     }
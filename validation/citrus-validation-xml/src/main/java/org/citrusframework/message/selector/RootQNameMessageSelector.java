@@ -67,7 +67,7 @@ public class RootQNameMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = XMLUtils.parseMessagePayload(getPayloadMessage(message));
         } catch (LSException e) {
             logger.warn("Root QName message selector ignoring not well-formed XML message payload", e);
             return false; // non XML message - not accepted
@@ -58,7 +58,7 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = XMLUtils.parseMessagePayload(getPayloadMessage(message));
         } catch (LSException e) {
             logger.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
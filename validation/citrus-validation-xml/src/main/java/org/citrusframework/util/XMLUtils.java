@@ -28,6 +28,8 @@ import javax.xml.XMLConstants;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.ParsedPayloadCache;
 import org.citrusframework.xml.XmlConfigurer;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
@@ -224,7 +226,7 @@ public final class XMLUtils {
      * @return serialized XML string
      */
     public static String serialize(Document doc) {
-        LSSerializer serializer = configurer.createLSSerializer();
+        LSSerializer serializer = configurer.borrowLSSerializer();
 
         LSOutput output = configurer.createLSOutput();
         String charset = getTargetCharset(doc).displayName();
@@ -233,7 +235,11 @@ public final class XMLUtils {
         StringWriter writer = new StringWriter();
         output.setCharacterStream(writer);
 
-        serializer.write(doc, output);
+        try {
+            serializer.write(doc, output);
+        } finally {
+            configurer.releaseLSSerializer(serializer);
+        }
 
         return writer.toString();
     }
@@ -245,9 +251,6 @@ public final class XMLUtils {
      * @return pretty printed XML string
      */
     public static String prettyPrint(String xml) {
-        LSParser parser = configurer.createLSParser();
-        configurer.setParserConfigParameter(parser, XmlConfigurer.VALIDATE_IF_SCHEMA, false);
-
         LSInput input = configurer.createLSInput();
 
         try {
@@ -259,11 +262,16 @@ public final class XMLUtils {
             throw new CitrusRuntimeException(e);
         }
 
+        LSParser parser = configurer.borrowLSParser();
+        configurer.setParserConfigParameter(parser, XmlConfigurer.VALIDATE_IF_SCHEMA, false);
+
         Document doc;
         try {
             doc = parser.parse(input);
         } catch (Exception e) {
             return xml;
+        } finally {
+            configurer.releaseLSParser(parser);
         }
 
         return serialize(doc);
@@ -303,6 +311,19 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Parse payload of given message with DOM implementation. Within a {@link ParsedPayloadCache} scope opened on the
+     * current thread, e.g. while a receive action validates the message, the parsed document is cached for the message so
+     * the payload is parsed only once as long as it is not changed. Outside of such a scope the payload is parsed on each call.
+     * The document may be shared within the scope and must not be modified.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        return message.getParsedPayload(Document.class, m -> parseMessagePayload(m.getPayload(String.class)));
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
@@ -310,7 +331,6 @@ public final class XMLUtils {
      * @return DOM document.
      */
     public static Document parseMessagePayload(String messagePayload) {
-        LSParser parser = configurer.createLSParser();
         LSInput receivedInput = configurer.createLSInput();
         try {
             Charset charset = getTargetCharset(messagePayload);
@@ -320,7 +340,12 @@ public final class XMLUtils {
             throw new CitrusRuntimeException(e);
         }
 
-        return parser.parse(receivedInput);
+        LSParser parser = configurer.borrowLSParser();
+        try {
+            return parser.parse(receivedInput);
+        } finally {
+            configurer.releaseLSParser(parser);
+        }
     }
 
     /**
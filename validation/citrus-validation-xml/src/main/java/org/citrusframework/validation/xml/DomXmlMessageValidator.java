@@ -36,6 +36,7 @@ import org.citrusframework.validation.AbstractMessageValidator;
 import org.citrusframework.validation.ValidationUtils;
 import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 import org.citrusframework.validation.xml.schema.XmlSchemaValidation;
+import org.citrusframework.xml.XmlSettings;
 import org.citrusframework.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +63,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    /** Min length of received XML text that gets validated in streaming mode, negative value disables streaming mode */
+    private int streamingThreshold = XmlSettings.getStreamingValidationThreshold();
+
     /** Default schema validator */
     private final XmlSchemaValidation schemaValidator;
 
@@ -127,7 +131,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         logger.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -226,16 +230,42 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             return;
         }
 
+        String receivedMessagePayload = receivedMessage.getPayload(String.class);
+        NamespaceContext namespaceContext = getNamespaceContextBuilder(context)
+                .buildContext(receivedMessage, validationContext.getNamespaces());
+
+        if (isStreamingValidation(receivedMessagePayload, validationContext)) {
+            logger.debug("Start XML streaming validation ...");
+
+            if (new XmlStreamingValidator(validationContext.getIgnoreExpressions(), namespaceContext, context)
+                    .validate(receivedMessagePayload, controlMessagePayload)) {
+                return;
+            }
+
+            logger.debug("Unable to validate XML in streaming mode - falling back to XML tree validation");
+        }
+
         logger.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessagePayload);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
         XMLUtils.stripWhitespaceNodes(source);
 
-        validateXmlTree(received, source, validationContext, getNamespaceContextBuilder(context)
-                .buildContext(receivedMessage, validationContext.getNamespaces()), context);
+        validateXmlTree(received, source, validationContext, namespaceContext, context);
+    }
+
+    /**
+     * Checks whether received XML text should be validated in streaming mode.
+     * @param receivedMessagePayload
+     * @param validationContext
+     * @return
+     */
+    private boolean isStreamingValidation(String receivedMessagePayload, XmlMessageValidationContext validationContext) {
+        return streamingThreshold >= 0
+                && receivedMessagePayload.length() >= streamingThreshold
+                && XmlStreamingValidator.supports(validationContext.getIgnoreExpressions());
     }
 
     /**
@@ -625,6 +655,24 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         this.namespaceContextBuilder = namespaceContextBuilder;
     }
 
+    /**
+     * Sets the min length of received XML text that gets validated in streaming mode.
+     * Negative value disables streaming mode.
+     *
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    /**
+     * Gets the streaming threshold.
+     * @return
+     */
+    public int getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
     public void validateXMLSchema(Message message, TestContext context, XmlMessageValidationContext xmlMessageValidationContext) {
         schemaValidator.validate(message, context, xmlMessageValidationContext);
     }
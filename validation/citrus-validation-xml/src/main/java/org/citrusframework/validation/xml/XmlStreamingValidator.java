@@ -0,0 +1,513 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.xml;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.util.StringUtils;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
+import org.citrusframework.xml.xpath.XPathUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.validation.ValidationUtils.buildValueMismatchErrorMessage;
+
+/**
+ * Validates received XML text against control XML text while reading both documents with StAX stream readers in lockstep.
+ * Memory usage is proportional to the nesting depth rather than the size of the documents. Validation rules and error
+ * messages are the same as in {@link DomXmlMessageValidator}. In case both documents differ in several places the
+ * reported error may be a different one though as element text is validated after the child elements.
+ *
+ * Supported ignore expressions are element path expressions starting at the root element (e.g. Root.Element.Attribute)
+ * and absolute XPath element location paths without predicates (e.g. /ns:Root/ns:Element). Callers must fall back to
+ * DOM tree validation when this validator is not able to validate the documents.
+ *
+ * @since 4.2
+ */
+public class XmlStreamingValidator {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlStreamingValidator.class);
+
+    /** Absolute XPath element location path without predicates and functions */
+    private static final Pattern SIMPLE_XPATH = Pattern.compile("(/[\\w.-]+(:[\\w.-]+)?)+");
+
+    /** Stream reader factory */
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final NamespaceContext namespaceContext;
+    private final TestContext context;
+
+    /** Element path ignore expressions */
+    private final Set<String> ignorePaths = new HashSet<>();
+
+    /** XPath ignore expressions as list of location steps */
+    private final Set<String> ignoreXPaths = new HashSet<>();
+    private final List<List<QName>> ignoreSteps = new ArrayList<>();
+
+    /** Path of the current element as element path expression and as list of qualified names */
+    private final List<String> path = new ArrayList<>();
+    private final List<QName> qualifiedPath = new ArrayList<>();
+
+    public XmlStreamingValidator(Set<String> ignoreExpressions, NamespaceContext namespaceContext, TestContext context) {
+        this.namespaceContext = namespaceContext;
+        this.context = context;
+
+        for (String expression : ignoreExpressions) {
+            if (XPathUtils.isXPathExpression(expression)) {
+                ignoreXPaths.add(expression);
+            } else {
+                ignorePaths.add(expression);
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Checks whether given ignore expressions are supported in streaming mode.
+     * @param ignoreExpressions
+     * @return
+     */
+    public static boolean supports(Set<String> ignoreExpressions) {
+        return ignoreExpressions.stream()
+                .filter(XPathUtils::isXPathExpression)
+                .allMatch(expression -> SIMPLE_XPATH.matcher(expression).matches());
+    }
+
+    /**
+     * Validates received XML text against control XML text.
+     * @param receivedXml the received XML text
+     * @param controlXml the control XML text
+     * @return false in case the documents can not be validated in streaming mode, e.g. because of document type
+     * definitions, processing instructions in front of the root element, malformed XML or unsupported ignore expressions
+     */
+    public boolean validate(String receivedXml, String controlXml) {
+        if (!supports(ignoreXPaths) || !resolveIgnoreSteps()) {
+            return false;
+        }
+
+        XMLStreamReader received = null;
+        XMLStreamReader control = null;
+        try {
+            received = INPUT_FACTORY.createXMLStreamReader(new StringReader(receivedXml.trim()));
+            control = INPUT_FACTORY.createXMLStreamReader(new StringReader(controlXml.trim()));
+
+            if (!moveToRootElement(received) || !moveToRootElement(control)) {
+                return false;
+            }
+
+            for (String ignorePath : ignorePaths) {
+                // element path expressions that do not start with the root element are evaluated on the whole document
+                if (!ignorePath.equals(received.getLocalName()) && !ignorePath.startsWith(received.getLocalName() + ".")) {
+                    return false;
+                }
+            }
+
+            validateElement(received, control);
+            return true;
+        } catch (XMLStreamException e) {
+            logger.debug("Unable to read XML in streaming mode: " + e.getMessage());
+            return false;
+        } finally {
+            close(received);
+            close(control);
+        }
+    }
+
+    /**
+     * Resolves namespace prefixes in XPath ignore expressions.
+     * @return false in case a namespace prefix is not bound in the namespace context
+     */
+    private boolean resolveIgnoreSteps() {
+        for (String expression : ignoreXPaths) {
+            List<QName> steps = new ArrayList<>();
+            for (String step : expression.substring(1).split("/")) {
+                if (step.contains(":")) {
+                    String prefix = step.substring(0, step.indexOf(':'));
+                    String namespace = namespaceContext != null ? namespaceContext.getNamespaceURI(prefix) : null;
+                    if (!StringUtils.hasText(namespace)) {
+                        return false;
+                    }
+
+                    steps.add(new QName(namespace, step.substring(prefix.length() + 1)));
+                } else {
+                    steps.add(new QName(step));
+                }
+            }
+
+            ignoreSteps.add(steps);
+        }
+
+        return true;
+    }
+
+    private boolean moveToRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.DTD || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Validates element that both readers are positioned on. Both readers are positioned on the respective end
+     * element once the validation is done.
+     */
+    private void validateElement(XMLStreamReader received, XMLStreamReader control) throws XMLStreamException {
+        String localName = received.getLocalName();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Validating element: " + localName + " (" + namespace(received.getNamespaceURI()) + ")");
+        }
+
+        if (!localName.equals(control.getLocalName())) {
+            throw new ValidationException(buildValueMismatchErrorMessage("Element names not equal", control.getLocalName(), localName));
+        }
+
+        validateElementNamespace(localName, namespace(received.getNamespaceURI()), namespace(control.getNamespaceURI()));
+
+        path.add(path.isEmpty() ? localName : path.get(path.size() - 1) + "." + localName);
+        qualifiedPath.add(new QName(Objects.toString(namespace(received.getNamespaceURI()), ""), localName));
+
+        if (isElementIgnored()) {
+            logger.debug("Element: '" + localName + "' is on ignore list - skipped validation");
+            skipElement(received);
+            skipElement(control);
+            removeLast();
+            return;
+        }
+
+        List<Attribute> receivedAttributes = readAttributes(received);
+        List<Attribute> controlAttributes = readAttributes(control);
+        String controlNodeName = nodeName(control.getPrefix(), localName);
+
+        received.next();
+        control.next();
+        String receivedFirstText = readText(received);
+        String controlFirstText = readText(control);
+
+        if (controlFirstText.trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            logger.debug("Element: '" + localName + "' is ignored by placeholder '" + CitrusSettings.IGNORE_PLACEHOLDER + "'");
+            skipContent(received);
+            skipContent(control);
+            removeLast();
+            return;
+        }
+
+        validateAttributes(localName, receivedAttributes, controlAttributes);
+
+        if (StringUtils.hasText(controlFirstText) && ValidationMatcherUtils.isValidationMatcherExpression(controlFirstText.trim())) {
+            ValidationMatcherUtils.resolveValidationMatcher(controlNodeName, receivedFirstText.trim(), controlFirstText.trim(), context);
+            skipContent(received);
+            skipContent(control);
+            removeLast();
+            return;
+        }
+
+        StringBuilder receivedText = new StringBuilder();
+        StringBuilder controlText = new StringBuilder();
+        appendText(receivedText, receivedFirstText);
+        appendText(controlText, controlFirstText);
+
+        int children = 0;
+        while (true) {
+            int receivedEvent = moveToTag(received, receivedText);
+            int controlEvent = moveToTag(control, controlText);
+
+            if (receivedEvent == XMLStreamConstants.START_ELEMENT && controlEvent == XMLStreamConstants.START_ELEMENT) {
+                validateElement(received, control);
+                received.next();
+                control.next();
+                children++;
+            } else if (receivedEvent == XMLStreamConstants.END_ELEMENT && controlEvent == XMLStreamConstants.END_ELEMENT) {
+                break;
+            } else {
+                throw new ValidationException(buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                        + localName + "'", children + countElements(control), children + countElements(received)));
+            }
+        }
+
+        if (!receivedText.toString().trim().equals(controlText.toString().trim())) {
+            throw new ValidationException(buildValueMismatchErrorMessage("Node value not equal for element '"
+                    + localName + "'", controlText.toString().trim(), receivedText.toString().trim()));
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Validation successful for element: " + localName + " (" + namespace(received.getNamespaceURI()) + ")");
+        }
+
+        removeLast();
+    }
+
+    private void validateElementNamespace(String localName, String receivedNamespace, String controlNamespace) {
+        if (receivedNamespace != null) {
+            if (!receivedNamespace.equals(controlNamespace)) {
+                throw new ValidationException(buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                        localName + "'", controlNamespace, receivedNamespace));
+            }
+        } else if (controlNamespace != null) {
+            throw new ValidationException(buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    localName + "'", controlNamespace, null));
+        }
+    }
+
+    private void validateAttributes(String localName, List<Attribute> receivedAttributes, List<Attribute> controlAttributes) {
+        if (receivedAttributes.size() != controlAttributes.size()) {
+            throw new ValidationException(buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                    + localName + "'", controlAttributes.size(), receivedAttributes.size()));
+        }
+
+        for (Attribute receivedAttribute : receivedAttributes) {
+            Attribute controlAttribute = controlAttributes.stream()
+                    .filter(attribute -> attribute.localName.equals(receivedAttribute.localName)
+                            && Objects.equals(attribute.namespace, receivedAttribute.namespace))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException("Attribute validation failed for element '"
+                            + localName + "', unknown attribute "
+                            + receivedAttribute.localName + " (" + receivedAttribute.namespace + ")"));
+
+            validateAttribute(receivedAttribute, controlAttribute);
+        }
+    }
+
+    private void validateAttribute(Attribute received, Attribute control) {
+        if (isAttributeIgnored(received)) {
+            logger.debug("Attribute '" + received.localName + "' is on ignore list - skipped value validation");
+            return;
+        }
+
+        if (control.value.trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            logger.debug("Attribute: '" + received.localName + "' is ignored by placeholder '" + CitrusSettings.IGNORE_PLACEHOLDER + "'");
+            return;
+        }
+
+        String receivedValue = received.value;
+        String controlValue = control.value;
+        if (StringUtils.hasText(controlValue) && ValidationMatcherUtils.isValidationMatcherExpression(controlValue.trim())) {
+            ValidationMatcherUtils.resolveValidationMatcher(control.nodeName, receivedValue.trim(), controlValue.trim(), context);
+            return;
+        }
+
+        if (receivedValue.contains(":") && controlValue.contains(":") && received.valueNamespace != null) {
+            // value has namespace prefix set, do special QName validation
+            if (control.valueNamespace == null) {
+                throw new ValidationException("Received attribute value '" + received.localName + "' describes namespace qualified attribute value," +
+                        " control value '" + controlValue + "' does not");
+            }
+
+            if (!control.valueNamespace.equals(received.valueNamespace)) {
+                throw new ValidationException(buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                        + receivedValue + "'", control.valueNamespace, received.valueNamespace));
+            }
+
+            // remove namespace prefixes as they must not form equality
+            receivedValue = receivedValue.substring(receivedValue.indexOf(':') + 1);
+            controlValue = controlValue.substring(controlValue.indexOf(':') + 1);
+        }
+
+        if (!receivedValue.equals(controlValue)) {
+            throw new ValidationException(buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    + received.localName + "'", controlValue, receivedValue));
+        }
+    }
+
+    private boolean isElementIgnored() {
+        if (ignorePaths.contains(path.get(path.size() - 1))) {
+            return true;
+        }
+
+        return ignoreSteps.stream().anyMatch(qualifiedPath::equals);
+    }
+
+    private boolean isAttributeIgnored(Attribute attribute) {
+        return ignorePaths.contains(path.get(path.size() - 1) + "." + attribute.nodeName);
+    }
+
+    /**
+     * Reads attributes of current start element. Namespace prefixes in attribute values are resolved
+     * with the namespace bindings in scope.
+     */
+    private List<Attribute> readAttributes(XMLStreamReader reader) {
+        List<Attribute> attributes = new ArrayList<>(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            String valueNamespace = null;
+            if (value.contains(":")) {
+                valueNamespace = namespace(reader.getNamespaceURI(value.substring(0, value.indexOf(':'))));
+            }
+
+            attributes.add(new Attribute(namespace(reader.getAttributeNamespace(i)), reader.getAttributeLocalName(i),
+                    nodeName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), value, valueNamespace));
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Reads consecutive text events starting with the current event. Reader is positioned on the first non text event afterwards.
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        while (isText(reader.getEventType())) {
+            text.append(reader.getText());
+            reader.next();
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Moves reader to next start or end element starting with the current event. Text that is not whitespace only is appended
+     * to given text buffer, comments and processing instructions are skipped.
+     */
+    private int moveToTag(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        while (true) {
+            int event = reader.getEventType();
+            if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_ELEMENT) {
+                return event;
+            }
+
+            if (isText(event)) {
+                appendText(text, readText(reader));
+            } else {
+                reader.next();
+            }
+        }
+    }
+
+    /**
+     * Counts the remaining child elements starting with the current event.
+     */
+    private int countElements(XMLStreamReader reader) throws XMLStreamException {
+        int count = 0;
+        StringBuilder ignored = new StringBuilder();
+        while (moveToTag(reader, ignored) == XMLStreamConstants.START_ELEMENT) {
+            skipElement(reader);
+            reader.next();
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Skips element that the reader is positioned on. Reader is positioned on the end element afterwards.
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        reader.next();
+        skipContent(reader);
+    }
+
+    /**
+     * Skips remaining content of the current element starting with the current event. Reader is positioned on the end element afterwards.
+     */
+    private void skipContent(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (true) {
+            int event = reader.getEventType();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT && --depth == 0) {
+                return;
+            }
+
+            reader.next();
+        }
+    }
+
+    private void removeLast() {
+        path.remove(path.size() - 1);
+        qualifiedPath.remove(qualifiedPath.size() - 1);
+    }
+
+    private static void appendText(StringBuilder text, String value) {
+        // whitespace only text nodes are not part of the element text
+        if (StringUtils.hasText(value)) {
+            text.append(value);
+        }
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE;
+    }
+
+    private static String namespace(String namespace) {
+        return StringUtils.hasText(namespace) ? namespace : null;
+    }
+
+    private static String nodeName(String prefix, String localName) {
+        return StringUtils.hasText(prefix) && !XMLConstants.DEFAULT_NS_PREFIX.equals(prefix) ? prefix + ":" + localName : localName;
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                logger.debug("Failed to close XML stream reader", e);
+            }
+        }
+    }
+
+    /**
+     * Attribute of a start element.
+     */
+    private static final class Attribute {
+        private final String namespace;
+        private final String localName;
+        private final String nodeName;
+        private final String value;
+        private final String valueNamespace;
+
+        Attribute(String namespace, String localName, String nodeName, String value, String valueNamespace) {
+            this.namespace = namespace;
+            this.localName = localName;
+            this.nodeName = nodeName;
+            this.value = value;
+            this.valueNamespace = valueNamespace;
+        }
+    }
+}
@@ -65,7 +65,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
         logger.debug("Start XPath element validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
         NamespaceContext namespaceContext = getNamespaceContextBuilder(context)
                 .buildContext(receivedMessage, validationContext.getNamespaces());
 
@@ -21,8 +21,6 @@ import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.message.Message;
-import org.citrusframework.spi.Resource;
-import org.citrusframework.spi.Resources;
 import org.citrusframework.util.IsXmlPredicate;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.util.SystemProvider;
@@ -30,26 +28,19 @@ import org.citrusframework.util.XMLUtils;
 import org.citrusframework.validation.SchemaValidator;
 import org.citrusframework.validation.xml.XmlMessageValidationContext;
 import org.citrusframework.xml.XsdSchemaRepository;
-import org.citrusframework.xml.schema.AbstractSchemaCollection;
-import org.citrusframework.xml.schema.WsdlXsdSchema;
-import org.citrusframework.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXParseException;
 
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static org.citrusframework.validation.xml.schema.ValidationStrategy.FAIL;
@@ -62,8 +53,8 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(XmlSchemaValidation.class);
 
-    /** Transformer factory */
-    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** Validators of single schema instances, created once per schema */
+    private final Map<XsdSchema, XmlValidator> schemaValidators = new ConcurrentHashMap<>();
 
     /** fail if no schema found property */
     private final ValidationStrategy noSchemaFoundStrategy;
@@ -101,7 +92,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(message);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -113,7 +104,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
             XsdSchemaRepository schemaRepository = null;
             List<XsdSchemaRepository> schemaRepositories = XmlValidationHelper.getSchemaRepositories(context);
             if (validationContext.getSchema() != null) {
-                validator = context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = schemaValidators.computeIfAbsent(context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class), XsdSchema::createValidator);
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = context.getReferenceResolver().resolve(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -137,30 +128,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
                     }
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection xsdSchemaCollection) {
-                        schemas.addAll(xsdSchemaCollection.getSchemaResources());
-                    } else if (xsdSchema instanceof WsdlXsdSchema wsdlXsdSchema) {
-                        schemas.addAll(wsdlXsdSchema.getSchemaResources());
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(Resources.create(bos.toByteArray()));
-                        }
-                    }
-                }
-
-                validator = XmlValidatorFactory.createValidator(schemas
-                        .stream()
-                        .map(AbstractSchemaCollection::toSpringResource)
-                        .toList()
-                        .toArray(new org.springframework.core.io.Resource[]{}), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = schemaRepository.getValidator();
             }
 
             SAXParseException[] results = validator.validate(new DOMSource(doc));
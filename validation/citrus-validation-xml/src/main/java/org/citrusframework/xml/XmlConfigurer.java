@@ -18,6 +18,9 @@ package org.citrusframework.xml;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.common.InitializingPhase;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -61,6 +64,18 @@ public class XmlConfigurer implements InitializingPhase {
     public static final String RESOURCE_RESOLVER = "resource-resolver";
     public static final String XML_DECLARATION = "xml-declaration";
 
+    /** Max number of idle parser and serializer instances kept in the pools */
+    private static final int MAX_IDLE = 32;
+
+    /** Reuse configured parser and serializer instances */
+    private boolean pooling = XmlSettings.isParserPoolingEnabled();
+
+    /** Idle parser and serializer instances */
+    private final Queue<LSParser> parserPool = new ConcurrentLinkedQueue<>();
+    private final Queue<LSSerializer> serializerPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleParsers = new AtomicInteger();
+    private final AtomicInteger idleSerializers = new AtomicInteger();
+
     public XmlConfigurer() {
         try {
             registry = DOMImplementationRegistry.newInstance();
@@ -97,6 +112,40 @@ public class XmlConfigurer implements InitializingPhase {
         return parser;
     }
 
+    /**
+     * Gets configured LSParser instance. When pooling is enabled the parser is taken from the pool of idle parser
+     * instances. Callers must hand back the parser with {@link #releaseLSParser(LSParser)} once parsing is done and
+     * must not use the parser afterwards.
+     * @return
+     */
+    public LSParser borrowLSParser() {
+        LSParser parser = pooling ? parserPool.poll() : null;
+        if (parser != null) {
+            idleParsers.decrementAndGet();
+            return parser;
+        }
+
+        return createLSParser();
+    }
+
+    /**
+     * Hands back parser that has been borrowed before. Parser configuration is restored to this configurers settings
+     * so callers may change configuration parameters on borrowed parsers.
+     * @param parser
+     */
+    public void releaseLSParser(LSParser parser) {
+        if (!pooling || parser.getBusy()) {
+            return;
+        }
+
+        if (idleParsers.incrementAndGet() <= MAX_IDLE) {
+            configureParser(parser);
+            parserPool.offer(parser);
+        } else {
+            idleParsers.decrementAndGet();
+        }
+    }
+
     /**
      * Set parser configuration based on this configurers settings.
      * @param parser
@@ -119,6 +168,38 @@ public class XmlConfigurer implements InitializingPhase {
         return serializer;
     }
 
+    /**
+     * Gets configured LSSerializer instance. When pooling is enabled the serializer is taken from the pool of idle
+     * serializer instances. Callers must hand back the serializer with {@link #releaseLSSerializer(LSSerializer)}.
+     * @return
+     */
+    public LSSerializer borrowLSSerializer() {
+        LSSerializer serializer = pooling ? serializerPool.poll() : null;
+        if (serializer != null) {
+            idleSerializers.decrementAndGet();
+            return serializer;
+        }
+
+        return createLSSerializer();
+    }
+
+    /**
+     * Hands back serializer that has been borrowed before. Serializer configuration is restored to this configurers settings.
+     * @param serializer
+     */
+    public void releaseLSSerializer(LSSerializer serializer) {
+        if (!pooling) {
+            return;
+        }
+
+        if (idleSerializers.incrementAndGet() <= MAX_IDLE) {
+            configureSerializer(serializer);
+            serializerPool.offer(serializer);
+        } else {
+            idleSerializers.decrementAndGet();
+        }
+    }
+
     /**
      * Set serializer configuration based on this configurers settings.
      * @param serializer
@@ -243,6 +324,7 @@ public class XmlConfigurer implements InitializingPhase {
      */
     public void setParseSettings(Map<String, Object> parseSettings) {
         this.parseSettings = parseSettings;
+        clearPools();
     }
 
     /**
@@ -252,6 +334,36 @@ public class XmlConfigurer implements InitializingPhase {
      */
     public void setSerializeSettings(Map<String, Object> serializeSettings) {
         this.serializeSettings = serializeSettings;
+        clearPools();
+    }
+
+    /**
+     * Enables or disables reuse of parser and serializer instances.
+     *
+     * @param pooling
+     */
+    public void setPooling(boolean pooling) {
+        this.pooling = pooling;
+        clearPools();
+    }
+
+    /**
+     * Gets the pooling property.
+     *
+     * @return
+     */
+    public boolean isPooling() {
+        return pooling;
+    }
+
+    /**
+     * Removes all idle parser and serializer instances.
+     */
+    private void clearPools() {
+        parserPool.clear();
+        serializerPool.clear();
+        idleParsers.set(0);
+        idleSerializers.set(0);
     }
 
     @Override
@@ -259,6 +371,9 @@ public class XmlConfigurer implements InitializingPhase {
         setDefaultParseSettings();
         setDefaultSerializeSettings();
 
+        // idle instances may have been configured with outdated settings
+        clearPools();
+
         XMLUtils.initialize(this);
     }
 }
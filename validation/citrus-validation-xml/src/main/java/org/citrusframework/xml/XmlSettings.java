@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.xml;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * XML related settings read from system properties or environment variables.
+ *
+ * @since 4.2
+ */
+public final class XmlSettings {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlSettings.class);
+
+    /** System property and environment variable enabling reuse of parser and serializer instances */
+    public static final String PARSER_POOLING_ENABLED_PROPERTY = "citrus.xml.parser.pooling.enabled";
+    public static final String PARSER_POOLING_ENABLED_ENV = "CITRUS_XML_PARSER_POOLING_ENABLED";
+    public static final String PARSER_POOLING_ENABLED_DEFAULT = "false";
+
+    /** Min length of received XML text that gets validated in streaming mode, negative value disables streaming mode */
+    public static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_PROPERTY = "citrus.xml.message.validation.streaming.threshold";
+    public static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV = "CITRUS_XML_MESSAGE_VALIDATION_STREAMING_THRESHOLD";
+    public static final String MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT = "-1";
+
+    /**
+     * Private constructor prevent instantiation of utility class
+     */
+    private XmlSettings() {
+        // prevent instantiation
+    }
+
+    /**
+     * Is reuse of parser and serializer instances enabled.
+     * @return
+     */
+    public static boolean isParserPoolingEnabled() {
+        return Boolean.parseBoolean(
+                System.getProperty(PARSER_POOLING_ENABLED_PROPERTY, System.getenv(PARSER_POOLING_ENABLED_ENV) != null ?
+                        System.getenv(PARSER_POOLING_ENABLED_ENV) : PARSER_POOLING_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Gets the min length of received XML text that gets validated in streaming mode. Negative value disables streaming mode.
+     * Invalid values are logged and streaming mode is disabled.
+     * @return
+     */
+    public static int getStreamingValidationThreshold() {
+        String value = System.getProperty(MESSAGE_VALIDATION_STREAMING_THRESHOLD_PROPERTY, System.getenv(MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV) != null ?
+                System.getenv(MESSAGE_VALIDATION_STREAMING_THRESHOLD_ENV) : MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT);
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn(String.format("Invalid streaming validation threshold '%s' - using default value %s",
+                    value, MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT));
+            return Integer.parseInt(MESSAGE_VALIDATION_STREAMING_THRESHOLD_DEFAULT);
+        }
+    }
+}
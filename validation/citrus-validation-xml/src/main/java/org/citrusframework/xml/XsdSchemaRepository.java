@@ -16,12 +16,21 @@
 
 package org.citrusframework.xml;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
 
 import org.citrusframework.common.InitializingPhase;
 import org.citrusframework.common.Named;
@@ -31,12 +40,17 @@ import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.StringUtils;
+import org.citrusframework.xml.schema.AbstractSchemaCollection;
+import org.citrusframework.xml.schema.AbstractSchemaMappingStrategy;
+import org.citrusframework.xml.schema.PooledXmlValidator;
 import org.citrusframework.xml.schema.TargetNamespaceSchemaMappingStrategy;
 import org.citrusframework.xml.schema.WsdlXsdSchema;
+import org.citrusframework.xml.schema.XsdSchemaCollection;
 import org.citrusframework.xml.schema.XsdSchemaMappingStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
@@ -64,14 +78,96 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(XsdSchemaRepository.class);
 
+    /** Schema lookup results by root element QName */
+    private final Map<QName, Optional<XsdSchema>> schemaLookup = new ConcurrentHashMap<>();
+
+    /** Validator using the compiled schemas of this repository */
+    private XmlValidator validator;
+
+    /** Schemas that cached lookup results and the validator were created for */
+    private List<XsdSchema> cachedSchemas = Collections.emptyList();
+
+    /** Transformer factory */
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
     /**
      * Find the matching schema for document using given schema mapping strategy.
      * @param doc the document instance to validate.
      * @return boolean flag marking matching schema instance found
      */
     public boolean canValidate(Document doc) {
-        XsdSchema schema = schemaMappingStrategy.getSchema(schemas, doc);
-        return schema != null;
+        return findSchema(doc) != null;
+    }
+
+    /**
+     * Find the matching schema for document using given schema mapping strategy. Mapping strategies
+     * that map schemas by root element namespace and name are evaluated once per root element QName.
+     * @param doc the document instance to validate.
+     * @return matching schema or null if no schema matches
+     */
+    public XsdSchema findSchema(Document doc) {
+        if (!(schemaMappingStrategy instanceof AbstractSchemaMappingStrategy)) {
+            return schemaMappingStrategy.getSchema(schemas, doc);
+        }
+
+        refreshCache();
+
+        QName rootQName = new QName(Optional.ofNullable(doc.getFirstChild().getNamespaceURI()).orElse(""),
+                Optional.ofNullable(doc.getFirstChild().getLocalName()).orElse(""));
+        Optional<XsdSchema> schema = schemaLookup.get(rootQName);
+        if (schema == null) {
+            schema = Optional.ofNullable(schemaMappingStrategy.getSchema(schemas, doc));
+            schemaLookup.put(rootQName, schema);
+        }
+
+        return schema.orElse(null);
+    }
+
+    /**
+     * Gets validator for all schemas in this repository. Schemas are compiled once and the compiled
+     * schema is reused as long as the list of schemas in this repository does not change.
+     * @return
+     */
+    public synchronized XmlValidator getValidator() {
+        refreshCache();
+
+        if (validator == null) {
+            List<org.springframework.core.io.Resource> resources = new ArrayList<>();
+            for (XsdSchema xsdSchema : schemas) {
+                if (xsdSchema instanceof XsdSchemaCollection xsdSchemaCollection) {
+                    xsdSchemaCollection.getSchemaResources().stream().map(AbstractSchemaCollection::toSpringResource).forEach(resources::add);
+                } else if (xsdSchema instanceof WsdlXsdSchema wsdlXsdSchema) {
+                    wsdlXsdSchema.getSchemaResources().stream().map(AbstractSchemaCollection::toSpringResource).forEach(resources::add);
+                } else {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    resources.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+
+            try {
+                validator = PooledXmlValidator.create(resources.toArray(new org.springframework.core.io.Resource[]{}));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to compile schemas of repository " + name, e);
+            }
+        }
+
+        return validator;
+    }
+
+    /**
+     * Clears cached lookup results and the compiled validator in case the list of schemas has changed.
+     */
+    private synchronized void refreshCache() {
+        if (!cachedSchemas.equals(schemas)) {
+            schemaLookup.clear();
+            validator = null;
+            cachedSchemas = new ArrayList<>(schemas);
+        }
     }
 
     @Override
@@ -177,6 +273,7 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
      */
     public void setSchemaMappingStrategy(XsdSchemaMappingStrategy schemaMappingStrategy) {
         this.schemaMappingStrategy = schemaMappingStrategy;
+        this.schemaLookup.clear();
     }
 
     /**
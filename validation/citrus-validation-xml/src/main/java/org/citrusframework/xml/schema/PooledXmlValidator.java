@@ -0,0 +1,205 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml.schema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.SchemaLoaderUtils;
+import org.springframework.xml.validation.ValidationErrorHandler;
+import org.springframework.xml.validation.XmlValidationException;
+import org.springframework.xml.validation.XmlValidator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Xml validator working on a compiled schema that is created only once. Validator instances created from the schema
+ * are not thread safe so each validation borrows a validator from a pool and returns it once the validation is done.
+ *
+ * @since 4.2
+ */
+public class PooledXmlValidator implements XmlValidator {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(PooledXmlValidator.class);
+
+    /** Default max number of idle validators kept in the pool */
+    public static final int DEFAULT_MAX_IDLE = 16;
+
+    /** Compiled schema */
+    private final Schema schema;
+
+    /** Idle validator instances */
+    private final Queue<Validator> validators = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /** Max number of idle validators */
+    private final int maxIdle;
+
+    /**
+     * Constructor using compiled schema.
+     * @param schema
+     */
+    public PooledXmlValidator(Schema schema) {
+        this(schema, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Constructor using compiled schema and max number of idle validators.
+     * @param schema
+     * @param maxIdle
+     */
+    public PooledXmlValidator(Schema schema, int maxIdle) {
+        this.schema = schema;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Compiles given W3C XML schema resources to a single schema and creates the pooled validator.
+     * @param resources
+     * @return
+     * @throws IOException
+     */
+    public static PooledXmlValidator create(Resource... resources) throws IOException {
+        try {
+            return new PooledXmlValidator(SchemaLoaderUtils.loadSchema(resources, XMLConstants.W3C_XML_SCHEMA_NS_URI));
+        } catch (SAXException e) {
+            throw new XmlValidationException("Could not create Schema: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source) throws IOException {
+        return validate(source, null);
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source, ValidationErrorHandler errorHandler) throws IOException {
+        ValidationErrorHandler handler = errorHandler != null ? errorHandler : new CollectingErrorHandler();
+        Validator validator = borrowValidator();
+
+        try {
+            validator.setErrorHandler(handler);
+            validator.validate(source);
+        } catch (SAXException e) {
+            throw new XmlValidationException("Could not validate source: " + e.getMessage(), e);
+        }
+
+        // only validators that completed the validation are reused
+        returnValidator(validator);
+
+        return handler.getErrors();
+    }
+
+    private Validator borrowValidator() {
+        Validator validator = validators.poll();
+        if (validator != null) {
+            idleCount.decrementAndGet();
+            return validator;
+        }
+
+        validator = schema.newValidator();
+        secureValidator(validator);
+        return validator;
+    }
+
+    private void returnValidator(Validator validator) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            // reset error handler, resource resolver and any state left from last validation
+            validator.reset();
+            secureValidator(validator);
+            validators.offer(validator);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Disables access to external DTDs and schemas on given validator. Needs to be applied again after validator reset.
+     * @param validator
+     */
+    private static void secureValidator(Validator validator) {
+        setProperty(validator, XMLConstants.ACCESS_EXTERNAL_DTD);
+        setProperty(validator, XMLConstants.ACCESS_EXTERNAL_SCHEMA);
+    }
+
+    /**
+     * Disables access to external resources on given validator when supported.
+     */
+    private static void setProperty(Validator validator, String property) {
+        try {
+            validator.setProperty(property, "");
+        } catch (SAXNotRecognizedException | SAXNotSupportedException e) {
+            logger.debug(String.format("Validator %s does not support property '%s'", validator.getClass().getName(), property));
+        }
+    }
+
+    /**
+     * Gets the number of idle validators in the pool.
+     * @return
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Gets the compiled schema.
+     * @return
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Error handler collecting errors and fatal errors. Warnings are ignored.
+     */
+    private static class CollectingErrorHandler implements ValidationErrorHandler {
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        @Override
+        public SAXParseException[] getErrors() {
+            return errors.toArray(new SAXParseException[0]);
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            errors.add(exception);
+        }
+    }
+}
@@ -21,7 +21,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.XPath;
@@ -33,6 +38,7 @@ import javax.xml.xpath.XPathFactoryConfigurationException;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.util.StringUtils;
+import org.citrusframework.xml.namespace.DefaultNamespaceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
@@ -58,6 +64,22 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Max number of distinct expressions held in the compiled expression cache */
+    private static final int EXPRESSION_CACHE_SIZE = 1000;
+
+    /** XPath factory resolved once, access must be synchronized as factory is not thread safe */
+    private static final XPathFactory XPATH_FACTORY = createXPathFactory();
+
+    /** Per thread XPath instances used to compile expressions */
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(XPathUtils::newXPath);
+
+    /** Compiled expressions by expression text and namespace context, each expression is used by one thread at a time */
+    private static final Map<ExpressionKey, Queue<XPathExpression>> EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+    /** Compiled expression cache statistics */
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+
     /**
      * Prevent instantiation.
      */
@@ -277,7 +299,8 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
+        XPath xpath = XPATH.get();
+        xpath.reset();
 
         if (nsContext != null) {
             xpath.setNamespaceContext(nsContext);
@@ -286,6 +309,67 @@ public abstract class XPathUtils {
         return xpath.compile(xPathExpression);
     }
 
+    /**
+     * Gets compiled expression from cache or compiles the expression in case there is no
+     * cached expression available. Compiled expressions are not thread safe so callers must
+     * return the expression to the cache once the evaluation is done.
+     * @param key
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private static XPathExpression borrowExpression(ExpressionKey key, NamespaceContext nsContext)
+            throws XPathExpressionException {
+        Queue<XPathExpression> cached = EXPRESSION_CACHE.get(key);
+        XPathExpression expression = cached != null ? cached.poll() : null;
+
+        if (expression != null) {
+            cacheHits.increment();
+            return expression;
+        }
+
+        cacheMisses.increment();
+        return buildExpression(key.expression, nsContext);
+    }
+
+    /**
+     * Adds compiled expression to the cache so other evaluations can reuse it.
+     * @param key
+     * @param expression
+     */
+    private static void returnExpression(ExpressionKey key, XPathExpression expression) {
+        if (EXPRESSION_CACHE.size() >= EXPRESSION_CACHE_SIZE && !EXPRESSION_CACHE.containsKey(key)) {
+            EXPRESSION_CACHE.clear();
+        }
+
+        EXPRESSION_CACHE.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).offer(expression);
+    }
+
+    /**
+     * Gets the number of evaluations that used a cached compiled expression.
+     * @return
+     */
+    public static long getExpressionCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Gets the number of evaluations that had to compile the expression.
+     * @return
+     */
+    public static long getExpressionCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Removes all compiled expressions from the cache and resets the statistics.
+     */
+    public static void clearExpressionCache() {
+        EXPRESSION_CACHE.clear();
+        cacheHits.reset();
+        cacheMisses.reset();
+    }
+
     /**
      * Method to find out whether an expression is of XPath nature or custom dot notation syntax.
      * @param expression the expression string to check.
@@ -305,18 +389,32 @@ public abstract class XPathUtils {
      * @return the result.
      */
     public static Object evaluateExpression(Node node, String xPathExpression, NamespaceContext nsContext, QName returnType) {
+        ExpressionKey key = new ExpressionKey(xPathExpression, nsContext);
         try {
-            return buildExpression(xPathExpression, nsContext).evaluate(node, returnType);
+            XPathExpression expression = borrowExpression(key, nsContext);
+            Object result = expression.evaluate(node, returnType);
+            returnExpression(key, expression);
+            return result;
         } catch (XPathExpressionException e) {
             throw new CitrusRuntimeException("Can not evaluate xpath expression '" + xPathExpression + "'", e);
         }
     }
 
+    /**
+     * Creates new XPath instance using the shared factory.
+     * @return
+     */
+    private static XPath newXPath() {
+        synchronized (XPATH_FACTORY) {
+            return XPATH_FACTORY.newXPath();
+        }
+    }
+
     /**
      * Creates new xpath factory which is not thread safe per definition.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    private static XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -349,4 +447,43 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Cache key of compiled expressions. Namespace contexts are usually built for each message so the
+     * key uses the namespace mappings of default namespace contexts. Other context implementations
+     * are compared by identity.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Object namespaces;
+        private final int hash;
+
+        ExpressionKey(String expression, NamespaceContext nsContext) {
+            this.expression = expression;
+
+            if (nsContext instanceof DefaultNamespaceContext) {
+                this.namespaces = new HashMap<>(((DefaultNamespaceContext) nsContext).getNamespaces());
+            } else {
+                this.namespaces = nsContext;
+            }
+
+            this.hash = Objects.hash(expression, namespaces);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
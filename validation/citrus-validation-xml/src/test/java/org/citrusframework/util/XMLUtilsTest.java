@@ -17,6 +17,9 @@
 package org.citrusframework.util;
 
 
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.ParsedPayloadCache;
 import org.citrusframework.xml.namespace.NamespaceContextBuilder;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -391,4 +394,21 @@ public class XMLUtilsTest {
         Assert.assertEquals(XMLUtils.omitXmlDeclaration(""), "");
         Assert.assertEquals(XMLUtils.omitXmlDeclaration("Test"), "Test");
     }
+
+    @Test
+    public void testParseMessagePayloadCached() {
+        Message message = new DefaultMessage("<testRequest><Message>Hello</Message></testRequest>");
+
+        try (ParsedPayloadCache ignored = ParsedPayloadCache.open()) {
+            Document doc = XMLUtils.parseMessagePayload(message);
+            Assert.assertEquals(doc.getFirstChild().getLocalName(), "testRequest");
+            Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+
+            message.setPayload("<testResponse/>");
+            Assert.assertEquals(XMLUtils.parseMessagePayload(message).getFirstChild().getLocalName(), "testResponse");
+        }
+
+        // documents are not cached outside of cache scope
+        Assert.assertNotSame(XMLUtils.parseMessagePayload(message), XMLUtils.parseMessagePayload(message));
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.xml;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.citrusframework.UnitTestSupport;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.xml.namespace.NamespaceContextBuilder;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class XmlStreamingValidatorTest extends UnitTestSupport {
+
+    @DataProvider
+    public Object[][] validationData() {
+        return new Object[][] {
+            { "<root><a>1</a><b attr=\"x\">2</b></root>", "<root><a>1</a><b attr=\"x\">2</b></root>", Collections.emptySet() },
+            { "<root>\n  <a>1</a>\n  <!-- comment -->\n  <b>2</b>\n</root>", "<root><a>1</a><b>2</b></root>", Collections.emptySet() },
+            { "<root><a>1</a></root>", "<root><c>1</c></root>", Collections.emptySet() },
+            { "<root><a>1</a></root>", "<root><a>2</a></root>", Collections.emptySet() },
+            { "<root><a>1</a><a>2</a></root>", "<root><a>1</a></root>", Collections.emptySet() },
+            { "<root><a>1</a></root>", "<root><a>1</a><a>2</a></root>", Collections.emptySet() },
+            { "<root><a x=\"1\">1</a></root>", "<root><a x=\"2\">1</a></root>", Collections.emptySet() },
+            { "<root><a x=\"1\">1</a></root>", "<root><a>1</a></root>", Collections.emptySet() },
+            { "<root><a x=\"1\">1</a></root>", "<root><a y=\"1\">1</a></root>", Collections.emptySet() },
+            { "<root><a x=\"1\">1</a></root>", "<root><a x=\"@ignore@\">1</a></root>", Collections.emptySet() },
+            { "<root><a x=\"1\">1</a></root>", "<root><a x=\"2\">1</a></root>", Set.of("root.a.x") },
+            { "<root><a><b>1</b></a></root>", "<root><a>@ignore@</a></root>", Collections.emptySet() },
+            { "<root><a><b>1</b></a></root>", "<root><a><c/></a></root>", Set.of("root.a") },
+            { "<root><a><b>1</b></a></root>", "<root><a><c/></a></root>", Set.of("/root/a") },
+            { "<root><a>foo</a></root>", "<root><a>@startsWith('fo')@</a></root>", Collections.emptySet() },
+            { "<root><a>bar</a></root>", "<root><a>@startsWith('fo')@</a></root>", Collections.emptySet() },
+            { "<ns:root xmlns:ns=\"urn:a\"><ns:a>1</ns:a></ns:root>", "<ns1:root xmlns:ns1=\"urn:a\"><ns1:a>1</ns1:a></ns1:root>", Collections.emptySet() },
+            { "<ns:root xmlns:ns=\"urn:a\"><ns:a>1</ns:a></ns:root>", "<ns:root xmlns:ns=\"urn:b\"><ns:a>1</ns:a></ns:root>", Collections.emptySet() },
+            { "<ns:root xmlns:ns=\"urn:a\"><ns:a>1</ns:a></ns:root>", "<ns:root xmlns:ns=\"urn:a\"><ns:a>2</ns:a></ns:root>", Set.of("/ns:root/ns:a") },
+            { "<root xmlns:x=\"urn:a\"><a type=\"x:foo\"/></root>", "<root xmlns:y=\"urn:a\"><a type=\"y:foo\"/></root>", Collections.emptySet() },
+            { "<root xmlns:x=\"urn:a\"><a type=\"x:foo\"/></root>", "<root xmlns:y=\"urn:b\"><a type=\"y:foo\"/></root>", Collections.emptySet() },
+            { "<root><a>text<b>1</b></a></root>", "<root><a>other<b>1</b></a></root>", Collections.emptySet() },
+            { "<root><a><![CDATA[1 < 2]]></a></root>", "<root><a>1 &lt; 2</a></root>", Collections.emptySet() }
+        };
+    }
+
+    @Test(dataProvider = "validationData")
+    public void testValidationParity(String received, String control, Set<String> ignoreExpressions) {
+        Message receivedMessage = new DefaultMessage(received);
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .ignore(ignoreExpressions)
+                .build();
+
+        String expected = null;
+        try {
+            DomXmlMessageValidator validator = new DomXmlMessageValidator();
+            validator.setStreamingThreshold(-1);
+            validator.validateMessage(receivedMessage, new DefaultMessage(control), context, validationContext);
+        } catch (ValidationException e) {
+            expected = e.getMessage();
+        }
+
+        XmlStreamingValidator streamingValidator = new XmlStreamingValidator(ignoreExpressions,
+                new NamespaceContextBuilder().buildContext(receivedMessage, Collections.emptyMap()), context);
+
+        String actual = null;
+        try {
+            Assert.assertTrue(streamingValidator.validate(received, control));
+        } catch (ValidationException e) {
+            actual = e.getMessage();
+        }
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testUnsupportedIgnoreExpressions() {
+        Assert.assertTrue(XmlStreamingValidator.supports(Set.of("root.a", "/ns:root/a")));
+        Assert.assertFalse(XmlStreamingValidator.supports(Set.of("//a")));
+        Assert.assertFalse(XmlStreamingValidator.supports(Set.of("/root/a[1]")));
+        Assert.assertFalse(XmlStreamingValidator.supports(Set.of("/root/a/@x")));
+    }
+
+    @Test
+    public void testFallback() {
+        Assert.assertFalse(new XmlStreamingValidator(Collections.emptySet(), null, context)
+                .validate("<!DOCTYPE root SYSTEM \"root.dtd\"><root/>", "<!DOCTYPE root SYSTEM \"root.dtd\"><root/>"));
+        Assert.assertFalse(new XmlStreamingValidator(Collections.emptySet(), null, context)
+                .validate("<root><a></root>", "<root/>"));
+        Assert.assertFalse(new XmlStreamingValidator(Set.of("a"), null, context)
+                .validate("<root><a/></root>", "<root><a/></root>"));
+        Assert.assertFalse(new XmlStreamingValidator(Set.of("/ns:root"), null, context)
+                .validate("<root/>", "<root/>"));
+    }
+
+    @Test
+    public void testStreamingValidationThreshold() {
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        validator.setStreamingThreshold(0);
+
+        validator.validateMessage(new DefaultMessage("<root><a x=\"1\">foo</a></root>"),
+                new DefaultMessage("<root><a x=\"@ignore@\">@startsWith('fo')@</a></root>"), context, new XmlMessageValidationContext());
+
+        try {
+            validator.validateMessage(new DefaultMessage("<root><a>foo</a></root>"),
+                    new DefaultMessage("<root><a>bar</a></root>"), context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Node value not equal for element 'a'"));
+        }
+
+        // DOM tree validation for ignore expressions that are not supported in streaming mode
+        validator.validateMessage(new DefaultMessage("<root><a>foo</a></root>"),
+                new DefaultMessage("<root><a>bar</a></root>"), context,
+                new XmlMessageValidationContext.Builder().ignore("//a").build());
+    }
+}
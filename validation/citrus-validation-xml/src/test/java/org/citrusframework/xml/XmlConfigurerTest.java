@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.ls.LSParser;
+import org.w3c.dom.ls.LSSerializer;
+
+public class XmlConfigurerTest {
+
+    @Test
+    public void testParserPooling() {
+        XmlConfigurer configurer = new XmlConfigurer();
+        configurer.setPooling(true);
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.setParserConfigParameter(parser, XmlConfigurer.VALIDATE_IF_SCHEMA, false);
+        configurer.releaseLSParser(parser);
+
+        LSParser reused = configurer.borrowLSParser();
+        Assert.assertSame(reused, parser);
+        Assert.assertEquals(reused.getDomConfig().getParameter(XmlConfigurer.VALIDATE_IF_SCHEMA), true);
+        Assert.assertNotSame(configurer.borrowLSParser(), parser);
+
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        configurer.releaseLSSerializer(serializer);
+        Assert.assertSame(configurer.borrowLSSerializer(), serializer);
+    }
+
+    @Test
+    public void testClearPoolsOnInitialize() {
+        XmlConfigurer configurer = new XmlConfigurer();
+        configurer.setPooling(true);
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.releaseLSParser(parser);
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        configurer.releaseLSSerializer(serializer);
+
+        try {
+            configurer.initialize();
+            Assert.assertNotSame(configurer.borrowLSParser(), parser);
+            Assert.assertNotSame(configurer.borrowLSSerializer(), serializer);
+        } finally {
+            // restore default configurer used in XML utilities
+            new XmlConfigurer().initialize();
+        }
+    }
+
+    @Test
+    public void testClearPoolsOnSettingsChange() {
+        XmlConfigurer configurer = new XmlConfigurer();
+        configurer.setPooling(true);
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.releaseLSParser(parser);
+
+        Map<String, Object> parseSettings = new HashMap<>();
+        parseSettings.put(XmlConfigurer.VALIDATE_IF_SCHEMA, false);
+        configurer.setParseSettings(parseSettings);
+
+        LSParser configured = configurer.borrowLSParser();
+        Assert.assertNotSame(configured, parser);
+        Assert.assertEquals(configured.getDomConfig().getParameter(XmlConfigurer.VALIDATE_IF_SCHEMA), false);
+    }
+
+    @Test
+    public void testPoolingDisabled() {
+        XmlConfigurer configurer = new XmlConfigurer();
+        configurer.setPooling(false);
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.releaseLSParser(parser);
+        Assert.assertNotSame(configurer.borrowLSParser(), parser);
+
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        configurer.releaseLSSerializer(serializer);
+        Assert.assertNotSame(configurer.borrowLSSerializer(), serializer);
+    }
+}
@@ -16,9 +16,15 @@
 
 package org.citrusframework.xml;
 
+import javax.xml.transform.dom.DOMSource;
+
+import org.citrusframework.util.XMLUtils;
+import org.citrusframework.xml.schema.PooledXmlValidator;
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
 
 import org.citrusframework.xml.schema.WsdlXsdSchema;
 
@@ -136,4 +142,31 @@ public class XsdSchemaRepositoryTest {
         Assert.assertEquals(schemaRepository.getSchemas().size(), 1);
         Assert.assertEquals(schemaRepository.getSchemas().get(0).getClass(), SimpleXsdSchema.class);
     }
+
+    @Test
+    public void testCompiledSchemaValidator() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        schemaRepository.getLocations().add("classpath:schemas/HelloService.xsd");
+        schemaRepository.initialize();
+
+        Document valid = XMLUtils.parseMessagePayload("<HelloRequest xmlns=\"http://citrusframework.org/schemas/samples/HelloService.xsd\">" +
+                "<MessageId>1</MessageId><CorrelationId>2</CorrelationId><User>foo</User><Text>Hello</Text></HelloRequest>");
+        Document invalid = XMLUtils.parseMessagePayload("<HelloRequest xmlns=\"http://citrusframework.org/schemas/samples/HelloService.xsd\">" +
+                "<Unknown>1</Unknown></HelloRequest>");
+        Document unknown = XMLUtils.parseMessagePayload("<Unknown xmlns=\"http://citrusframework.org/unknown\"/>");
+
+        Assert.assertTrue(schemaRepository.canValidate(valid));
+        Assert.assertSame(schemaRepository.findSchema(valid), schemaRepository.getSchemas().get(0));
+        Assert.assertNull(schemaRepository.findSchema(unknown));
+
+        XmlValidator validator = schemaRepository.getValidator();
+        Assert.assertSame(schemaRepository.getValidator(), validator);
+        Assert.assertEquals(validator.validate(new DOMSource(valid)).length, 0);
+        Assert.assertTrue(validator.validate(new DOMSource(invalid)).length > 0);
+        Assert.assertEquals(validator.validate(new DOMSource(valid)).length, 0);
+        Assert.assertEquals(((PooledXmlValidator) validator).getIdleCount(), 1);
+
+        schemaRepository.getSchemas().clear();
+        Assert.assertNull(schemaRepository.findSchema(valid));
+    }
 }
@@ -98,6 +98,30 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testCompiledExpressionCache() {
+        Document doc = XMLUtils.parseMessagePayload("<ns1:person xmlns:ns1=\"http://citrusframework.org/person\"><ns1:name>foo</ns1:name></ns1:person>");
+
+        DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+        namespaceContext.addNamespace("ns1", "http://citrusframework.org/person");
+
+        XPathUtils.clearExpressionCache();
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/ns1:person/ns1:name", namespaceContext), "foo");
+        Assert.assertEquals(XPathUtils.getExpressionCacheMisses(), 1L);
+        Assert.assertEquals(XPathUtils.getExpressionCacheHits(), 0L);
+
+        DefaultNamespaceContext sameNamespaces = new DefaultNamespaceContext();
+        sameNamespaces.addNamespace("ns1", "http://citrusframework.org/person");
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/ns1:person/ns1:name", sameNamespaces), "foo");
+        Assert.assertEquals(XPathUtils.getExpressionCacheMisses(), 1L);
+        Assert.assertEquals(XPathUtils.getExpressionCacheHits(), 1L);
+
+        DefaultNamespaceContext otherNamespaces = new DefaultNamespaceContext();
+        otherNamespaces.addNamespace("ns1", "http://citrusframework.org/other");
+        Assert.assertEquals(XPathUtils.evaluateAsNodeList(doc, "/ns1:person/ns1:name", otherNamespaces).getLength(), 0);
+        Assert.assertEquals(XPathUtils.getExpressionCacheMisses(), 2L);
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
         System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");